@@ -0,0 +1,12 @@
+package com.shop.shopmasterclone.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되는 작업(재고 원장 대사 등)을 위해 스프링 스케줄링을 활성화하는 설정 클래스입니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -51,7 +51,7 @@ public class SecurityConfig {
                         .logoutSuccessUrl("/"));
 
         http.authorizeHttpRequests(request -> request
-                .requestMatchers("/", "members/**", "/item/**", "/images/**").permitAll()
+                .requestMatchers("/", "members/**", "/item/**", "/images/**", "/api/items/**").permitAll()
                 .requestMatchers("/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated());
 
@@ -14,6 +14,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -51,6 +53,7 @@ public class ItemController {
         Pageable pageable = PageRequest.of(page.orElse(0), 3);
         Page<Item> items = itemService.getAdminItemPage(itemSearchDto, pageable);
         model.addAttribute("items", items);
+        model.addAttribute("facets", itemService.getAdminItemFacets(itemSearchDto));
         model.addAttribute("itemSearchDto", itemSearchDto);
         model.addAttribute("maxPage", 5);
         return "item/itemMng";
@@ -136,6 +139,27 @@ public class ItemController {
         return "redirect:/";
     }
 
+    /**
+     * 인기 상품의 재고 샤드 개수를 변경합니다. 주문이 몰리는 상품의 재고를 여러 행으로 나누어
+     * 재고 차감 시의 잠금 경합을 줄이는 데 사용되며, 샤드 개수로 0을 전달하면 샤딩이 해제됩니다.
+     *
+     * @param itemId 재고 샤딩을 변경할 상품의 ID
+     * @param shardCount 새 재고 샤드 개수
+     * @return 변경에 성공하면 상품 ID와 함께 OK 상태를, 실패하면 에러 메시지와 함께 BAD_REQUEST 상태를 반환합니다.
+     */
+    @PostMapping(value = "/admin/item/{itemId}/stock-shards")
+    public @ResponseBody ResponseEntity changeStockShardCount(
+            @PathVariable("itemId") Long itemId,
+            @RequestParam("shardCount") int shardCount
+    ){
+        try {
+            itemService.changeStockShardCount(itemId, shardCount);
+        } catch (EntityNotFoundException | IllegalArgumentException e){
+            return new ResponseEntity<String>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<Long>(itemId, HttpStatus.OK);
+    }
+
     /**
      * 상품 등록 폼 페이지로 이동하는 메서드입니다.
      * 이 메서드는 관리자가 새로운 상품을 등록하기 위한 폼을 제공합니다.
@@ -2,15 +2,22 @@ package com.shop.shopmasterclone.controller;
 
 import com.shop.shopmasterclone.dto.ItemSearchDto;
 import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.dto.MainItemSliceDto;
+import com.shop.shopmasterclone.service.ItemNameSuggester;
 import com.shop.shopmasterclone.service.ItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.util.List;
 import java.util.Optional;
 
 @Controller
@@ -18,6 +25,7 @@ import java.util.Optional;
 public class MainController {
 
     private final ItemService itemService;
+    private final ItemNameSuggester itemNameSuggester;
 
     /**
      * 메인 페이지를 위한 컨트롤러 메서드입니다. 이 메서드는 메인 페이지에 표시될 상품 목록을 조회하여 반환합니다.
@@ -41,9 +49,57 @@ public class MainController {
         Pageable pageable = PageRequest.of(page.isPresent() ? page.get() : 0, 6);
         Page<MainItemDto> items = itemService.getMainItemPage(itemSearchDto, pageable);
         model.addAttribute("items", items);
+        model.addAttribute("facets", itemService.getMainItemFacets(itemSearchDto));
         model.addAttribute("itemSearchDto", itemSearchDto);
         model.addAttribute("maxPage", 5);
         return "main";
     }
 
+    /**
+     * 메인 페이지 상품 목록을 커서 기반으로 조회하여 JSON으로 반환합니다. 무한 스크롤 화면에서 사용합니다.
+     * 전체 개수를 세지 않고 다음 페이지 커서를 반환하므로, 상품이 많아도 깊은 페이지를 빠르게 조회할 수 있습니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO. 검색어가 없는 경우 모든 상품이 조회됩니다.
+     * @param cursor 이전 응답의 nextCursor 값입니다. 첫 페이지를 조회할 때는 생략합니다.
+     * @param size 한 번에 조회할 상품의 수입니다. 1 이상 100 이하여야 하며, 기본값은 6입니다.
+     * @return 상품 목록과 다음 페이지 커서를 OK 상태로 반환하며, 커서나 크기가 올바르지 않으면 BAD_REQUEST 상태를 반환합니다.
+     */
+    @GetMapping(value = "/api/items")
+    public @ResponseBody ResponseEntity mainItemSlice(
+            ItemSearchDto itemSearchDto,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "6") int size
+    ){
+        if(size < 1 || size > 100){
+            return new ResponseEntity<String>("조회 크기는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        MainItemSliceDto mainItemSliceDto;
+        try {
+            mainItemSliceDto = itemService.getMainItemSlice(itemSearchDto, cursor, size);
+        } catch (IllegalArgumentException e){
+            return new ResponseEntity<String>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<MainItemSliceDto>(mainItemSliceDto, HttpStatus.OK);
+    }
+
+
+    /**
+     * 입력 중인 검색어로 시작하는 상품명을 인기순으로 조회하여 JSON으로 반환합니다. 검색창 자동 완성에서 사용합니다.
+     * 메모리의 자동 완성 색인({@link ItemNameSuggester})에서만 조회하며 데이터베이스를 조회하지 않습니다.
+     *
+     * @param q 입력 중인 검색어입니다.
+     * @param size 반환할 최대 상품명 수입니다. 1 이상 10 이하여야 하며, 기본값은 5입니다.
+     * @return 추천 상품명 목록을 OK 상태로 반환하며, 크기가 올바르지 않으면 BAD_REQUEST 상태를 반환합니다.
+     */
+    @GetMapping(value = "/api/items/suggest")
+    public @ResponseBody ResponseEntity suggestItemNames(
+            @RequestParam(value = "q", defaultValue = "") String q,
+            @RequestParam(value = "size", defaultValue = "5") int size
+    ){
+        if(size < 1 || size > 10){
+            return new ResponseEntity<String>("추천 개수는 1 이상 10 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<List<String>>(itemNameSuggester.suggest(q, size), HttpStatus.OK);
+    }
 }
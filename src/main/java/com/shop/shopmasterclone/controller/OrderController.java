@@ -1,7 +1,12 @@
 package com.shop.shopmasterclone.controller;
 
+import com.shop.shopmasterclone.dto.MultiOrderDto;
+import com.shop.shopmasterclone.dto.OrderDto;
 import com.shop.shopmasterclone.dto.OrderHistDto;
+import com.shop.shopmasterclone.dto.OrderHistSliceDto;
+import com.shop.shopmasterclone.service.OrderIntakeService;
 import com.shop.shopmasterclone.service.OrderService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -10,10 +15,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 주문과 관련된 웹 요청을 처리하는 컨트롤러입니다.
@@ -24,6 +34,73 @@ import java.util.Optional;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
+
+    /**
+     * 단일 상품 주문 요청을 처리합니다.
+     * 주문은 {@link OrderIntakeService}의 대기열을 거쳐 다른 주문과 함께 하나의 트랜잭션으로 커밋되며,
+     * 응답은 주문이 커밋되거나 실패한 뒤 비동기로 반환됩니다.
+     *
+     * @param orderDto 주문할 상품과 수량을 담은 DTO입니다.
+     * @param bindingResult 입력 데이터의 유효성 검사 결과입니다.
+     * @param principal 현재 인증된 사용자의 정보를 담고 있는 Principal 객체입니다.
+     * @return 주문이 성공하면 주문 ID와 함께 OK 상태를, 실패하면 에러 메시지와 함께 BAD_REQUEST 상태를 반환합니다.
+     */
+    @PostMapping(value = "/order")
+    public @ResponseBody CompletableFuture<ResponseEntity> order(
+            @RequestBody @Valid OrderDto orderDto,
+            BindingResult bindingResult,
+            Principal principal
+    ){
+        if(bindingResult.hasErrors()){
+            StringBuilder sb = new StringBuilder();
+            List<FieldError> fieldErrors = bindingResult.getFieldErrors();
+            for(FieldError fieldError : fieldErrors){
+                sb.append(fieldError.getDefaultMessage());
+            }
+            return CompletableFuture.completedFuture(new ResponseEntity<String>(sb.toString(), HttpStatus.BAD_REQUEST));
+        }
+
+        return orderIntakeService.submit(orderDto, principal.getName())
+                .<ResponseEntity>thenApply(orderId -> new ResponseEntity<Long>(orderId, HttpStatus.OK))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    return new ResponseEntity<String>(cause.getMessage(), HttpStatus.BAD_REQUEST);
+                });
+    }
+
+    /**
+     * 여러 상품을 하나의 주문으로 생성하는 요청을 처리합니다.
+     * 모든 주문 항목은 하나의 트랜잭션에서 처리되며, 하나라도 실패하면 주문 전체가 취소됩니다.
+     *
+     * @param multiOrderDto 주문할 상품과 수량의 목록을 담은 DTO입니다.
+     * @param bindingResult 입력 데이터의 유효성 검사 결과입니다.
+     * @param principal 현재 인증된 사용자의 정보를 담고 있는 Principal 객체입니다.
+     * @return 주문이 성공하면 주문 ID와 함께 OK 상태를, 실패하면 에러 메시지와 함께 BAD_REQUEST 상태를 반환합니다.
+     */
+    @PostMapping(value = "/orders")
+    public @ResponseBody ResponseEntity orders(
+            @RequestBody @Valid MultiOrderDto multiOrderDto,
+            BindingResult bindingResult,
+            Principal principal
+    ){
+        if(bindingResult.hasErrors()){
+            StringBuilder sb = new StringBuilder();
+            List<FieldError> fieldErrors = bindingResult.getFieldErrors();
+            for(FieldError fieldError : fieldErrors){
+                sb.append(fieldError.getDefaultMessage());
+            }
+            return new ResponseEntity<String>(sb.toString(), HttpStatus.BAD_REQUEST);
+        }
+
+        Long orderId;
+        try {
+            orderId = orderService.orders(multiOrderDto.getOrderDtoList(), principal.getName());
+        } catch (Exception e){
+            return new ResponseEntity<String>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<Long>(orderId, HttpStatus.OK);
+    }
 
     /**
      * 주문 취소 요청을 처리합니다.
@@ -32,7 +109,8 @@ public class OrderController {
      * @param orderId 취소할 주문의 식별자입니다.
      * @param principal 현재 인증된 사용자의 정보를 담고 있는 Principal 객체입니다.
      * @return 주문 취소가 성공적으로 완료되면 주문 ID와 함께 OK 상태를,
-     *         권한이 없는 경우 "주문 취소 권한이 없습니다." 메시지와 함께 FORBIDDEN 상태를 반환합니다.
+     *         권한이 없는 경우 "주문 취소 권한이 없습니다." 메시지와 함께 FORBIDDEN 상태를,
+     *         이미 취소된 주문인 경우 오류 메시지와 함께 BAD_REQUEST 상태를 반환합니다.
      */
     @PostMapping("/order/{orderId}/cancel")
     public @ResponseBody ResponseEntity cancelOrder(
@@ -43,7 +121,11 @@ public class OrderController {
             return new ResponseEntity<String>("주문 취소 권한이 없습니다.", HttpStatus.FORBIDDEN);
         }
 
-        orderService.cancelOrder(orderId);
+        try {
+            orderService.cancelOrder(orderId);
+        } catch (IllegalStateException e){
+            return new ResponseEntity<String>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
         return new ResponseEntity<Long>(orderId, HttpStatus.OK);
     }
 
@@ -69,4 +151,32 @@ public class OrderController {
         model.addAttribute("maxPage", 5);
         return "order/orderHist";
     }
+
+    /**
+     * 사용자의 주문 내역을 커서 기반으로 조회하여 JSON으로 반환합니다.
+     * 전체 개수를 세지 않고 다음 페이지 커서를 반환하므로, 주문이 많은 사용자도 깊은 페이지를 빠르게 조회할 수 있습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor 값입니다. 첫 페이지를 조회할 때는 생략합니다.
+     * @param size 한 번에 조회할 주문의 수입니다. 1 이상 100 이하여야 하며, 기본값은 10입니다.
+     * @param principal 현재 인증된 사용자의 정보를 담고 있는 Principal 객체입니다.
+     * @return 주문 내역과 다음 페이지 커서를 OK 상태로 반환하며, 커서나 크기가 올바르지 않으면 BAD_REQUEST 상태를 반환합니다.
+     */
+    @GetMapping(value = "/api/orders")
+    public @ResponseBody ResponseEntity orderHistSlice(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            Principal principal
+    ){
+        if(size < 1 || size > 100){
+            return new ResponseEntity<String>("조회 크기는 1 이상 100 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        OrderHistSliceDto orderHistSliceDto;
+        try {
+            orderHistSliceDto = orderService.getOrderSlice(principal.getName(), cursor, size);
+        } catch (IllegalArgumentException e){
+            return new ResponseEntity<String>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<OrderHistSliceDto>(orderHistSliceDto, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,25 @@
+package com.shop.shopmasterclone.dto;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+
+/**
+ * 상품 상세 조회 결과의 한 행입니다. 상품 정보와 이미지 하나의 정보를 함께 담습니다.
+ * {@link com.shop.shopmasterclone.repository.ItemRepository#findDetailRowsByItemId(Long)}의 생성자 프로젝션으로 만들어지며,
+ * 이미지가 없는 상품은 이미지 값이 모두 null인 한 행으로 반환됩니다.
+ *
+ * @param id 상품 ID
+ * @param itemNm 상품명
+ * @param price 가격
+ * @param itemDetail 상품 상세 설명
+ * @param itemSellStatus 판매 상태
+ * @param stockShardCount 재고 샤드 개수
+ * @param imgId 이미지 ID, 이미지가 없으면 null
+ * @param imgName 이미지 파일명
+ * @param oriImgName 원본 이미지 파일명
+ * @param imgUrl 이미지 URL
+ * @param repimgYn 대표 이미지 여부
+ */
+public record ItemDetailRow(Long id, String itemNm, Integer price, String itemDetail, ItemSellStatus itemSellStatus,
+                            Integer stockShardCount, Long imgId, String imgName, String oriImgName, String imgUrl,
+                            String repimgYn) {
+}
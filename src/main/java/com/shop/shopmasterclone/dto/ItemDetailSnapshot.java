@@ -0,0 +1,99 @@
+package com.shop.shopmasterclone.dto;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 상세 페이지에 필요한 상품 정보와 이미지 목록의 불변 스냅샷입니다.
+ * 상품 상세 캐시에 보관되어 여러 요청이 함께 사용하므로 값을 변경할 수 없으며, 화면에는 요청마다 새로 만든
+ * {@link ItemFormDto}로 전달됩니다. 재고는 주문마다 바뀌므로 스냅샷에 포함하지 않습니다.
+ *
+ * @param id 상품 ID
+ * @param itemNm 상품명
+ * @param price 가격
+ * @param itemDetail 상품 상세 설명
+ * @param itemSellStatus 판매 상태
+ * @param stockSharded 재고가 샤드로 나뉘어 관리되는지 여부
+ * @param itemImgs 상품 이미지 목록, 이미지 ID 오름차순
+ */
+public record ItemDetailSnapshot(Long id, String itemNm, int price, String itemDetail, ItemSellStatus itemSellStatus,
+                                 boolean stockSharded, List<ImgSnapshot> itemImgs) {
+
+    /**
+     * 상품 이미지 하나의 불변 스냅샷입니다.
+     */
+    public record ImgSnapshot(Long id, String imgName, String oriImgName, String imgUrl, String repimgYn) {
+
+        private ItemImgDto toItemImgDto(){
+            ItemImgDto itemImgDto = new ItemImgDto();
+            itemImgDto.setId(id);
+            itemImgDto.setImgName(imgName);
+            itemImgDto.setOriImgName(oriImgName);
+            itemImgDto.setImgUrl(imgUrl);
+            itemImgDto.setRepimgYn(repimgYn);
+            return itemImgDto;
+        }
+    }
+
+    public ItemDetailSnapshot {
+        itemImgs = List.copyOf(itemImgs);
+    }
+
+    /**
+     * {@link com.shop.shopmasterclone.repository.ItemRepository#findDetailRowsByItemId(Long)}의 조회 결과로 스냅샷을 만듭니다.
+     * 상품 정보는 첫 행에서 읽고, 이미지 정보는 이미지 ID가 있는 행마다 하나씩 읽습니다.
+     * 모든 행이 같은 상세 설명 문자열을 가지지만 스냅샷에는 첫 행의 값 하나만 보관합니다.
+     *
+     * @param rows 상품 하나의 상세 조회 결과 행 목록, 비어 있으면 안 됩니다.
+     * @return 상품 상세 스냅샷
+     */
+    public static ItemDetailSnapshot ofRows(List<ItemDetailRow> rows){
+        ItemDetailRow first = rows.get(0);
+        List<ImgSnapshot> itemImgs = new ArrayList<>(rows.size());
+        for(ItemDetailRow row : rows){
+            if(row.imgId() != null){
+                itemImgs.add(new ImgSnapshot(row.imgId(), row.imgName(), row.oriImgName(), row.imgUrl(), row.repimgYn()));
+            }
+        }
+        return new ItemDetailSnapshot(first.id(), first.itemNm(), first.price(), first.itemDetail(),
+                first.itemSellStatus(), first.stockShardCount() > 0, itemImgs);
+    }
+
+    /**
+     * 화면에 전달할 새 {@link ItemFormDto}를 만듭니다. 재고 수량은 호출하는 쪽에서 채웁니다.
+     *
+     * @return 스냅샷의 값을 복사한 상품 DTO
+     */
+    public ItemFormDto toItemFormDto(){
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setId(id);
+        itemFormDto.setItemNm(itemNm);
+        itemFormDto.setPrice(price);
+        itemFormDto.setItemDetail(itemDetail);
+        itemFormDto.setItemSellStatus(itemSellStatus);
+        for(ImgSnapshot itemImg : itemImgs){
+            itemFormDto.getItemImgDtoList().add(itemImg.toItemImgDto());
+        }
+        return itemFormDto;
+    }
+
+    /**
+     * 스냅샷이 힙에서 차지하는 대략적인 크기(바이트)를 반환합니다. 문자열은 글자당 2바이트로 계산합니다.
+     *
+     * @return 추정 크기(바이트)
+     */
+    public long estimatedBytes(){
+        long bytes = 96 + charBytes(itemNm) + charBytes(itemDetail);
+        for(ImgSnapshot itemImg : itemImgs){
+            bytes += 64 + charBytes(itemImg.imgName()) + charBytes(itemImg.oriImgName())
+                    + charBytes(itemImg.imgUrl()) + charBytes(itemImg.repimgYn());
+        }
+        return bytes;
+    }
+
+    private static long charBytes(String value){
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+}
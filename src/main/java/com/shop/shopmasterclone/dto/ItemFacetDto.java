@@ -0,0 +1,31 @@
+package com.shop.shopmasterclone.dto;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 검색 결과 옆에 표시할 패싯별 상품 수를 담는 데이터 전송 객체(DTO).
+ * 각 패싯의 상품 수는 해당 패싯을 제외한 나머지 검색 조건을 적용한 결과에서 계산됩니다.
+ */
+@Getter
+public class ItemFacetDto {
+
+    /**
+     * 판매 상태별 상품 수.
+     */
+    private final Map<ItemSellStatus, Integer> sellStatusCounts = new EnumMap<>(ItemSellStatus.class);
+
+    /**
+     * 가격대별 상품 수. 키는 "10000-30000"과 같은 가격대 이름이며, 가격이 낮은 구간부터 순서대로 들어 있습니다.
+     */
+    private final Map<String, Integer> priceBandCounts = new LinkedHashMap<>();
+
+    /**
+     * 등록 기간('1d', '1w', '1m', '6m')별 상품 수.
+     */
+    private final Map<String, Integer> regWindowCounts = new LinkedHashMap<>();
+}
@@ -16,4 +16,10 @@ public class ItemSearchDto {
 
     private String searchQuery = "";
 
+    private Integer minPrice; // 최소 가격(포함), null이면 제한하지 않음
+
+    private Integer maxPrice; // 최대 가격(포함), null이면 제한하지 않음
+
+    private String sortBy; // 정렬 기준('priceAsc', 'priceDesc'), 그 외의 값이면 최신 등록순
+
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.shop.shopmasterclone.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 상품을 한 번에 주문하기 위한 데이터 전송 객체(DTO)입니다.
+ * 장바구니 결제처럼 여러 주문 항목을 하나의 주문으로 묶어 하나의 트랜잭션에서 처리할 때 사용됩니다.
+ */
+@Getter
+@Setter
+public class MultiOrderDto {
+
+    /**
+     * 주문할 상품과 수량의 목록입니다. 최소 1개, 최대 100개의 주문 항목을 포함할 수 있습니다.
+     */
+    @Valid
+    @NotEmpty(message = "주문할 상품을 선택해주세요.")
+    @Size(max = 100, message = "한 번에 주문할 수 있는 상품은 최대 100개입니다.")
+    private List<OrderDto> orderDtoList = new ArrayList<>();
+}
@@ -5,6 +5,7 @@ import com.shop.shopmasterclone.entity.Order;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -49,6 +50,20 @@ public class OrderHistDto {
         this.orderDate = order.getOrderDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
     }
 
+    /**
+     * OrderHistDto 생성자.
+     * 엔티티 대신 프로젝션 쿼리로 조회한 컬럼 값으로 주문의 기본 정보를 초기화합니다.
+     *
+     * @param orderId 주문 식별자.
+     * @param orderStatus 주문 상태.
+     * @param orderDate 주문 날짜.
+     */
+    public OrderHistDto(Long orderId, OrderStatus orderStatus, LocalDateTime orderDate){
+        this.orderId = orderId;
+        this.orderStatus = orderStatus;
+        this.orderDate = orderDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+
     /**
      * 주문 항목 DTO를 주문 항목 목록에 추가합니다.
      *
@@ -0,0 +1,37 @@
+package com.shop.shopmasterclone.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반으로 조회한 주문 내역 한 페이지를 나타내는 데이터 전송 객체(DTO).
+ * 전체 주문 개수 대신 다음 페이지를 조회할 때 사용할 커서를 제공합니다.
+ */
+@Getter
+public class OrderHistSliceDto {
+
+    /**
+     * 이 페이지에 포함된 주문 내역 목록.
+     */
+    private final List<OrderHistDto> orderHistDtoList;
+
+    /**
+     * 다음 페이지를 조회할 때 전달할 커서. 마지막 페이지이면 null입니다.
+     */
+    private final String nextCursor;
+
+    public OrderHistSliceDto(List<OrderHistDto> orderHistDtoList, String nextCursor){
+        this.orderHistDtoList = orderHistDtoList;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 다음 페이지가 있는지 여부를 반환합니다.
+     *
+     * @return 다음 페이지가 있으면 true, 마지막 페이지이면 false를 반환합니다.
+     */
+    public boolean isHasNext(){
+        return nextCursor != null;
+    }
+}
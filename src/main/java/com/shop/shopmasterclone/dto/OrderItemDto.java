@@ -12,6 +12,7 @@ import lombok.Setter;
 @Getter
 @Setter
 public class OrderItemDto {
+    private Long itemId;    // 상품 ID
     private String itemNm;  // 상품명
     private int count;      // 주문 수량
     private int orderPrice; // 주문 가격
@@ -25,9 +26,27 @@ public class OrderItemDto {
      * @param imgUrl 상품 이미지의 URL. 상품 이미지를 외부에서 접근할 수 있는 경로입니다.
      */
     public OrderItemDto(OrderItem orderItem, String imgUrl){
+        this.itemId = orderItem.getItem().getId();
         this.itemNm = orderItem.getItem().getItemNm();
         this.count = orderItem.getCount();
         this.orderPrice = orderItem.getOrderPrice();
         this.imgUrl = imgUrl;
     }
+
+    /**
+     * OrderItemDto 생성자.
+     * 엔티티 대신 프로젝션 쿼리로 조회한 컬럼 값으로 DTO 인스턴스를 초기화합니다.
+     * 이미지 URL은 대표 이미지 URL 캐시에서 별도로 채워집니다.
+     *
+     * @param itemId 상품 ID.
+     * @param itemNm 상품명.
+     * @param count 주문 수량.
+     * @param orderPrice 주문 가격.
+     */
+    public OrderItemDto(Long itemId, String itemNm, int count, int orderPrice){
+        this.itemId = itemId;
+        this.itemNm = itemNm;
+        this.count = count;
+        this.orderPrice = orderPrice;
+    }
 }
@@ -0,0 +1,91 @@
+package com.shop.shopmasterclone.entity;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메인 페이지 상품 목록과 검색을 위한 비정규화된 읽기 모델 엔티티입니다.
+ * <p>
+ * 상품 목록은 상품 하나당 카드 하나를 그리는 데 필요한 값만 사용하므로, {@link Item}과 대표 {@link ItemImg}를 조인하고
+ * 상세 설명 전체(LOB)를 읽는 대신 이 테이블 한 곳에서 조회합니다. 상품 ID가 기본 키이므로 최신순 목록은 기본 키 순서로 읽히며,
+ * 가격 범위와 가격순 정렬은 가격 복합 인덱스로 범위 검색됩니다.
+ * 운영 데이터베이스의 테이블은 {@code db/catalog_entry.sql}로 만듭니다.
+ * <p>
+ * 상품과 대표 이미지가 저장되거나 수정될 때 {@code ItemService}와 {@code ItemImgService}가 함께 갱신합니다.
+ */
+@Entity
+@Table(name = "catalog_entry", indexes = {
+        @Index(name = "idx_catalog_entry_price", columnList = "price, item_id")
+})
+@Getter
+@Setter
+public class CatalogEntry {
+
+    /**
+     * 상품 ID입니다. {@link Item}의 ID를 그대로 사용합니다.
+     */
+    @Id
+    @Column(name = "item_id")
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String itemNm;
+
+    /**
+     * 상품 상세 설명의 앞부분입니다. {@link Item#getItemSummary()}와 같은 값입니다.
+     */
+    @Column(nullable = false, length = Item.SUMMARY_LENGTH)
+    private String itemSnippet;
+
+    @Column(nullable = false)
+    private int price;
+
+    @Enumerated(EnumType.STRING)
+    private ItemSellStatus itemSellStatus;
+
+    /**
+     * 대표 이미지 URL입니다. 대표 이미지가 아직 저장되지 않은 상품은 null이며, 상품 목록에 표시되지 않습니다.
+     */
+    private String imgUrl;
+
+    private LocalDateTime regTime;
+
+    /**
+     * 상품 정보로 새 읽기 모델 항목을 생성합니다. 대표 이미지 URL은 이미지가 저장될 때 채워집니다.
+     *
+     * @param item 등록된 상품 엔티티
+     * @return 생성된 읽기 모델 항목
+     */
+    public static CatalogEntry createCatalogEntry(Item item){
+        CatalogEntry catalogEntry = new CatalogEntry();
+        catalogEntry.setId(item.getId());
+        catalogEntry.setRegTime(item.getRegTime());
+        catalogEntry.updateItem(item);
+        return catalogEntry;
+    }
+
+    /**
+     * 상품 정보가 수정되면 상품명, 상세 설명 발췌, 가격, 판매 상태를 다시 반영합니다.
+     *
+     * @param item 수정된 상품 엔티티
+     */
+    public void updateItem(Item item){
+        this.itemNm = item.getItemNm();
+        this.itemSnippet = item.getItemSummary() != null ? item.getItemSummary() : Item.summarize(item.getItemDetail());
+        this.price = item.getPrice();
+        this.itemSellStatus = item.getItemSellStatus();
+    }
+
+    /**
+     * 대표 이미지가 저장되거나 변경되면 대표 이미지 URL을 반영합니다.
+     *
+     * @param imgUrl 대표 이미지 URL
+     */
+    public void updateImgUrl(String imgUrl){
+        this.imgUrl = imgUrl;
+    }
+}
@@ -12,15 +12,27 @@ import lombok.ToString;
  * 상품 정보를 나타내는 엔티티 클래스입니다.
  * 이 클래스는 상품의 기본적인 정보와 상태를 관리합니다.
  *
+ * <p>가격 범위 검색과 가격순 정렬은 가격 인덱스로 범위 검색되며, 판매 상태 조건이 함께 있으면 판매 상태와 가격의 복합 인덱스를 사용합니다.
+ * 두 인덱스 모두 상품 ID를 마지막 컬럼으로 포함하므로 같은 가격의 상품도 인덱스 순서대로 정렬됩니다.
+ * 운영 데이터베이스에는 {@code db/item_price_indexes.sql}로 인덱스를 생성합니다.</p>
+ *
  * @see BaseEntity 상품 엔티티는 기본 엔티티 상속을 통해 공통 속성을 가집니다.
  */
 @Entity
-@Table(name="item")
+@Table(name="item", indexes = {
+        @Index(name = "idx_item_price", columnList = "price, item_id"),
+        @Index(name = "idx_item_sell_status_price", columnList = "item_sell_status, price, item_id")
+})
 @Getter
 @Setter
 @ToString
 public class Item extends BaseEntity {
 
+    /**
+     * 상품 요약의 최대 길이입니다.
+     */
+    public static final int SUMMARY_LENGTH = 100;
+
     /**
      * 상품의 고유 식별자입니다. 데이터베이스에서 자동으로 생성됩니다.
      */
@@ -49,17 +61,38 @@ public class Item extends BaseEntity {
 
     /**
      * 상품의 상세 설명을 나타냅니다. 긴 텍스트를 저장할 수 있도록 Lob 어노테이션이 사용됩니다.
+     * 주문, 장바구니, 관리자 목록처럼 상품명과 가격, 재고만 필요한 조회에서 읽지 않도록 지연 로딩되며,
+     * 처음 접근할 때 별도의 쿼리로 조회됩니다. 지연 로딩은 빌드 시 Hibernate 바이트코드 향상(hibernate-enhance-maven-plugin)으로 동작합니다.
      */
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false)
+    @ToString.Exclude
     private String itemDetail; //상품 상세 설명
 
+    /**
+     * 상품 목록 카드에 표시할 상세 설명의 앞부분입니다. 최대 {@link #SUMMARY_LENGTH}자이며, 상세 설명이 변경될 때 함께 갱신됩니다.
+     * 상품 목록에서는 상세 설명 전체(LOB) 대신 이 값을 조회합니다. 운영 데이터베이스의 컬럼은 {@code db/item_summary.sql}로 추가합니다.
+     */
+    @Column(length = SUMMARY_LENGTH)
+    private String itemSummary; //상품 요약
+
     /**
      * 상품의 판매 상태를 나타냅니다. 판매 중, 품절 등의 상태를 관리합니다.
      */
+    @Column(name = "item_sell_status")
     @Enumerated(EnumType.STRING)
     private ItemSellStatus itemSellStatus; //상품 판매 상태
 
+    /**
+     * 재고 샤드의 개수입니다. 0이면 stockNumber 컬럼 하나로 재고를 관리하고,
+     * 1 이상이면 주문이 몰리는 인기 상품으로 보고 재고를 {@link ItemStockShard} 행들에 나누어 관리합니다.
+     * 샤딩된 상품의 stockNumber는 0으로 유지되며, 현재 재고는 {@code StockService#getStockNumber}로 샤드 재고를 합산하여 읽습니다.
+     * 운영 데이터베이스에는 {@code db/item_stock_shard.sql}로 컬럼과 샤드 테이블을 생성합니다.
+     */
+    @Column(nullable = false)
+    private int stockShardCount; //재고 샤드 개수
+
     /**
      * 상품 정보를 업데이트합니다. 상품 정보 입력 폼으로부터 받은 데이터로 상품 정보를 갱신합니다.
      *
@@ -69,10 +102,49 @@ public class Item extends BaseEntity {
         this.itemNm = itemFormDto.getItemNm();
         this.price = itemFormDto.getPrice();
         this.stockNumber = itemFormDto.getStockNumber();
-        this.itemDetail = itemFormDto.getItemDetail();
+        setItemDetail(itemFormDto.getItemDetail());
         this.itemSellStatus = itemFormDto.getItemSellStatus();
     }
 
+    /**
+     * 상품 상세 설명을 변경하고, 상품 요약을 상세 설명의 앞부분으로 다시 계산합니다.
+     *
+     * @param itemDetail 새 상품 상세 설명입니다.
+     */
+    public void setItemDetail(String itemDetail){
+        this.itemDetail = itemDetail;
+        this.itemSummary = summarize(itemDetail);
+    }
+
+    /**
+     * 상세 설명의 앞부분을 최대 {@link #SUMMARY_LENGTH}자로 자릅니다. 서로게이트 쌍의 중간에서 자르지 않습니다.
+     *
+     * @param itemDetail 상품 상세 설명입니다.
+     * @return 상품 요약을 반환합니다. 상세 설명이 null이면 빈 문자열을 반환합니다.
+     */
+    public static String summarize(String itemDetail){
+        if(itemDetail == null){
+            return "";
+        }
+        if(itemDetail.length() <= SUMMARY_LENGTH){
+            return itemDetail;
+        }
+        int end = SUMMARY_LENGTH;
+        if(Character.isHighSurrogate(itemDetail.charAt(end - 1))){
+            end--;
+        }
+        return itemDetail.substring(0, end);
+    }
+
+    /**
+     * 재고가 샤드로 나누어 관리되는 상품인지 확인합니다.
+     *
+     * @return 재고 샤드가 1개 이상이면 true를 반환합니다.
+     */
+    public boolean isStockSharded(){
+        return this.stockShardCount > 0;
+    }
+
     /**
      * 상품 재고를 감소시킵니다. 주문 수량만큼 재고를 감소시키며, 재고가 부족한 경우 예외를 발생시킵니다.
      *
@@ -86,19 +158,4 @@ public class Item extends BaseEntity {
         }
         this.stockNumber = restStock;
    }
-
-    /**
-     * 상품 재고를 증가시킵니다. 추가될 재고 수량만큼 현재 재고에 더합니다.
-     *
-     * 이 메서드는 주문 취소 또는 반품과 같이 재고를 다시 늘려야 할 때 사용됩니다.
-     *
-     * @param stockNumber 증가시킬 재고의 수량입니다. 이 값은 반드시 양수여야 합니다.
-     * @throws IllegalArgumentException 재고 수량으로 음수가 전달될 때 발생하는 예외입니다.
-     */
-    public void addStock(int stockNumber){
-        if (stockNumber < 0) {
-            throw new IllegalArgumentException("재고를 증가시키기 위한 수량은 양수여야 합니다. 입력된 수량: " + stockNumber);
-        }
-        this.stockNumber += stockNumber;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.shop.shopmasterclone.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 인기 상품의 재고를 여러 행으로 나누어 관리하기 위한 재고 샤드 엔티티 클래스입니다.
+ * 주문이 한 상품에 몰리면 item 행 하나에 대한 잠금 대기가 처리량을 제한하므로,
+ * 재고 샤딩이 활성화된 상품은 재고를 N개의 샤드 행에 나누어 두고 주문마다 하나의 샤드만 갱신합니다.
+ */
+@Entity
+@Table(name = "item_stock_shard",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"item_id", "shard_no"}))
+@Getter
+@Setter
+public class ItemStockShard {
+
+    /**
+     * 재고 샤드의 고유 식별자입니다. 데이터베이스에서 자동으로 생성됩니다.
+     */
+    @Id
+    @Column(name = "item_stock_shard_id")
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long id;
+
+    /**
+     * 이 샤드가 속한 상품입니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private Item item;
+
+    /**
+     * 상품 내에서의 샤드 번호입니다. 0부터 (샤드 개수 - 1)까지의 값을 가집니다.
+     */
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    /**
+     * 이 샤드에 할당된 재고 수량입니다.
+     */
+    @Column(nullable = false)
+    private int stockNumber;
+
+    /**
+     * 상품, 샤드 번호, 재고 수량을 받아 새 재고 샤드를 생성하는 팩토리 메서드입니다.
+     *
+     * @param item 샤드가 속할 상품입니다.
+     * @param shardNo 샤드 번호입니다.
+     * @param stockNumber 샤드에 할당할 재고 수량입니다.
+     * @return 초기화된 재고 샤드 인스턴스를 반환합니다.
+     */
+    public static ItemStockShard createItemStockShard(Item item, int shardNo, int stockNumber){
+        ItemStockShard itemStockShard = new ItemStockShard();
+        itemStockShard.setItem(item);
+        itemStockShard.setShardNo(shardNo);
+        itemStockShard.setStockNumber(stockNumber);
+        return itemStockShard;
+    }
+}
@@ -15,7 +15,9 @@ import java.util.List;
  * 주문은 주문 상태({@link OrderStatus}), 주문 날짜 등의 정보를 관리합니다.
  */
 @Entity
-@Table(name="orders")
+@Table(name="orders", indexes = {
+        @Index(name = "idx_orders_member_order_date", columnList = "member_id, order_date, id")
+})
 @Getter
 @Setter
 public class Order extends BaseEntity{
@@ -35,8 +37,9 @@ public class Order extends BaseEntity{
     private Member member;
 
     /**
-     * 주문이 생성된 날짜와 시간입니다.
+     * 주문이 생성된 날짜와 시간입니다. 회원별 주문 내역 인덱스({@code idx_orders_member_order_date})의 컬럼입니다.
      */
+    @Column(name = "order_date")
     private LocalDateTime orderDate;
 
     /**
@@ -95,20 +98,4 @@ public class Order extends BaseEntity{
         }
         return totalPrice;
     }
-
-    /**
-     * 주문을 취소합니다. 주문 상태를 취소로 변경하고, 주문에 포함된 모든 주문 항목도 취소 처리합니다.
-     *
-     * 이 메서드는 주문 상태를 {@link OrderStatus#CANCEL}로 변경하여 주문이 취소되었음을 나타냅니다.
-     * 또한, 주문에 포함된 각 주문 항목에 대해 {@link OrderItem#cancel()} 메서드를 호출하여,
-     * 각 항목의 상태 또한 취소로 변경합니다. 이 과정에서 주문 항목에 설정된 재고 수량은
-     * 원래대로 복구됩니다.
-     */
-    public void cancelOrder(){
-        this.orderStatus = OrderStatus.CANCEL;
-
-        for(OrderItem orderItem: this.orderItems){
-            orderItem.cancel();
-        }
-    }
 }
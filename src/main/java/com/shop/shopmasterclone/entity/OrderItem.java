@@ -26,9 +26,10 @@ public class OrderItem extends BaseEntity {
 
     /**
      * 이 주문 항목과 연관된 상품을 나타냅니다.
-     * 상품과 주문 항목 사이에는 다대일 관계가 설정되어 있습니다.
+     * 상품과 주문 항목 사이에는 다대일 관계가 설정되어 있으며, 지연 로딩(LAZY) 전략이 사용됩니다.
+     * 주문 내역처럼 상품 정보가 함께 필요한 경우에는 fetch join으로 한 번에 조회합니다.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "item_id")
     private Item item;
 
@@ -59,12 +60,24 @@ public class OrderItem extends BaseEntity {
      * @return 초기화된 주문 항목을 반환합니다.
      */
     public static OrderItem createOrderItem(Item item, int count){
+        OrderItem orderItem = createStockReservedOrderItem(item, count);
+        item.removeStock(count);
+        return orderItem;
+    }
+
+    /**
+     * 재고 차감이 이미 데이터베이스에 반영된 상품으로 주문 항목을 생성하는 팩토리 메서드입니다.
+     * {@link #createOrderItem(Item, int)}와 달리 상품 엔티티의 재고 값을 변경하지 않습니다.
+     *
+     * @param item 주문할 상품입니다.
+     * @param count 주문할 상품의 수량입니다.
+     * @return 초기화된 주문 항목을 반환합니다.
+     */
+    public static OrderItem createStockReservedOrderItem(Item item, int count){
         OrderItem orderItem = new OrderItem();
         orderItem.setItem(item);
         orderItem.setCount(count);
         orderItem.setOrderPrice(item.getPrice());
-
-        item.removeStock(count);
         return orderItem;
     }
 
@@ -77,12 +90,4 @@ public class OrderItem extends BaseEntity {
     public int getTotalPrice(){
         return orderPrice * count;
     }
-
-    /**
-     * 주문을 취소할 경우 주문 수량만큼 상품의 재고를 증가시키는 메소드를 구현합니다.
-     *
-     */
-    public void cancel(){
-        this.getItem().addStock(count);
-    }
 }
@@ -0,0 +1,155 @@
+package com.shop.shopmasterclone.repository;
+
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import jakarta.persistence.Query;
+import org.thymeleaf.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 관리자 상품 검색의 조건 조합(형태)마다 JPQL을 한 번만 만들어 재사용하는 쿼리 템플릿 모음입니다.
+ * <p>
+ * 관리자 검색 조건은 등록일, 판매 상태, 검색 필드, 가격 범위, 정렬 기준의 사용 여부로만 달라지므로 가능한 형태의 수가 정해져 있습니다.
+ * 형태별 JPQL은 처음 사용될 때 만들어져 보관되고, 이후 요청은 값만 파라미터로 바인딩합니다.
+ * 같은 JPQL 문자열이 반복되므로 Hibernate의 쿼리 해석 캐시(query plan cache)에서 파싱된 쿼리를 재사용하며,
+ * 요청마다 Querydsl 쿼리 객체를 만들고 JPQL로 직렬화하는 비용도 들지 않습니다.
+ * <p>
+ * 검색어 같은 값은 JPQL에 포함하지 않고 항상 파라미터로 바인딩하므로, 값이 달라져도 템플릿 수는 늘어나지 않습니다.
+ */
+class AdminItemQueryTemplates {
+
+    /**
+     * 관리자 검색 조건의 형태입니다. 조건의 값이 아니라 각 조건의 사용 여부와 종류만 담습니다.
+     *
+     * @param regTime 등록일 조건 사용 여부
+     * @param sellStatus 판매 상태 조건 사용 여부
+     * @param searchBy 검색 필드('itemNm', 'createdBy'), 검색어 조건을 사용하지 않으면 null
+     * @param itemIds 상품 ID 목록 조건 사용 여부
+     * @param minPrice 최소 가격 조건 사용 여부
+     * @param maxPrice 최대 가격 조건 사용 여부
+     * @param sortBy 정렬 기준('priceAsc', 'priceDesc'), 최신 등록순이면 null
+     */
+    record Shape(boolean regTime, boolean sellStatus, String searchBy, boolean itemIds,
+                 boolean minPrice, boolean maxPrice, String sortBy) {
+
+        /**
+         * 검색 조건의 형태를 구합니다. 상품 ID 목록으로 검색하면 검색어 조건 대신 상품 ID 조건을 사용합니다.
+         */
+        static Shape of(ItemSearchDto itemSearchDto, boolean itemIds){
+            String searchBy = itemSearchDto.getSearchBy();
+            String sortBy = itemSearchDto.getSortBy();
+            return new Shape(
+                    !(StringUtils.equals("all", itemSearchDto.getSearchDateType()) || itemSearchDto.getSearchDateType() == null),
+                    itemSearchDto.getSearchSellStatus() != null,
+                    !itemIds && ("itemNm".equals(searchBy) || "createdBy".equals(searchBy)) ? searchBy : null,
+                    itemIds,
+                    itemSearchDto.getMinPrice() != null,
+                    itemSearchDto.getMaxPrice() != null,
+                    "priceAsc".equals(sortBy) || "priceDesc".equals(sortBy) ? sortBy : null);
+        }
+    }
+
+    /**
+     * 한 형태의 JPQL입니다.
+     *
+     * @param contentJpql 상품 목록을 조회하는 JPQL
+     * @param countJpql 상품 수를 세는 JPQL
+     * @param idJpql 상품 ID만 조회하는 JPQL, 근사 개수를 셀 때 사용
+     */
+    record Template(String contentJpql, String countJpql, String idJpql) {
+    }
+
+    private final Map<Shape, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * 형태에 해당하는 템플릿을 반환합니다. 처음 요청된 형태이면 JPQL을 만들어 보관합니다.
+     *
+     * @param shape 검색 조건의 형태
+     * @return 형태에 해당하는 JPQL 템플릿
+     */
+    Template get(Shape shape){
+        return templates.computeIfAbsent(shape, AdminItemQueryTemplates::compile);
+    }
+
+    /**
+     * 지금까지 만들어진 템플릿의 수를 반환합니다.
+     */
+    int size(){
+        return templates.size();
+    }
+
+    /**
+     * 형태에 사용된 조건의 값을 쿼리 파라미터로 바인딩합니다.
+     *
+     * @param query 템플릿으로 만든 쿼리
+     * @param shape 검색 조건의 형태
+     * @param itemSearchDto 검색 조건 값을 담은 DTO
+     * @param regTimeAfter 등록일 조건의 기준 시각, 등록일 조건을 사용하지 않으면 null
+     * @param itemIds 상품 ID 목록, 상품 ID 조건을 사용하지 않으면 null
+     * @return 파라미터가 바인딩된 쿼리
+     */
+    static <Q extends Query> Q bind(Q query, Shape shape, ItemSearchDto itemSearchDto,
+                                    LocalDateTime regTimeAfter, Collection<Long> itemIds){
+        if(shape.regTime()){
+            query.setParameter("regTimeAfter", regTimeAfter);
+        }
+        if(shape.sellStatus()){
+            query.setParameter("sellStatus", itemSearchDto.getSearchSellStatus());
+        }
+        if(shape.searchBy() != null){
+            query.setParameter("searchQuery", "%" + itemSearchDto.getSearchQuery() + "%");
+        }
+        if(shape.itemIds()){
+            query.setParameter("itemIds", itemIds);
+        }
+        if(shape.minPrice()){
+            query.setParameter("minPrice", itemSearchDto.getMinPrice());
+        }
+        if(shape.maxPrice()){
+            query.setParameter("maxPrice", itemSearchDto.getMaxPrice());
+        }
+        return query;
+    }
+
+    private static Template compile(Shape shape){
+        List<String> conditions = new ArrayList<>();
+        if(shape.regTime()){
+            conditions.add("i.regTime > :regTimeAfter");
+        }
+        if(shape.sellStatus()){
+            conditions.add("i.itemSellStatus = :sellStatus");
+        }
+        if(shape.searchBy() != null){
+            conditions.add("i." + shape.searchBy() + " like :searchQuery");
+        }
+        if(shape.itemIds()){
+            conditions.add("i.id in :itemIds");
+        }
+        if(shape.minPrice()){
+            conditions.add("i.price >= :minPrice");
+        }
+        if(shape.maxPrice()){
+            conditions.add("i.price <= :maxPrice");
+        }
+        String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+
+        String orderBy;
+        if("priceAsc".equals(shape.sortBy())){
+            orderBy = " order by i.price asc, i.id asc";
+        } else if("priceDesc".equals(shape.sortBy())){
+            orderBy = " order by i.price desc, i.id desc";
+        } else {
+            orderBy = " order by i.id desc";
+        }
+
+        return new Template(
+                "select i from Item i" + where + orderBy,
+                "select count(i) from Item i" + where,
+                "select i.id from Item i" + where);
+    }
+}
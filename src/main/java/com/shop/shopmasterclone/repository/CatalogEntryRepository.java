@@ -0,0 +1,7 @@
+package com.shop.shopmasterclone.repository;
+
+import com.shop.shopmasterclone.entity.CatalogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CatalogEntryRepository extends JpaRepository<CatalogEntry, Long>, CatalogEntryRepositoryCustom {
+}
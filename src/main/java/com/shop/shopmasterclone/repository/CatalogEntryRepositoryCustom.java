@@ -0,0 +1,19 @@
+package com.shop.shopmasterclone.repository;
+
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.entity.CatalogEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CatalogEntryRepositoryCustom {
+
+    Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable);
+    Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Collection<Long> itemIds, Pageable pageable);
+    List<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int limit);
+    List<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Collection<Long> itemIds, Long lastItemId, int limit);
+    void persistAll(List<CatalogEntry> catalogEntries);
+}
@@ -0,0 +1,250 @@
+package com.shop.shopmasterclone.repository;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.dto.QMainItemDto;
+import com.shop.shopmasterclone.entity.CatalogEntry;
+import com.shop.shopmasterclone.entity.QCatalogEntry;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.thymeleaf.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메인 페이지 상품 목록을 {@link com.shop.shopmasterclone.entity.CatalogEntry} 읽기 모델에서 조회하는 구현 클래스입니다.
+ * 상품 이미지와 조인하지 않고 상세 설명 전체도 읽지 않으며, 대표 이미지가 있는 항목만 상품 ID 내림차순 또는 가격순으로 조회합니다.
+ *
+ * <p>전체 개수는 {@link PageableExecutionUtils}와 {@link ItemCountCache}로 구하므로, 조회 결과만으로 전체 개수를 알 수 있으면
+ * 개수 쿼리를 실행하지 않습니다.</p>
+ */
+public class CatalogEntryRepositoryCustomImpl implements CatalogEntryRepositoryCustom {
+
+    private EntityManager entityManager;
+
+    private JPAQueryFactory queryFactory;
+
+    private ItemCountCache itemCountCache;
+
+    /**
+     * 생성자를 통해 {@link EntityManager}를 받아 {@link JPAQueryFactory} 인스턴스를 초기화합니다.
+     *
+     * @param entityManager JPA 엔티티 관리자
+     * @param itemCountCache 검색 조건별 전체 개수 캐시
+     */
+    public CatalogEntryRepositoryCustomImpl(EntityManager entityManager, ItemCountCache itemCountCache){
+        this.entityManager = entityManager;
+        this.queryFactory = new JPAQueryFactory(entityManager);
+        this.itemCountCache = itemCountCache;
+    }
+
+    /**
+     * 새 읽기 모델 항목들을 저장한 뒤 영속성 컨텍스트를 비웁니다.
+     * 상품 ID를 직접 지정하는 엔티티이므로 {@code saveAll}은 항목마다 기존 행을 조회한 뒤 병합하지만,
+     * 이 메서드는 조회 없이 {@link EntityManager#persist(Object)}로 등록하여 INSERT를 일괄 실행합니다.
+     * 이미 항목이 있는 상품을 전달하면 기본 키 중복으로 실패하므로, 항목이 없는 상품에만 사용합니다.
+     *
+     * @param catalogEntries 저장할 읽기 모델 항목 목록
+     */
+    @Override
+    public void persistAll(List<CatalogEntry> catalogEntries){
+        for(CatalogEntry catalogEntry : catalogEntries){
+            entityManager.persist(catalogEntry);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 상품명 또는 상품 상세 설명의 앞부분을 포함하는 검색 조건을 생성합니다.
+     * 상품 검색 색인을 사용할 수 없을 때만 사용되며, 색인과 같은 범위를 검색하도록 상세 설명은 읽기 모델의 앞부분(itemSnippet)에서 찾습니다.
+     *
+     * @param searchQuery 사용자가 입력한 검색어
+     * @return 상품명이나 상세 설명의 앞부분에 검색어를 포함하는 조건, 검색어가 비어 있거나 null일 경우 null 반환
+     */
+    private BooleanExpression itemNmOrItemDetailLike(String searchQuery){
+        if(StringUtils.isEmpty(searchQuery)){
+            return null;
+        }
+        QCatalogEntry catalogEntry = QCatalogEntry.catalogEntry;
+        return catalogEntry.itemNm.like("%" + searchQuery + "%")
+                .or(catalogEntry.itemSnippet.like("%" + searchQuery + "%"));
+    }
+
+    /**
+     * 가격 범위에 따른 검색 조건을 반환합니다. 최소 가격과 최대 가격은 모두 범위에 포함됩니다.
+     *
+     * @param itemSearchDto 최소 가격과 최대 가격을 담은 DTO
+     * @return 가격 범위에 해당하는 조건, 가격 범위가 지정되지 않았으면 null 반환
+     */
+    private BooleanExpression priceBetween(ItemSearchDto itemSearchDto){
+        QCatalogEntry catalogEntry = QCatalogEntry.catalogEntry;
+        Integer minPrice = itemSearchDto.getMinPrice();
+        Integer maxPrice = itemSearchDto.getMaxPrice();
+        if(minPrice == null && maxPrice == null){
+            return null;
+        }
+        if(maxPrice == null){
+            return catalogEntry.price.goe(minPrice);
+        }
+        return minPrice == null ? catalogEntry.price.loe(maxPrice) : catalogEntry.price.between(minPrice, maxPrice);
+    }
+
+    /**
+     * 정렬 기준에 따른 정렬 조건을 반환합니다. 가격순 정렬은 가격 인덱스({@code price, item_id})의 순서를 그대로 사용합니다.
+     *
+     * @param sortBy 정렬 기준 ('priceAsc', 'priceDesc')
+     * @return 정렬 조건 배열, 그 외의 값이면 상품 ID 내림차순
+     */
+    private OrderSpecifier<?>[] entryOrder(String sortBy){
+        QCatalogEntry catalogEntry = QCatalogEntry.catalogEntry;
+        if("priceAsc".equals(sortBy)){
+            return new OrderSpecifier<?>[]{catalogEntry.price.asc(), catalogEntry.id.asc()};
+        } else if("priceDesc".equals(sortBy)){
+            return new OrderSpecifier<?>[]{catalogEntry.price.desc(), catalogEntry.id.desc()};
+        }
+        return new OrderSpecifier<?>[]{catalogEntry.id.desc()};
+    }
+
+    /**
+     * 메인 페이지용 상품 DTO 페이지를 조회합니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @param pageable 페이징 정보
+     * @return 검색 조건과 일치하는 MainItemDto의 페이지 객체
+     */
+    @Override
+    public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
+        return fetchMainItemPage(itemSearchDto, itemNmOrItemDetailLike(itemSearchDto.getSearchQuery()), pageable);
+    }
+
+    /**
+     * 상품 검색 색인으로 찾은 상품 ID 목록을 검색 조건으로 사용하여 메인 페이지용 상품 DTO 페이지를 조회합니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @param itemIds 검색어와 일치하는 상품 ID 목록, IN 조건에 그대로 바인딩되므로 {@code ItemSearchIndex#searchLatest}처럼 개수가 제한된 목록이어야 함
+     * @param pageable 페이징 정보
+     * @return 검색 조건과 일치하는 MainItemDto의 페이지 객체
+     */
+    @Override
+    public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Collection<Long> itemIds, Pageable pageable) {
+        if(itemIds.isEmpty()){
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        return fetchMainItemPage(itemSearchDto, QCatalogEntry.catalogEntry.id.in(itemIds), pageable);
+    }
+
+    /**
+     * 메인 페이지용 상품 목록을 마지막으로 조회한 상품 ID 다음부터 조회합니다.
+     * offset 대신 {@code id < lastItemId} 조건으로 시작 위치를 찾으므로, 페이지 깊이와 관계없이 일정한 시간에 조회됩니다.
+     * 커서가 상품 ID이므로 가격 범위 조건은 적용되지만 정렬 기준은 적용되지 않습니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @param lastItemId 이전 조회의 마지막 상품 ID, 첫 페이지를 조회할 때는 null
+     * @param limit 조회할 최대 상품 수
+     * @return 상품 ID 내림차순으로 정렬된 MainItemDto 목록
+     */
+    @Override
+    public List<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Long lastItemId, int limit) {
+        return fetchMainItemSlice(itemSearchDto, itemNmOrItemDetailLike(itemSearchDto.getSearchQuery()), lastItemId, limit);
+    }
+
+    /**
+     * 상품 검색 색인으로 찾은 상품 ID 목록 중에서 마지막으로 조회한 상품 ID 다음부터 메인 페이지용 상품 목록을 조회합니다.
+     *
+     * @param itemSearchDto 가격 범위 조건을 담은 DTO
+     * @param itemIds 검색어와 일치하는 상품 ID 목록, IN 조건에 그대로 바인딩되므로 {@code ItemSearchIndex#searchLatest}처럼 개수가 제한된 목록이어야 함
+     * @param lastItemId 이전 조회의 마지막 상품 ID, 첫 페이지를 조회할 때는 null
+     * @param limit 조회할 최대 상품 수
+     * @return 상품 ID 내림차순으로 정렬된 MainItemDto 목록
+     */
+    @Override
+    public List<MainItemDto> getMainItemSlice(ItemSearchDto itemSearchDto, Collection<Long> itemIds, Long lastItemId, int limit) {
+        // 커서 이후의 상품 ID만 바인딩합니다.
+        List<Long> remainingItemIds = itemIds.stream()
+                .filter(itemId -> lastItemId == null || itemId < lastItemId)
+                .toList();
+        if(remainingItemIds.isEmpty()){
+            return List.of();
+        }
+        return fetchMainItemSlice(itemSearchDto, QCatalogEntry.catalogEntry.id.in(remainingItemIds), lastItemId, limit);
+    }
+
+    private Page<MainItemDto> fetchMainItemPage(ItemSearchDto itemSearchDto, BooleanExpression searchCondition, Pageable pageable) {
+        QCatalogEntry catalogEntry = QCatalogEntry.catalogEntry;
+        BooleanExpression[] conditions = {
+                catalogEntry.imgUrl.isNotNull(),
+                priceBetween(itemSearchDto),
+                searchCondition
+        };
+
+        List<MainItemDto> mainItemDtoList = queryFactory
+                .select(mainItemDto())
+                .from(catalogEntry)
+                .where(conditions)
+                .orderBy(entryOrder(itemSearchDto.getSortBy()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        String countKey = "catalog|" + itemSearchDto.getSearchQuery()
+                + "|" + itemSearchDto.getMinPrice() + "|" + itemSearchDto.getMaxPrice();
+        return PageableExecutionUtils.getPage(mainItemDtoList, pageable, () -> itemCountCache.getCount(countKey,
+                () -> countEntries(conditions)));
+    }
+
+    private List<MainItemDto> fetchMainItemSlice(ItemSearchDto itemSearchDto, BooleanExpression searchCondition,
+                                                 Long lastItemId, int limit) {
+        QCatalogEntry catalogEntry = QCatalogEntry.catalogEntry;
+
+        return queryFactory
+                .select(mainItemDto())
+                .from(catalogEntry)
+                .where(catalogEntry.imgUrl.isNotNull(),
+                        priceBetween(itemSearchDto),
+                        searchCondition,
+                        lastItemId == null ? null : catalogEntry.id.lt(lastItemId))
+                .orderBy(catalogEntry.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 검색 조건에 해당하는 항목 수를 셉니다. 근사 개수 모드에서는 상한까지만 상품 ID를 읽어 개수를 구합니다.
+     */
+    private long countEntries(BooleanExpression[] conditions){
+        QCatalogEntry catalogEntry = QCatalogEntry.catalogEntry;
+        if(itemCountCache.isApproximate()){
+            return queryFactory
+                    .select(catalogEntry.id)
+                    .from(catalogEntry)
+                    .where(conditions)
+                    .limit(itemCountCache.getApproximateLimit())
+                    .fetch()
+                    .size();
+        }
+        Long count = queryFactory
+                .select(catalogEntry.count())
+                .from(catalogEntry)
+                .where(conditions)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private static QMainItemDto mainItemDto(){
+        QCatalogEntry catalogEntry = QCatalogEntry.catalogEntry;
+        return new QMainItemDto(
+                catalogEntry.id,
+                catalogEntry.itemNm,
+                catalogEntry.itemSnippet,
+                catalogEntry.imgUrl,
+                catalogEntry.price);
+    }
+}
@@ -0,0 +1,108 @@
+package com.shop.shopmasterclone.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 목록 페이지의 전체 개수를 검색 조건별로 잠시 보관하는 캐시입니다.
+ * <p>
+ * 상품이 많으면 요청마다 COUNT 쿼리를 실행하는 비용이 크므로, 같은 검색 조건의 개수는 {@code item.count.cache-ttl-ms} 동안 재사용합니다.
+ * 상품이 등록되거나 수정되면 {@link #invalidateAll()}로 모든 항목을 제거합니다.
+ * <p>
+ * {@code item.count.mode=approximate}이면 개수를 {@code item.count.approximate-limit}개까지만 세며,
+ * 그보다 많은 결과는 상한값으로 표시합니다. 결과가 매우 많은 검색에서도 개수 조회 비용이 상한을 넘지 않습니다.
+ */
+@Component
+public class ItemCountCache {
+
+    /**
+     * 캐시가 지나치게 커지지 않도록 제한하는 최대 항목 수입니다. 넘으면 모든 항목을 비웁니다.
+     */
+    private static final int MAX_ENTRIES = 1000;
+
+    private final long ttlMillis;
+    private final boolean approximate;
+    private final int approximateLimit;
+    private final Map<String, CachedCount> entries = new ConcurrentHashMap<>();
+
+    public ItemCountCache(
+            @Value("${item.count.cache-ttl-ms:30000}") long ttlMillis,
+            @Value("${item.count.mode:exact}") String mode,
+            @Value("${item.count.approximate-limit:10000}") int approximateLimit
+    ){
+        this.ttlMillis = ttlMillis;
+        this.approximate = "approximate".equals(mode);
+        this.approximateLimit = approximateLimit;
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+
+    /**
+     * 근사 개수 모드인지 여부를 반환합니다.
+     *
+     * @return 근사 개수 모드이면 true를 반환합니다.
+     */
+    public boolean isApproximate(){
+        return approximate;
+    }
+
+    /**
+     * 근사 개수 모드에서 셀 최대 개수를 반환합니다.
+     *
+     * @return 개수를 셀 상한입니다.
+     */
+    public int getApproximateLimit(){
+        return approximateLimit;
+    }
+
+    /**
+     * 검색 조건의 전체 개수를 반환합니다. 유효한 캐시 항목이 없으면 개수 쿼리를 실행하여 저장합니다.
+     *
+     * @param key 검색 조건을 나타내는 키입니다.
+     * @param countQuery 전체 개수를 조회하는 함수입니다.
+     * @return 검색 조건에 해당하는 전체 개수를 반환합니다.
+     */
+    public long getCount(String key, LongSupplier countQuery){
+        if(ttlMillis <= 0){
+            return countQuery.getAsLong();
+        }
+
+        long now = System.currentTimeMillis();
+        CachedCount cached = entries.get(key);
+        if(cached != null && cached.expiresAt() > now){
+            return cached.count();
+        }
+
+        long count = countQuery.getAsLong();
+        if(entries.size() >= MAX_ENTRIES){
+            entries.clear();
+        }
+        entries.put(key, new CachedCount(count, now + ttlMillis));
+        return count;
+    }
+
+    /**
+     * 모든 캐시 항목을 제거합니다. 트랜잭션 안에서 호출되면 커밋된 뒤에 제거하고, 롤백되면 제거하지 않습니다.
+     * 커밋 전에 제거하면 그 사이 다른 요청이 커밋 전의 개수로 캐시를 다시 채울 수 있기 때문입니다.
+     * 트랜잭션 밖에서 호출되면 즉시 제거합니다.
+     */
+    public void invalidateAll(){
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            entries.clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.clear();
+            }
+        });
+    }
+}
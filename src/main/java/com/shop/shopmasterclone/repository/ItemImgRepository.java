@@ -2,7 +2,10 @@ package com.shop.shopmasterclone.repository;
 
 import com.shop.shopmasterclone.entity.ItemImg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,4 +32,14 @@ public interface ItemImgRepository extends JpaRepository<ItemImg, Long> {
      * @return 조건에 맞는 상품 이미지를 반환합니다. 해당하는 이미지가 없는 경우 null을 반환할 수 있습니다.
      */
     ItemImg findByItemIdAndRepimgYn(Long itemId, String repimgYn);
+
+    /**
+     * 주어진 상품들의 대표 이미지 URL을 한 번의 쿼리로 조회합니다.
+     * 여러 상품의 대표 이미지가 필요한 화면에서 상품마다 이미지를 조회하지 않도록 IN 조건을 사용합니다.
+     *
+     * @param itemIds 대표 이미지를 조회할 상품 ID 목록입니다.
+     * @return [상품 ID, 대표 이미지 URL] 배열의 목록을 반환합니다. 대표 이미지가 없는 상품은 포함되지 않습니다.
+     */
+    @Query("select i.item.id, i.imgUrl from ItemImg i where i.item.id in :itemIds and i.repimgYn = 'Y'")
+    List<Object[]> findRepImgUrlsByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
 }
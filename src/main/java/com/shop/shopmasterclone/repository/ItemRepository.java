@@ -1,12 +1,18 @@
 package com.shop.shopmasterclone.repository;
 
+import com.shop.shopmasterclone.dto.ItemDetailRow;
 import com.shop.shopmasterclone.entity.Item;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredicateExecutor<Item>, ItemRepositoryCustom {
     List<Item> findByItemNm(String itemNm);
@@ -24,4 +30,156 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredi
     @Query(value="select * from item i where i.item_detail like " +
             "%:itemDetail% order by i.price desc", nativeQuery = true)
     List<Item> findByItemDetailByNative(@Param("itemDetail") String itemDetail);
+
+    /**
+     * 상품을 조회하면서 쓰기 잠금을 겁니다. 재고 샤드 개수를 바꾸거나 재고를 다시 설정하는 동안
+     * 다른 트랜잭션이 같은 상품의 재고 관리 방식이나 재고를 바꾸지 못하도록 사용됩니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 잠긴 상품을 반환합니다. 상품이 없으면 빈 Optional을 반환합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = :itemId")
+    Optional<Item> findByIdForUpdate(@Param("itemId") Long itemId);
+
+    /**
+     * 상품의 재고 샤드 개수만 조회합니다. 주문 시 상품 엔티티 전체를 읽지 않고 재고 관리 방식을 판단하는 데 사용됩니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 재고 샤드 개수를 반환합니다. 상품이 없으면 빈 Optional을 반환합니다.
+     */
+    @Query("select i.stockShardCount from Item i where i.id = :itemId")
+    Optional<Integer> findStockShardCountById(@Param("itemId") Long itemId);
+
+    /**
+     * 상품의 재고 수량만 조회합니다. 재고 원장을 채우거나 대사할 때 상품 엔티티 전체를 읽지 않기 위해 사용됩니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 재고 수량을 반환합니다. 상품이 없으면 빈 Optional을 반환합니다.
+     */
+    @Query("select i.stockNumber from Item i where i.id = :itemId")
+    Optional<Integer> findStockNumberById(@Param("itemId") Long itemId);
+
+    /**
+     * 샤딩되지 않은 모든 상품의 ID와 재고 수량을 조회합니다. 재고 원장을 재구성할 때 사용됩니다.
+     *
+     * @return [상품 ID, 재고 수량] 배열의 목록을 반환합니다.
+     */
+    @Query("select i.id, i.stockNumber from Item i where i.stockShardCount = 0")
+    List<Object[]> findUnshardedStockNumbers();
+
+    /**
+     * 재고가 충분한 경우에만 상품의 재고를 차감합니다.
+     * 조건부 UPDATE 한 번으로 재고 확인과 차감을 수행하므로, 동시에 들어온 주문 사이에서도 재고가 음수가 되지 않습니다.
+     * 실행 전 영속성 컨텍스트를 flush 하고, 실행 후에는 비워서 오래된 재고 값이 다시 기록되지 않도록 합니다.
+     *
+     * @param itemId 재고를 차감할 상품의 ID입니다.
+     * @param count 차감할 수량입니다.
+     * @return 변경된 행의 수를 반환합니다. 상품이 없거나 재고가 부족하면 0을 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Item i set i.stockNumber = i.stockNumber - :count " +
+            "where i.id = :itemId and i.stockNumber >= :count")
+    int decreaseStock(@Param("itemId") Long itemId, @Param("count") int count);
+
+    /**
+     * 상품의 재고를 증가시킵니다. 주문 취소 시 재고를 복구하는 데 사용됩니다.
+     *
+     * @param itemId 재고를 증가시킬 상품의 ID입니다.
+     * @param count 증가시킬 수량입니다.
+     * @return 변경된 행의 수를 반환합니다. 상품이 없으면 0을 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Item i set i.stockNumber = i.stockNumber + :count where i.id = :itemId")
+    int increaseStock(@Param("itemId") Long itemId, @Param("count") int count);
+
+    /**
+     * 모든 상품의 ID, 상품명, 상세 설명 요약을 조회합니다. 상품 검색 색인을 구성할 때 사용됩니다.
+     * 상세 설명 전체는 읽지 않습니다.
+     *
+     * @return [상품 ID, 상품명, 상세 설명 요약] 배열의 목록을 반환합니다.
+     */
+    @Query("select i.id, i.itemNm, i.itemSummary from Item i")
+    List<Object[]> findSearchTexts();
+
+    /**
+     * 상품 요약이 없는 상품의 요약을 상세 설명의 앞부분으로 채웁니다.
+     * 상품 요약 컬럼을 도입하기 전에 등록된 상품을 위해 애플리케이션 시작 시 실행됩니다.
+     * HQL의 substring은 LOB 속성을 인자로 받지 않으므로 네이티브 쿼리로 실행합니다.
+     *
+     * @param length 상품 요약의 최대 길이입니다.
+     * @return 변경된 행의 수를 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update item set item_summary = substring(item_detail, 1, :length) where item_summary is null",
+            nativeQuery = true)
+    int fillMissingItemSummaries(@Param("length") int length);
+
+    /**
+     * 상품 목록 읽기 모델({@link com.shop.shopmasterclone.entity.CatalogEntry}) 항목이 없는 상품을
+     * 주어진 상품 ID 다음부터 상품 ID 오름차순으로 조회합니다.
+     * 애플리케이션 시작 시 읽기 모델을 일정한 크기의 묶음으로 나누어 채울 때 사용됩니다.
+     *
+     * @param lastItemId 이전 묶음의 마지막 상품 ID입니다. 처음 조회할 때는 0을 전달합니다.
+     * @param pageable 한 번에 조회할 상품 수입니다. 정렬은 쿼리에 지정된 상품 ID 순서를 따릅니다.
+     * @return 읽기 모델 항목이 없는 상품 목록을 반환합니다.
+     */
+    @Query("select i from Item i where i.id > :lastItemId"
+            + " and not exists (select c.id from CatalogEntry c where c.id = i.id) order by i.id asc")
+    List<Item> findItemsWithoutCatalogEntry(@Param("lastItemId") Long lastItemId, Pageable pageable);
+
+    /**
+     * 모든 상품의 패싯 값(ID, 판매 상태, 가격, 등록일, 대표 이미지 URL, 등록자)을 조회합니다. 상품 패싯 색인을 구성할 때 사용됩니다.
+     * 대표 이미지 URL은 상품 목록 읽기 모델에서 읽으며, 읽기 모델 항목이 없으면 null입니다.
+     *
+     * @return [상품 ID, 판매 상태, 가격, 등록일, 대표 이미지 URL, 등록자] 배열의 목록을 반환합니다.
+     */
+    @Query("select i.id, i.itemSellStatus, i.price, i.regTime, c.imgUrl, i.createdBy from Item i " +
+            "left join CatalogEntry c on c.id = i.id")
+    List<Object[]> findFacetRows();
+
+    /**
+     * 상품 하나의 패싯 값을 조회합니다. 상품이 변경되었을 때 상품 패싯 색인에 반영하기 위해 사용됩니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return [상품 ID, 판매 상태, 가격, 등록일, 대표 이미지 URL, 등록자] 배열의 목록을 반환합니다. 상품이 없으면 빈 목록을 반환합니다.
+     */
+    @Query("select i.id, i.itemSellStatus, i.price, i.regTime, c.imgUrl, i.createdBy from Item i " +
+            "left join CatalogEntry c on c.id = i.id where i.id = :itemId")
+    List<Object[]> findFacetRowsByItemId(@Param("itemId") Long itemId);
+
+    /**
+     * 모든 상품의 ID, 상품명, 누적 주문 수량을 조회합니다. 상품명 자동 완성 색인을 구성할 때 사용됩니다.
+     *
+     * @return [상품 ID, 상품명, 누적 주문 수량] 배열의 목록을 반환합니다.
+     */
+    @Query("select i.id, i.itemNm, coalesce(sum(oi.count), 0) from Item i " +
+            "left join OrderItem oi on oi.item = i group by i.id, i.itemNm")
+    List<Object[]> findSuggestRows();
+
+    /**
+     * 상품명만 조회합니다. 상품이 변경되었을 때 상품명 자동 완성 색인에 반영하기 위해 사용됩니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 상품명을 반환합니다. 상품이 없으면 빈 Optional을 반환합니다.
+     */
+    @Query("select i.itemNm from Item i where i.id = :itemId")
+    Optional<String> findItemNmById(@Param("itemId") Long itemId);
+
+    /**
+     * 상품 상세 화면에 필요한 상품 정보와 모든 이미지 정보를 한 번의 쿼리로 조회합니다.
+     * 상품과 이미지를 외부 조인하므로 이미지마다 한 행이 반환되며, 이미지가 없는 상품은 이미지 컬럼이 null인 한 행이 반환됩니다.
+     * 지연 로딩되는 상세 설명도 함께 조회하므로 상품 엔티티를 읽은 뒤 상세 설명을 다시 조회하지 않습니다.
+     * <p>
+     * 상세 설명(LOB)은 이미지 행마다 반복되어 전송되므로, 이미지가 N개인 상품은 상세 설명을 N번 읽습니다.
+     * 상품 등록 화면에서 올릴 수 있는 이미지는 5개이고 결과는 {@code ItemDetailCache}에 보관되므로, 쿼리를 나누는 대신 한 번의 왕복을 택합니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 상품 정보와 이미지 정보를 담은 행 목록을 이미지 ID 오름차순으로 반환합니다. 상품이 없으면 빈 목록을 반환합니다.
+     */
+    @Query("select new com.shop.shopmasterclone.dto.ItemDetailRow(" +
+            "i.id, i.itemNm, i.price, i.itemDetail, i.itemSellStatus, i.stockShardCount, " +
+            "img.id, img.imgName, img.oriImgName, img.imgUrl, img.repimgYn) from Item i " +
+            "left join ItemImg img on img.item = i where i.id = :itemId order by img.id asc")
+    List<ItemDetailRow> findDetailRowsByItemId(@Param("itemId") Long itemId);
 }
@@ -2,13 +2,14 @@ package com.shop.shopmasterclone.repository;
 
 
 import com.shop.shopmasterclone.dto.ItemSearchDto;
-import com.shop.shopmasterclone.dto.MainItemDto;
 import com.shop.shopmasterclone.entity.Item;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+
 public interface ItemRepositoryCustom {
 
     Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable);
-    Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable);
+    Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Collection<Long> itemIds, Pageable pageable);
 }
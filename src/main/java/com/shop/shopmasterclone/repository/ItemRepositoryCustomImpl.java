@@ -1,59 +1,54 @@
 package com.shop.shopmasterclone.repository;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.shop.shopmasterclone.constant.ItemSellStatus;
 import com.shop.shopmasterclone.dto.ItemSearchDto;
-import com.shop.shopmasterclone.dto.MainItemDto;
-import com.shop.shopmasterclone.dto.QMainItemDto;
 import com.shop.shopmasterclone.entity.Item;
-import com.shop.shopmasterclone.entity.QItem;
-import com.shop.shopmasterclone.entity.QItemImg;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.thymeleaf.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * 상품 정보에 대한 커스텀 쿼리 메서드를 제공하는 구현 클래스입니다.
- * {@link com.querydsl.jpa.impl.JPAQueryFactory}를 사용하여 구현되었으며,
  * {@link jakarta.persistence.EntityManager}를 통해 JPA 쿼리를 생성합니다.
+ *
+ * <p>페이지의 전체 개수는 {@link PageableExecutionUtils}로 구하므로, 첫 페이지나 마지막 페이지처럼 조회 결과만으로
+ * 전체 개수를 알 수 있으면 개수 쿼리를 실행하지 않습니다. 개수 쿼리가 필요하면 {@link ItemCountCache}에 보관된 값을 재사용합니다.</p>
+ *
+ * <p>관리자 페이지 조회는 조건 조합이 정해져 있으므로 Querydsl 대신 {@link AdminItemQueryTemplates}에 형태별로 보관된 JPQL을 사용합니다.</p>
  */
 public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
 
-    private JPAQueryFactory queryFactory;
+    private EntityManager entityManager;
 
-    /**
-     * 생성자를 통해 {@link EntityManager}를 받아 {@link JPAQueryFactory} 인스턴스를 초기화합니다.
-     *
-     * @param entityManager JPA 엔티티 관리자
-     */
-    public ItemRepositoryCustomImpl(EntityManager entityManager){
-        this.queryFactory=new JPAQueryFactory(entityManager);
-    }
+    private ItemCountCache itemCountCache;
+
+    private final AdminItemQueryTemplates adminItemQueryTemplates = new AdminItemQueryTemplates();
 
     /**
-     * 판매 상태에 따른 검색 조건을 반환합니다.
+     * 생성자를 통해 쿼리를 실행할 {@link EntityManager}를 받습니다.
      *
-     * @param searchSellStatus 검색하려는 상품의 판매 상태
-     * @return 판매 상태에 해당하는 BooleanExpression 조건, 검색 조건이 null일 경우 null 반환
+     * @param entityManager JPA 엔티티 관리자
+     * @param itemCountCache 검색 조건별 전체 개수 캐시
      */
-    private BooleanExpression searchSellStatusEq(ItemSellStatus searchSellStatus){
-        return searchSellStatus == null ? null : QItem.item.itemSellStatus.eq(searchSellStatus);
+    public ItemRepositoryCustomImpl(EntityManager entityManager, ItemCountCache itemCountCache){
+        this.entityManager = entityManager;
+        this.itemCountCache = itemCountCache;
     }
 
     /**
-     * 등록 날짜 기준으로 검색 조건을 반환합니다.
+     * 등록 날짜 조건의 기준 시각을 반환합니다.
      *
      * @param searchDateType 검색하려는 기간 ('1d', '1w', '1m', '6m')
-     * @return 등록 날짜 기준 검색 조건, 검색 기간이 'all'이거나 null일 경우 null 반환
+     * @return 이 시각 이후에 등록된 상품을 검색합니다. 검색 기간이 'all'이거나 null일 경우 null 반환
      * @throws IllegalArgumentException 유효하지 않은 검색 기간이 입력될 경우 예외 발생
      */
-    private BooleanExpression regDtsAfter(String searchDateType){
+    private LocalDateTime regTimeAfter(String searchDateType){
 
         if (StringUtils.equals("all", searchDateType) || searchDateType == null) {
             return null;
@@ -61,105 +56,84 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom{
 
         LocalDateTime dateTime = LocalDateTime.now();
 
-        dateTime = switch (searchDateType) {
+        return switch (searchDateType) {
             case "1d" -> dateTime.minusDays(1);
             case "1w" -> dateTime.minusWeeks(1);
             case "1m" -> dateTime.minusMonths(1);
             case "6m" -> dateTime.minusMonths(6);
             default -> throw new IllegalArgumentException("Invalid searchDateType: " + searchDateType);
         };
-
-        return QItem.item.regTime.after(dateTime);
     }
 
     /**
-     * 검색어에 따른 검색 조건을 반환합니다.
+     * 관리자 페이지용 상품 페이지 조회 기능을 제공합니다.
      *
-     * @param searchBy 검색 필드 ('itemNm', 'createdBy')
-     * @param searchQuery 사용자가 입력한 검색어
-     * @return 검색 필드와 검색어에 해당하는 BooleanExpression 조건, 검색 필드 또는 검색어가 null일 경우 null 반환
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @param pageable 페이징 정보
+     * @return 검색 조건과 일치하는 상품의 페이지 객체
      */
-    private BooleanExpression searchByLike(String searchBy, String searchQuery){
-        if ("itemNm".equals(searchBy)) {
-            return QItem.item.itemNm.like("%" + searchQuery + "%");
-        } else if ("createdBy".equals(searchBy)) {
-            return QItem.item.createdBy.like("%" + searchQuery + "%");
-        }
-        return null;
+    @Override
+    public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
+        return fetchAdminItemPage(itemSearchDto, null, pageable);
     }
 
     /**
-     * 관리자 페이지용 상품 페이지 조회 기능을 제공합니다.
+     * 상품 검색 색인으로 찾은 상품 ID 목록을 검색 조건으로 사용하여 관리자 페이지용 상품 페이지를 조회합니다.
+     * {@code like} 조건 대신 기본 키 IN 조건을 사용하므로 테이블 전체를 읽지 않습니다.
      *
-     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @param itemSearchDto 날짜와 판매 상태 검색 조건을 담은 DTO
+     * @param itemIds 검색어와 일치하는 상품 ID 목록, IN 조건에 그대로 바인딩되므로 {@code ItemSearchIndex#searchLatest}처럼 개수가 제한된 목록이어야 함
      * @param pageable 페이징 정보
      * @return 검색 조건과 일치하는 상품의 페이지 객체
      */
     @Override
-    public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
-        List<Item> content = queryFactory
-                .selectFrom(QItem.item)
-                .where(regDtsAfter(itemSearchDto.getSearchDateType()),
-                        searchSellStatusEq(itemSearchDto.getSearchSellStatus()),
-                        searchByLike(itemSearchDto.getSearchBy(), itemSearchDto.getSearchQuery()))
-                .orderBy(QItem.item.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        return new PageImpl<>(content, pageable, content.size());
+    public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Collection<Long> itemIds, Pageable pageable) {
+        if(itemIds.isEmpty()){
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        return fetchAdminItemPage(itemSearchDto, itemIds, pageable);
     }
 
     /**
-     * 상품명을 포함하는 검색 조건을 생성합니다.
-     * 이 메서드는 사용자가 입력한 검색어를 포함하는 상품명에 대해 검색할 때 사용되며,
-     * Querydsl의 like 연산자를 활용하여 구현됩니다.
-     *
-     * @param searchQuery 사용자가 입력한 검색어. 상품명에 이 문자열이 포함되어 있는 상품을 검색합니다.
-     *                    검색어는 부분 일치를 사용하여, 해당 문자열을 포함하는 모든 상품명이 대상이 됩니다.
-     * @return 상품명에 입력된 검색어를 포함하는 조건을 나타내는 BooleanExpression.
-     *         검색어가 비어 있거나 null일 경우, null을 반환하여 검색 조건에서 제외됩니다.
+     * 검색 조건의 형태에 해당하는 {@link AdminItemQueryTemplates} 템플릿으로 관리자 페이지용 상품 페이지를 조회합니다.
+     * 요청마다 쿼리를 새로 만들지 않고 조건 값만 바인딩합니다.
      */
-    private BooleanExpression itemNmLike(String searchQuery){
-        return StringUtils.isEmpty(searchQuery) ? null : QItem.item.itemNm.like("%"+searchQuery+"%");
+    private Page<Item> fetchAdminItemPage(ItemSearchDto itemSearchDto, Collection<Long> itemIds, Pageable pageable) {
+        AdminItemQueryTemplates.Shape shape = AdminItemQueryTemplates.Shape.of(itemSearchDto, itemIds != null);
+        AdminItemQueryTemplates.Template template = adminItemQueryTemplates.get(shape);
+        LocalDateTime regTimeAfter = regTimeAfter(itemSearchDto.getSearchDateType());
+
+        List<Item> content = AdminItemQueryTemplates.bind(
+                        entityManager.createQuery(template.contentJpql(), Item.class),
+                        shape, itemSearchDto, regTimeAfter, itemIds)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        String countKey = "admin|" + itemSearchDto.getSearchDateType() + "|" + itemSearchDto.getSearchSellStatus()
+                + "|" + itemSearchDto.getSearchBy() + "|" + itemSearchDto.getSearchQuery()
+                + "|" + itemSearchDto.getMinPrice() + "|" + itemSearchDto.getMaxPrice();
+        return PageableExecutionUtils.getPage(content, pageable, () -> itemCountCache.getCount(countKey,
+                () -> countAdminItems(template, shape, itemSearchDto, regTimeAfter, itemIds)));
     }
 
     /**
-     * 메인 페이지용 상품 DTO 페이지 조회 기능을 제공합니다.
-     *
-     * @param itemSearchDto 상품 검색 조건을 담은 DTO
-     * @param pageable 페이징 정보
-     * @return 검색 조건과 일치하는 MainItemDto의 페이지 객체
+     * 관리자 검색 조건에 해당하는 상품 수를 템플릿으로 셉니다. 근사 개수 모드에서는 상한까지만 상품 ID를 읽어 개수를 구합니다.
      */
-    @Override
-    public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable) {
-        // QItem과 QItemImg의 인스턴스를 생성합니다. Querydsl을 사용하여 쿼리를 타입 안전하게 구성합니다
-        QItem item = QItem.item;
-        QItemImg itemImg = QItemImg.itemImg;
-
-        // 메인 페이지에 표시될 상품 목록을 조회합니다.
-        List<MainItemDto> mainItemDtoList = queryFactory
-                .select(
-                        // DTO 생성자를 사용하여 조회 결과를 MainItemDto 타입으로 프로젝션합니다.
-                        // 이때, 상품의 기본 정보 및 대표 이미지 URL, 가격 정보를 선택합니다.
-                        new QMainItemDto(
-                                item.id,
-                                item.itemNm,
-                                item.itemDetail,
-                                itemImg.imgUrl,
-                                item.price)
-                                )
-                .from(itemImg)                                      // 대표 이미지를 가진 상품 이미지에서 시작하는 쿼리입니다.
-                .join(itemImg.item, item)                           // 상품 이미지와 상품 엔티티를 조인합니다. 이때, itemImg의 item 속성과 item 엔티티를 연결합니다.
-                .where(itemImg.repimgYn.eq("Y"))               //대표 이미지 여부가 'Y'인 항목만 필터링합니다.
-                .where(itemNmLike(itemSearchDto.getSearchQuery())) // 사용자가 입력한 검색어로 상품명을 필터링합니다. itemNmLike 메서드는 해당 검색어를 포함하는 상품명에 대한 조건을 생성합니다.
-                .orderBy(item.id.desc())                            // 상품 ID를 기준으로 내림차순으로 정렬합니다. 새로 등록된 상품이 먼저 나타나도록 합니다.
-                .offset(pageable.getOffset())                       // 페이징 처리를 위해, 건너뛸 레코드 수를 지정합니다.
-                .limit(pageable.getPageSize())                      // 한 페이지에 표시할 레코드 수를 제한합니다.
-                .fetch();                                           // 쿼리를 실행하고 결과를 리스트로 가져옵니다.
-
-        // 조회된 상품 목록, 페이징 정보, 전체 항목 수를 이용하여 Page 객체를 생성하고 반환합니다.
-        // 이때, 전체 항목 수는 mainItemDtoList의 크기를 사용합니다. 실제 애플리케이션에서는 전체 항목 수를 정확히 계산하기 위해 별도의 쿼리를 실행할 수 있습니다.
-        return new PageImpl<>(mainItemDtoList, pageable, mainItemDtoList.size());
+    private long countAdminItems(AdminItemQueryTemplates.Template template, AdminItemQueryTemplates.Shape shape,
+                                 ItemSearchDto itemSearchDto, LocalDateTime regTimeAfter, Collection<Long> itemIds){
+        if(itemCountCache.isApproximate()){
+            return AdminItemQueryTemplates.bind(
+                            entityManager.createQuery(template.idJpql(), Long.class),
+                            shape, itemSearchDto, regTimeAfter, itemIds)
+                    .setMaxResults(itemCountCache.getApproximateLimit())
+                    .getResultList()
+                    .size();
+        }
+        Long count = AdminItemQueryTemplates.bind(
+                        entityManager.createQuery(template.countJpql(), Long.class),
+                        shape, itemSearchDto, regTimeAfter, itemIds)
+                .getSingleResult();
+        return count == null ? 0 : count;
     }
 }
@@ -0,0 +1,90 @@
+package com.shop.shopmasterclone.repository;
+
+import com.shop.shopmasterclone.entity.ItemStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 상품 재고 샤드 데이터에 접근하기 위한 JPA 리포지토리 인터페이스입니다.
+ * 샤드 단위의 조건부 재고 차감과 상품별 재고 합계 조회 기능을 제공합니다.
+ */
+public interface ItemStockShardRepository extends JpaRepository<ItemStockShard, Long> {
+
+    /**
+     * 주어진 상품의 모든 재고 샤드를 샤드 번호 오름차순으로 조회합니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 상품의 재고 샤드 목록을 반환합니다.
+     */
+    List<ItemStockShard> findByItemIdOrderByShardNoAsc(Long itemId);
+
+    /**
+     * 주어진 상품의 모든 재고 샤드를 샤드 번호 오름차순으로 조회하면서 쓰기 잠금을 겁니다.
+     * 여러 샤드에 걸쳐 재고를 차감하거나 샤드를 다시 나눌 때, 그 사이에 다른 주문이 샤드 재고를 바꾸지 못하도록 사용됩니다.
+     * 교착 상태를 피하기 위해 상품 행을 먼저 잠근 뒤 호출하며, 샤드는 항상 샤드 번호 순서로 잠깁니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 잠긴 재고 샤드 목록을 반환합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ItemStockShard s where s.item.id = :itemId order by s.shardNo asc")
+    List<ItemStockShard> findByItemIdForUpdate(@Param("itemId") Long itemId);
+
+    /**
+     * 주어진 상품의 모든 샤드 재고를 합산합니다. 화면에 표시할 전체 재고를 계산하는 데 사용됩니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 샤드 재고의 합계를 반환합니다. 샤드가 없으면 0을 반환합니다.
+     */
+    @Query("select coalesce(sum(s.stockNumber), 0) from ItemStockShard s where s.item.id = :itemId")
+    Long sumStockNumberByItemId(@Param("itemId") Long itemId);
+
+    /**
+     * 샤딩된 모든 상품의 ID와 샤드 재고 합계를 조회합니다. 재고 원장을 재구성할 때 사용됩니다.
+     *
+     * @return [상품 ID, 샤드 재고 합계] 배열의 목록을 반환합니다.
+     */
+    @Query("select s.item.id, sum(s.stockNumber) from ItemStockShard s group by s.item.id")
+    List<Object[]> sumStockNumbersGroupByItemId();
+
+    /**
+     * 지정한 샤드의 재고가 충분한 경우에만 재고를 차감합니다.
+     *
+     * @param itemId 재고를 차감할 상품의 ID입니다.
+     * @param shardNo 차감할 샤드 번호입니다.
+     * @param count 차감할 수량입니다.
+     * @return 변경된 행의 수를 반환합니다. 샤드의 재고가 부족하면 0을 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ItemStockShard s set s.stockNumber = s.stockNumber - :count " +
+            "where s.item.id = :itemId and s.shardNo = :shardNo and s.stockNumber >= :count")
+    int decreaseStock(@Param("itemId") Long itemId, @Param("shardNo") int shardNo, @Param("count") int count);
+
+    /**
+     * 지정한 샤드의 재고를 증가시킵니다.
+     *
+     * @param itemId 재고를 증가시킬 상품의 ID입니다.
+     * @param shardNo 증가시킬 샤드 번호입니다.
+     * @param count 증가시킬 수량입니다.
+     * @return 변경된 행의 수를 반환합니다. 샤드가 없으면 0을 반환합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ItemStockShard s set s.stockNumber = s.stockNumber + :count " +
+            "where s.item.id = :itemId and s.shardNo = :shardNo")
+    int increaseStock(@Param("itemId") Long itemId, @Param("shardNo") int shardNo, @Param("count") int count);
+
+    /**
+     * 주어진 상품의 모든 재고 샤드를 삭제합니다.
+     *
+     * @param itemId 샤드를 삭제할 상품의 ID입니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ItemStockShard s where s.item.id = :itemId")
+    void deleteByItemId(@Param("itemId") Long itemId);
+}
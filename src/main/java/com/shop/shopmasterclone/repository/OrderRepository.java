@@ -1,26 +1,66 @@
 package com.shop.shopmasterclone.repository;
 
 import com.shop.shopmasterclone.entity.Order;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
+    /**
+     * 주문을 비관적 쓰기 잠금으로 조회합니다. 같은 주문에 대한 취소 요청이 동시에 들어와도
+     * 하나씩 주문 상태를 확인하도록 하여, 재고가 두 번 복구되지 않게 합니다.
+     *
+     * @param orderId 조회할 주문의 ID입니다.
+     * @return 잠긴 주문을 반환합니다. 주문이 없으면 빈 Optional을 반환합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id = :orderId")
+    Optional<Order> findByIdForUpdate(@Param("orderId") Long orderId);
 
     /**
-     * 사용자 이메일에 해당하는 주문 목록을 조회합니다.
-     * 주문은 주문 날짜의 내림차순으로 정렬됩니다.
+     * 사용자 이메일에 해당하는 주문 ID 목록을 조회합니다.
+     * 주문은 주문 날짜의 내림차순, 같은 날짜는 주문 ID의 내림차순으로 정렬됩니다.
      *
      * @param email 조회할 사용자의 이메일 주소입니다.
      * @param pageable 페이징 처리 정보를 담고 있는 Pageable 객체입니다.
-     * @return 조회된 주문 목록을 반환합니다. 페이징 처리가 적용됩니다.
+     * @return 조회된 주문 ID 목록을 반환합니다. 페이징 처리가 적용됩니다.
+     */
+    @Query("select o.id from Order o where o.member.email = :email order by o.orderDate desc, o.id desc")
+    List<Long> findOrderIds(@Param("email") String email, Pageable pageable);
+
+    /**
+     * 사용자의 최근 주문을 (주문 날짜, 주문 ID)의 내림차순으로 조회합니다. 커서 기반 조회의 첫 페이지에 사용됩니다.
+     *
+     * @param email 조회할 사용자의 이메일 주소입니다.
+     * @param pageable 조회할 주문의 수를 지정하는 Pageable 객체입니다. 첫 페이지(0)만 사용해야 합니다.
+     * @return 조회된 주문 목록을 반환합니다.
+     */
+    @Query("select o from Order o where o.member.email = :email order by o.orderDate desc, o.id desc")
+    List<Order> findFirstOrders(@Param("email") String email, Pageable pageable);
+
+    /**
+     * 주어진 커서 (주문 날짜, 주문 ID)보다 이전의 주문을 (주문 날짜, 주문 ID)의 내림차순으로 조회합니다.
+     * OFFSET 없이 인덱스에서 커서 위치를 바로 찾아 읽으므로, 페이지가 깊어져도 건너뛴 행을 읽지 않습니다.
+     *
+     * @param email 조회할 사용자의 이메일 주소입니다.
+     * @param orderDate 이전 페이지의 마지막 주문 날짜입니다.
+     * @param orderId 이전 페이지의 마지막 주문 ID입니다.
+     * @param pageable 조회할 주문의 수를 지정하는 Pageable 객체입니다. 첫 페이지(0)만 사용해야 합니다.
+     * @return 조회된 주문 목록을 반환합니다.
      */
-    @Query("select o from Order o  where o.member.email = :email order by o.orderDate desc")
-    List<Order> findOrders(@Param("email") String email, Pageable pageable);
+    @Query("select o from Order o where o.member.email = :email " +
+            "and (o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :orderId)) " +
+            "order by o.orderDate desc, o.id desc")
+    List<Order> findOrdersBefore(@Param("email") String email, @Param("orderDate") LocalDateTime orderDate,
+                                 @Param("orderId") Long orderId, Pageable pageable);
 
     /**
      * 사용자 이메일에 해당하는 주문의 총 개수를 조회합니다.
@@ -0,0 +1,10 @@
+package com.shop.shopmasterclone.repository;
+
+import com.shop.shopmasterclone.dto.OrderHistDto;
+
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    List<OrderHistDto> getOrderHistDtos(List<Long> orderIds);
+}
@@ -0,0 +1,85 @@
+package com.shop.shopmasterclone.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shopmasterclone.dto.OrderHistDto;
+import com.shop.shopmasterclone.dto.OrderItemDto;
+import com.shop.shopmasterclone.entity.QItem;
+import com.shop.shopmasterclone.entity.QOrder;
+import com.shop.shopmasterclone.entity.QOrderItem;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 정보에 대한 커스텀 쿼리 메서드를 제공하는 구현 클래스입니다.
+ * {@link com.querydsl.jpa.impl.JPAQueryFactory}를 사용하여 구현되었으며,
+ * {@link jakarta.persistence.EntityManager}를 통해 JPA 쿼리를 생성합니다.
+ */
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private JPAQueryFactory queryFactory;
+
+    /**
+     * 생성자를 통해 {@link EntityManager}를 받아 {@link JPAQueryFactory} 인스턴스를 초기화합니다.
+     *
+     * @param entityManager JPA 엔티티 관리자
+     */
+    public OrderRepositoryCustomImpl(EntityManager entityManager){
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    /**
+     * 주문 내역 화면에 필요한 컬럼만 조회하여 주문 내역 DTO 목록을 생성합니다.
+     * 주문에 주문 항목과 상품을 외부 조인하여 하나의 쿼리로 평평한 행으로 조회한 뒤,
+     * 한 번의 순회로 주문별 DTO에 주문 항목 DTO를 채웁니다. 주문 항목이 없는 주문도 빈 주문 항목 목록으로 포함됩니다. 엔티티를 영속성 컨텍스트에 올리지 않으며,
+     * 상품 상세 설명(itemDetail)처럼 화면에 필요 없는 컬럼은 읽지 않습니다.
+     * 대표 이미지 URL은 채우지 않으며, 호출하는 쪽에서 대표 이미지 URL 캐시로 채웁니다.
+     *
+     * @param orderIds 조회할 주문 ID 목록
+     * @return 주어진 주문 ID 순서대로 정렬된 주문 내역 DTO 목록
+     */
+    @Override
+    public List<OrderHistDto> getOrderHistDtos(List<Long> orderIds) {
+        List<OrderHistDto> orderHistDtos = new ArrayList<>(orderIds.size());
+        if(orderIds.isEmpty()){
+            return orderHistDtos;
+        }
+
+        QOrder order = QOrder.order;
+        QOrderItem orderItem = QOrderItem.orderItem;
+        QItem item = QItem.item;
+
+        List<Tuple> rows = queryFactory
+                .select(order.id, order.orderStatus, order.orderDate,
+                        item.id, item.itemNm, orderItem.count, orderItem.orderPrice)
+                .from(order)
+                .leftJoin(order.orderItems, orderItem)
+                .leftJoin(orderItem.item, item)
+                .where(order.id.in(orderIds))
+                .orderBy(orderItem.id.asc())
+                .fetch();
+
+        Map<Long, OrderHistDto> orderHistDtoMap = new HashMap<>();
+        for(Tuple row : rows){
+            OrderHistDto orderHistDto = orderHistDtoMap.computeIfAbsent(row.get(order.id),
+                    orderId -> new OrderHistDto(orderId, row.get(order.orderStatus), row.get(order.orderDate)));
+            if(row.get(item.id) == null){
+                continue;
+            }
+            orderHistDto.addOrderItemDto(new OrderItemDto(
+                    row.get(item.id), row.get(item.itemNm), row.get(orderItem.count), row.get(orderItem.orderPrice)));
+        }
+
+        for(Long orderId : orderIds){
+            OrderHistDto orderHistDto = orderHistDtoMap.get(orderId);
+            if(orderHistDto != null){
+                orderHistDtos.add(orderHistDto);
+            }
+        }
+        return orderHistDtos;
+    }
+}
@@ -2,9 +2,9 @@ package com.shop.shopmasterclone.service;
 
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.UUID;
 
@@ -19,26 +19,28 @@ import java.util.UUID;
 public class FileService {
 
     /**
-     * 지정된 경로에 파일을 업로드하는 메서드입니다.
+     * 업로드된 멀티파트 파일을 지정된 경로에 저장하는 메서드입니다.
+     * <p>
+     * 멀티파트 요청의 파일은 서블릿 컨테이너가 이미 임시 파일로 받아 두었으므로, {@link MultipartFile#transferTo(File)}로
+     * 임시 파일을 저장 위치로 옮깁니다. 임시 파일과 저장 위치가 같은 파일 시스템에 있으면 이름만 바뀌고,
+     * 그렇지 않으면 파일 단위로 복사됩니다. 어느 경우에도 파일 데이터 전체를 힙의 byte 배열로 읽지 않습니다.
      *
      * @param uploadPath 파일을 업로드할 서버의 경로
      * @param originalFileName 원본 파일의 이름, 확장자를 추출하기 위해 사용됩니다.
-     * @param fileData 업로드할 파일의 데이터
+     * @param file 저장할 멀티파트 파일
      * @return 저장된 파일의 이름을 반환합니다. UUID를 사용하여 고유한 파일명을 생성합니다.
      * @throws Exception 파일 업로드 과정에서 발생할 수 있는 예외
      */
     public String uploadFile(
             String uploadPath,
             String originalFileName,
-            byte[] fileData
+            MultipartFile file
     ) throws Exception {
-        UUID uuid = UUID.randomUUID();
-        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        String savedFileName = uuid.toString() + extension;
-        String fileUploadFullUrl = uploadPath + "/" + savedFileName;
+        String savedFileName = createSavedFileName(originalFileName);
+        File savedFile = new File(uploadPath, savedFileName).getAbsoluteFile();
 
-        try (FileOutputStream fileOutputStream = new FileOutputStream(fileUploadFullUrl)) {
-            fileOutputStream.write(fileData);
+        try {
+            file.transferTo(savedFile);
         } catch (IOException e) {
             log.error("파일 업로드 중 에러 발생: {}", e.getMessage(), e);
             throw new RuntimeException("파일 업로드 중 에러가 발생했습니다.", e);
@@ -46,6 +48,14 @@ public class FileService {
         return savedFileName;
     }
 
+    /**
+     * UUID와 원본 파일의 확장자로 저장할 파일 이름을 만듭니다.
+     */
+    private String createSavedFileName(String originalFileName){
+        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        return UUID.randomUUID() + extension;
+    }
+
     /**
      * 지정된 파일 경로의 파일을 삭제하는 메서드입니다.
      *
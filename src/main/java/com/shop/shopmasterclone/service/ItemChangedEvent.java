@@ -0,0 +1,10 @@
+package com.shop.shopmasterclone.service;
+
+/**
+ * 상품 정보나 상품 이미지가 등록 또는 수정되었음을 알리는 이벤트입니다.
+ * {@link ItemService}가 발행하며, 상품 목록을 보관하는 캐시가 이 이벤트를 받아 항목을 무효화합니다.
+ *
+ * @param itemId 변경된 상품의 ID
+ */
+public record ItemChangedEvent(Long itemId) {
+}
@@ -0,0 +1,242 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.dto.ItemDetailSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 페이지의 {@link ItemDetailSnapshot}을 상품 ID별로 보관하는 읽기 캐시입니다.
+ * <p>
+ * 캐시에 없는 상품은 호출한 쪽의 로더로 조회하여 채웁니다. 같은 상품을 여러 요청이 동시에 조회하면 한 요청만 로더를 실행하고,
+ * 나머지 요청은 그 결과를 기다려 함께 사용합니다. 캐시 크기는 항목 수가 아니라 스냅샷의 추정 크기 합계로 제한되며,
+ * {@code item.detail-cache.max-bytes}를 넘으면 가장 오래 사용되지 않은 항목부터 제거됩니다.
+ * <p>
+ * 상품이나 상품 이미지가 변경되면 {@link #invalidate(Long)}로 해당 상품의 버전을 올리고 항목을 제거합니다.
+ * 로더는 조회를 시작할 때의 버전을 기억하며, 조회하는 동안 버전이 바뀌었으면 결과를 캐시에 넣지 않습니다.
+ * 변경한 트랜잭션 안에서는 해당 상품에 캐시를 사용하지 않으며, 트랜잭션이 끝나면(커밋 또는 롤백) 한 번 더 무효화합니다.
+ * <p>
+ * 재고는 주문마다 바뀌므로 스냅샷에 포함하지 않으며, 호출하는 쪽에서 매번 새로 조회합니다.
+ */
+@Component
+public class ItemDetailCache {
+
+    /**
+     * 상품 버전을 나누어 보관하는 칸의 수입니다. 상품 ID마다 버전을 따로 두지 않아 메모리 사용량이 늘지 않으며,
+     * 같은 칸의 다른 상품이 변경되어도 불필요하게 다시 조회될 뿐 오래된 값이 보관되지는 않습니다.
+     */
+    private static final int VERSION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final long maxBytes;
+
+    private final LinkedHashMap<Long, CachedDetail> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final ConcurrentHashMap<Long, CompletableFuture<ItemDetailSnapshot>> loading = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Counter evictionCounter;
+
+    public ItemDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${item.detail-cache.enabled:true}") boolean enabled,
+            @Value("${item.detail-cache.max-bytes:67108864}") long maxBytes
+    ){
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+
+        this.hitCounter = Counter.builder("item.detail.cache.hits")
+                .description("캐시에서 찾은 상품 상세 수").register(meterRegistry);
+        this.missCounter = Counter.builder("item.detail.cache.misses")
+                .description("캐시에 없어 데이터베이스에서 조회한 상품 상세 수").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("item.detail.cache.coalesced")
+                .description("다른 요청의 조회 결과를 기다려 함께 사용한 상품 상세 수").register(meterRegistry);
+        this.evictionCounter = Counter.builder("item.detail.cache.evictions")
+                .description("캐시 크기 제한으로 제거된 항목 수").register(meterRegistry);
+        Gauge.builder("item.detail.cache.size", this, ItemDetailCache::size)
+                .description("캐시에 적재된 상품 수").register(meterRegistry);
+        Gauge.builder("item.detail.cache.bytes", this, ItemDetailCache::bytes)
+                .description("캐시에 적재된 스냅샷의 추정 크기 합계").register(meterRegistry);
+    }
+
+    private record CachedDetail(ItemDetailSnapshot snapshot, long bytes) {
+    }
+
+    /**
+     * 상품 상세 스냅샷을 반환합니다. 캐시에 없으면 로더로 조회하여 캐시에 채우며, 같은 상품을 이미 조회 중인 요청이 있으면 그 결과를 기다립니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @param loader 캐시에 없을 때 상품 상세 스냅샷을 조회하는 함수입니다.
+     * @return 상품 상세 스냅샷을 반환합니다.
+     */
+    public ItemDetailSnapshot get(Long itemId, Supplier<ItemDetailSnapshot> loader){
+        if(!enabled || currentChangedItemIds().contains(itemId)){
+            return loader.get();
+        }
+
+        synchronized (entries){
+            CachedDetail cached = entries.get(itemId);
+            if(cached != null){
+                hitCounter.increment();
+                return cached.snapshot();
+            }
+        }
+
+        CompletableFuture<ItemDetailSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<ItemDetailSnapshot> existing = loading.putIfAbsent(itemId, created);
+        if(existing != null){
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        missCounter.increment();
+        long version = versions.get(stripe(itemId));
+        try {
+            ItemDetailSnapshot snapshot = loader.get();
+            put(itemId, snapshot, version);
+            created.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e){
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(itemId, created);
+        }
+    }
+
+    /**
+     * 상품이나 상품 이미지가 변경되었을 때 해당 상품의 버전을 올리고 캐시에서 제거합니다.
+     * 트랜잭션 안에서 호출되면 트랜잭션이 끝날 때까지 해당 상품에 캐시를 사용하지 않으며, 트랜잭션이 끝난 뒤 한 번 더 무효화합니다.
+     *
+     * @param itemId 변경된 상품의 ID입니다.
+     */
+    public void invalidate(Long itemId){
+        evict(itemId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            changedItemIds().add(itemId);
+        }
+    }
+
+    /**
+     * 캐시에 적재된 상품 수를 반환합니다.
+     *
+     * @return 캐시 항목 수를 반환합니다.
+     */
+    public int size(){
+        synchronized (entries){
+            return entries.size();
+        }
+    }
+
+    /**
+     * 캐시에 적재된 스냅샷의 추정 크기 합계를 반환합니다.
+     *
+     * @return 추정 크기 합계(바이트)를 반환합니다.
+     */
+    public long bytes(){
+        synchronized (entries){
+            return totalBytes;
+        }
+    }
+
+    /**
+     * 조회를 시작할 때의 버전이 그대로인 경우에만 스냅샷을 캐시에 넣고, 크기 제한을 넘으면 오래된 항목부터 제거합니다.
+     * 제한보다 큰 스냅샷은 캐시에 넣지 않습니다.
+     */
+    private void put(Long itemId, ItemDetailSnapshot snapshot, long version){
+        long bytes = snapshot.estimatedBytes();
+        if(bytes > maxBytes){
+            return;
+        }
+        synchronized (entries){
+            if(versions.get(stripe(itemId)) != version){
+                return;
+            }
+            CachedDetail previous = entries.put(itemId, new CachedDetail(snapshot, bytes));
+            totalBytes += bytes - (previous == null ? 0 : previous.bytes());
+
+            Iterator<Map.Entry<Long, CachedDetail>> iterator = entries.entrySet().iterator();
+            while(totalBytes > maxBytes && iterator.hasNext()){
+                totalBytes -= iterator.next().getValue().bytes();
+                iterator.remove();
+                evictionCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 버전을 올려 조회 중인 결과가 캐시에 들어가지 않도록 하고, 항목과 진행 중인 조회를 제거하여 이후 요청이 새로 조회하도록 합니다.
+     */
+    private void evict(Long itemId){
+        versions.incrementAndGet(stripe(itemId));
+        loading.remove(itemId);
+        synchronized (entries){
+            CachedDetail removed = entries.remove(itemId);
+            if(removed != null){
+                totalBytes -= removed.bytes();
+            }
+        }
+    }
+
+    private static ItemDetailSnapshot await(CompletableFuture<ItemDetailSnapshot> future){
+        try {
+            return future.join();
+        } catch (CompletionException e){
+            if(e.getCause() instanceof RuntimeException cause){
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int stripe(Long itemId){
+        return (Long.hashCode(itemId) & 0x7fffffff) % VERSION_STRIPES;
+    }
+
+    /**
+     * 현재 트랜잭션에서 변경된 상품 ID를 반환하며, 처음 호출될 때 트랜잭션이 끝난 뒤 다시 무효화하도록 등록합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> changedItemIds(){
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if(changed != null){
+            return changed;
+        }
+
+        Set<Long> created = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ItemDetailCache.this);
+                created.forEach(ItemDetailCache.this::evict);
+            }
+        });
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> currentChangedItemIds(){
+        Set<Long> changed = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        return changed == null ? Collections.emptySet() : changed;
+    }
+}
@@ -0,0 +1,367 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.ItemFacetDto;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 상품 검색 결과의 패싯별 상품 수(판매 상태, 가격대, 등록 기간)를 계산하기 위한 메모리 비트셋 색인입니다.
+ * <p>
+ * 상품마다 0부터 시작하는 순번을 부여하고, 패싯 값마다 해당하는 상품의 순번을 {@link BitSet}으로 보관합니다.
+ * 검색 결과의 상품 ID 집합도 비트셋으로 바꾼 뒤 패싯 값의 비트셋과 교집합의 크기를 세므로,
+ * 요청마다 패싯별 GROUP BY 쿼리를 실행하지 않고 상품 수에 비례하는 비트 연산만으로 상품 수를 구합니다.
+ * <p>
+ * 가격대는 {@code item.facet.price-bands}에 지정한 경계값으로 나뉘며, 하한은 포함하고 상한은 포함하지 않습니다.
+ * 등록 기간('1d', '1w', '1m', '6m')은 시간이 지나면 바뀌므로 {@code item.facet.reg-window-refresh-ms}마다 다시 계산됩니다.
+ * 관리자 검색의 등록자 조건도 등록자별 비트셋으로 보관하므로, 등록자 검색어로 패싯을 계산할 때 데이터베이스를 조회하지 않습니다.
+ * <p>
+ * 색인은 애플리케이션 시작 시 데이터베이스에서 구성되며, 상품이 등록되거나 수정되면 {@link ItemChangedEvent}를 받아
+ * 트랜잭션이 커밋된 뒤에 해당 상품을 다시 읽어 반영합니다.
+ */
+@Log4j2
+@Component
+public class ItemFacetIndex {
+
+    /**
+     * 등록 기간 패싯의 값입니다. {@code ItemSearchDto#searchDateType}의 값과 같습니다.
+     */
+    public static final List<String> REG_WINDOWS = List.of("1d", "1w", "1m", "6m");
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final int[] priceBandBounds;
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Long> itemIds = new ArrayList<>();
+    private final List<LocalDateTime> regTimes = new ArrayList<>();
+    private final List<Integer> prices = new ArrayList<>();
+    private final List<String> createdBys = new ArrayList<>();
+
+    /**
+     * 대표 이미지가 있어 메인 페이지에 표시되는 상품입니다.
+     */
+    private final BitSet listed = new BitSet();
+    private final Map<ItemSellStatus, BitSet> sellStatusBits = new EnumMap<>(ItemSellStatus.class);
+    private final BitSet[] priceBandBits;
+    private final Map<String, BitSet> regWindowBits = new LinkedHashMap<>();
+
+    /**
+     * 등록자별 상품입니다. 등록자는 관리자 수만큼만 있으므로, 등록자 검색어는 등록자 이름만 비교하여 찾습니다.
+     */
+    private final Map<String, BitSet> createdByBits = new HashMap<>();
+    private volatile boolean ready;
+
+    public ItemFacetIndex(
+            ItemRepository itemRepository,
+            @Value("${item.facet.enabled:true}") boolean enabled,
+            @Value("${item.facet.price-bands:10000,30000,50000,100000}") int[] priceBandBounds
+    ){
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+        this.priceBandBounds = priceBandBounds.clone();
+        this.priceBandBits = new BitSet[priceBandBounds.length + 1];
+        for(int i = 0; i < priceBandBits.length; i++){
+            priceBandBits[i] = new BitSet();
+        }
+        for(ItemSellStatus sellStatus : ItemSellStatus.values()){
+            sellStatusBits.put(sellStatus, new BitSet());
+        }
+        for(String regWindow : REG_WINDOWS){
+            regWindowBits.put(regWindow, new BitSet());
+        }
+    }
+
+    /**
+     * 색인된 상품 하나의 패싯 값입니다.
+     */
+    private record FacetRow(Long itemId, ItemSellStatus sellStatus, int price, LocalDateTime regTime, boolean listed,
+                            String createdBy) {
+
+        private static FacetRow of(Object[] row){
+            return new FacetRow((Long) row[0], (ItemSellStatus) row[1], (Integer) row[2], (LocalDateTime) row[3], row[4] != null,
+                    (String) row[5]);
+        }
+    }
+
+    /**
+     * 색인을 사용할 수 있는지 여부를 반환합니다. 색인이 비활성화되었거나 아직 구성되지 않았으면 false를 반환합니다.
+     *
+     * @return 색인으로 패싯별 상품 수를 계산할 수 있으면 true를 반환합니다.
+     */
+    public boolean isReady(){
+        return enabled && ready;
+    }
+
+    /**
+     * 데이터베이스의 모든 상품으로 색인을 다시 구성합니다. 애플리케이션 시작 시 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        if(!enabled){
+            return;
+        }
+        ready = false;
+        List<Object[]> rows = itemRepository.findFacetRows();
+        synchronized (this){
+            ordinals.clear();
+            itemIds.clear();
+            regTimes.clear();
+            prices.clear();
+            createdBys.clear();
+            listed.clear();
+            createdByBits.clear();
+            sellStatusBits.values().forEach(BitSet::clear);
+            regWindowBits.values().forEach(BitSet::clear);
+            for(BitSet bits : priceBandBits){
+                bits.clear();
+            }
+            for(Object[] row : rows){
+                apply(FacetRow.of(row));
+            }
+        }
+        ready = true;
+        log.info("상품 패싯 색인을 구성했습니다. 상품 수: {}", rows.size());
+    }
+
+    /**
+     * 상품이 등록되거나 수정되면 트랜잭션이 커밋된 뒤 해당 상품의 패싯 값을 다시 읽어 반영합니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event){
+        if(!enabled){
+            return;
+        }
+        for(Object[] row : itemRepository.findFacetRowsByItemId(event.itemId())){
+            FacetRow facetRow = FacetRow.of(row);
+            synchronized (this){
+                apply(facetRow);
+            }
+        }
+    }
+
+    /**
+     * 시간이 지나 등록 기간을 벗어난 상품이 빠지도록 등록 기간 비트셋을 다시 계산합니다.
+     */
+    @Scheduled(fixedDelayString = "${item.facet.reg-window-refresh-ms:60000}",
+            initialDelayString = "${item.facet.reg-window-refresh-ms:60000}")
+    public synchronized void refreshRegWindows(){
+        if(!isReady()){
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for(String regWindow : REG_WINDOWS){
+            BitSet bits = regWindowBits.get(regWindow);
+            bits.clear();
+            LocalDateTime after = regWindowStart(regWindow, now);
+            for(int ordinal = 0; ordinal < regTimes.size(); ordinal++){
+                LocalDateTime regTime = regTimes.get(ordinal);
+                if(regTime != null && regTime.isAfter(after)){
+                    bits.set(ordinal);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색 결과의 패싯별 상품 수를 계산합니다. 각 패싯의 상품 수는 해당 패싯의 조건을 제외한 나머지 조건으로 계산되므로,
+     * 판매 상태를 선택한 상태에서도 다른 판매 상태의 상품 수를 함께 보여줄 수 있습니다.
+     *
+     * @param matchedItemIds 검색어와 일치하는 상품 ID 목록입니다. 검색어가 없으면 null을 전달합니다.
+     * @param listedOnly 메인 페이지에 표시되는 상품(대표 이미지가 있는 상품)만 세려면 true를 전달합니다.
+     * @param sellStatus 선택한 판매 상태입니다. 선택하지 않았으면 null을 전달합니다.
+     * @param searchDateType 선택한 등록 기간('1d', '1w', '1m', '6m')입니다. 선택하지 않았으면 null 또는 'all'을 전달합니다.
+     * @param minPrice 선택한 최소 가격(포함)입니다. 가격대별 상품 수에는 적용되지 않습니다. 선택하지 않았으면 null을 전달합니다.
+     * @param maxPrice 선택한 최대 가격(포함)입니다. 가격대별 상품 수에는 적용되지 않습니다. 선택하지 않았으면 null을 전달합니다.
+     * @return 판매 상태, 가격대, 등록 기간별 상품 수를 담은 {@link ItemFacetDto}를 반환합니다.
+     */
+    public synchronized ItemFacetDto count(Collection<Long> matchedItemIds, boolean listedOnly,
+                                           ItemSellStatus sellStatus, String searchDateType,
+                                           Integer minPrice, Integer maxPrice){
+        BitSet base = new BitSet(itemIds.size());
+        if(matchedItemIds == null){
+            base.set(0, itemIds.size());
+        } else {
+            for(Long itemId : matchedItemIds){
+                Integer ordinal = ordinals.get(itemId);
+                if(ordinal != null){
+                    base.set(ordinal);
+                }
+            }
+        }
+        return count(base, listedOnly, sellStatus, searchDateType, minPrice, maxPrice);
+    }
+
+    /**
+     * 등록자에 검색어가 포함된 상품의 패싯별 상품 수를 계산합니다. 관리자 상품 검색의 등록자 조건과 같이 부분 일치로 찾으며,
+     * 운영 데이터베이스의 기본 정렬 규칙처럼 대소문자를 구분하지 않습니다.
+     *
+     * @param createdBy 등록자 검색어입니다.
+     * @param listedOnly 메인 페이지에 표시되는 상품(대표 이미지가 있는 상품)만 세려면 true를 전달합니다.
+     * @param sellStatus 선택한 판매 상태입니다. 선택하지 않았으면 null을 전달합니다.
+     * @param searchDateType 선택한 등록 기간('1d', '1w', '1m', '6m')입니다. 선택하지 않았으면 null 또는 'all'을 전달합니다.
+     * @param minPrice 선택한 최소 가격(포함)입니다. 선택하지 않았으면 null을 전달합니다.
+     * @param maxPrice 선택한 최대 가격(포함)입니다. 선택하지 않았으면 null을 전달합니다.
+     * @return 판매 상태, 가격대, 등록 기간별 상품 수를 담은 {@link ItemFacetDto}를 반환합니다.
+     */
+    public synchronized ItemFacetDto countByCreatedBy(String createdBy, boolean listedOnly,
+                                                      ItemSellStatus sellStatus, String searchDateType,
+                                                      Integer minPrice, Integer maxPrice){
+        String query = createdBy.toLowerCase(Locale.ROOT);
+        BitSet base = new BitSet(itemIds.size());
+        createdByBits.forEach((value, bits) -> {
+            if(value.toLowerCase(Locale.ROOT).contains(query)){
+                base.or(bits);
+            }
+        });
+        return count(base, listedOnly, sellStatus, searchDateType, minPrice, maxPrice);
+    }
+
+    /**
+     * 검색 조건에 해당하는 상품의 비트셋으로 패싯별 상품 수를 계산합니다. 호출하는 쪽에서 이 객체로 동기화해야 합니다.
+     */
+    private ItemFacetDto count(BitSet base, boolean listedOnly, ItemSellStatus sellStatus, String searchDateType,
+                               Integer minPrice, Integer maxPrice){
+        if(listedOnly){
+            base.and(listed);
+        }
+
+        BitSet sellStatusFilter = sellStatus == null ? null : sellStatusBits.get(sellStatus);
+        BitSet regWindowFilter = searchDateType == null ? null : regWindowBits.get(searchDateType);
+        BitSet priceFilter = priceRange(minPrice, maxPrice);
+
+        ItemFacetDto itemFacetDto = new ItemFacetDto();
+        BitSet withoutSellStatus = intersect(intersect(base, regWindowFilter), priceFilter);
+        sellStatusBits.forEach((value, bits) ->
+                itemFacetDto.getSellStatusCounts().put(value, intersectionCount(withoutSellStatus, bits)));
+
+        BitSet withoutRegWindow = intersect(intersect(base, sellStatusFilter), priceFilter);
+        regWindowBits.forEach((value, bits) ->
+                itemFacetDto.getRegWindowCounts().put(value, intersectionCount(withoutRegWindow, bits)));
+
+        BitSet withoutPriceBand = intersect(intersect(base, regWindowFilter), sellStatusFilter);
+        for(int band = 0; band < priceBandBits.length; band++){
+            itemFacetDto.getPriceBandCounts().put(priceBandName(band), intersectionCount(withoutPriceBand, priceBandBits[band]));
+        }
+        return itemFacetDto;
+    }
+
+    /**
+     * 상품의 패싯 값을 반영합니다. 처음 보는 상품이면 새 순번을 부여하고, 이미 색인된 상품이면 기존 비트를 지운 뒤 다시 설정합니다.
+     * 호출하는 쪽에서 이 객체로 동기화해야 합니다.
+     */
+    private void apply(FacetRow row){
+        Integer existing = ordinals.get(row.itemId());
+        int ordinal = existing == null ? itemIds.size() : existing;
+        if(existing == null){
+            ordinals.put(row.itemId(), ordinal);
+            itemIds.add(row.itemId());
+            regTimes.add(row.regTime());
+            prices.add(row.price());
+            createdBys.add(row.createdBy());
+        } else {
+            regTimes.set(ordinal, row.regTime());
+            prices.set(ordinal, row.price());
+            String previousCreatedBy = createdBys.set(ordinal, row.createdBy());
+            if(previousCreatedBy != null){
+                createdByBits.get(previousCreatedBy).clear(ordinal);
+            }
+            sellStatusBits.values().forEach(bits -> bits.clear(ordinal));
+            for(BitSet bits : priceBandBits){
+                bits.clear(ordinal);
+            }
+        }
+
+        listed.set(ordinal, row.listed());
+        if(row.sellStatus() != null){
+            sellStatusBits.get(row.sellStatus()).set(ordinal);
+        }
+        priceBandBits[priceBand(row.price())].set(ordinal);
+        if(row.createdBy() != null){
+            createdByBits.computeIfAbsent(row.createdBy(), createdBy -> new BitSet()).set(ordinal);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for(String regWindow : REG_WINDOWS){
+            regWindowBits.get(regWindow).set(ordinal, row.regTime() != null && row.regTime().isAfter(regWindowStart(regWindow, now)));
+        }
+    }
+
+    /**
+     * 가격 범위에 속하는 상품의 비트셋을 반환합니다. 가격 범위가 지정되지 않았으면 null을 반환합니다.
+     * 호출하는 쪽에서 이 객체로 동기화해야 합니다.
+     */
+    private BitSet priceRange(Integer minPrice, Integer maxPrice){
+        if(minPrice == null && maxPrice == null){
+            return null;
+        }
+        BitSet bits = new BitSet(prices.size());
+        for(int ordinal = 0; ordinal < prices.size(); ordinal++){
+            int price = prices.get(ordinal);
+            if((minPrice == null || price >= minPrice) && (maxPrice == null || price <= maxPrice)){
+                bits.set(ordinal);
+            }
+        }
+        return bits;
+    }
+
+    private int priceBand(int price){
+        int band = 0;
+        while(band < priceBandBounds.length && price >= priceBandBounds[band]){
+            band++;
+        }
+        return band;
+    }
+
+    private String priceBandName(int band){
+        String lower = band == 0 ? "0" : String.valueOf(priceBandBounds[band - 1]);
+        String upper = band == priceBandBounds.length ? "" : String.valueOf(priceBandBounds[band]);
+        return lower + "-" + upper;
+    }
+
+    /**
+     * 등록 기간의 시작 시각을 반환합니다. 관리자 상품 검색의 등록일 조건과 같은 기준을 사용합니다.
+     */
+    private static LocalDateTime regWindowStart(String regWindow, LocalDateTime now){
+        return switch (regWindow) {
+            case "1d" -> now.minusDays(1);
+            case "1w" -> now.minusWeeks(1);
+            case "1m" -> now.minusMonths(1);
+            case "6m" -> now.minusMonths(6);
+            default -> throw new IllegalArgumentException("Invalid searchDateType: " + regWindow);
+        };
+    }
+
+    private static BitSet intersect(BitSet bits, BitSet filter){
+        BitSet result = (BitSet) bits.clone();
+        if(filter != null){
+            result.and(filter);
+        }
+        return result;
+    }
+
+    private static int intersectionCount(BitSet bits, BitSet other){
+        BitSet result = (BitSet) bits.clone();
+        result.and(other);
+        return result.cardinality();
+    }
+}
@@ -1,20 +1,27 @@
 package com.shop.shopmasterclone.service;
 
 import com.shop.shopmasterclone.entity.ItemImg;
+import com.shop.shopmasterclone.repository.CatalogEntryRepository;
 import com.shop.shopmasterclone.repository.ItemImgRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.thymeleaf.util.StringUtils;
 
 
 /**
  * 상품 이미지 관련 서비스를 제공하는 클래스입니다. 상품 이미지의 업데이트와 저장을 담당합니다.
+ * 이미지 파일은 트랜잭션 밖에서 {@link ItemImgUploader}로 미리 저장되며, 이 클래스는 저장된 파일 이름으로 이미지 정보를 기록합니다.
+ * 대표 이미지가 저장되거나 변경되면 {@link RepImgUrlCache}의 해당 상품 항목을 제거하고,
+ * 상품 목록 읽기 모델({@link com.shop.shopmasterclone.entity.CatalogEntry})의 대표 이미지 URL을 갱신합니다.
  */
+@Log4j2
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -24,51 +31,92 @@ public class ItemImgService {
 
     private final ItemImgRepository itemImgRepository;
     private final FileService fileService;
+    private final ItemThumbnailService itemThumbnailService;
+    private final RepImgUrlCache repImgUrlCache;
+    private final CatalogEntryRepository catalogEntryRepository;
+    private final ItemDetailCache itemDetailCache;
 
     /**
-     * 주어진 상품 이미지 ID를 사용하여 이미지를 업데이트합니다.
+     * 주어진 상품 이미지 ID의 이미지를 이미 저장된 새 이미지 파일로 교체합니다.
+     * 기존 이미지 파일은 트랜잭션이 커밋된 뒤 삭제되므로, 트랜잭션이 롤백되면 기존 이미지가 그대로 유지됩니다.
      *
      * @param itemImgId     업데이트할 상품 이미지의 ID
-     * @param itemImgFile   업데이트할 상품 이미지 파일
-     * @throws Exception    이미지 업데이트 또는 파일 처리 중 발생할 수 있는 예외를 처리합니다.
+     * @param oriImgName    새 이미지의 원본 파일 이름
+     * @param imgName       {@link ItemImgUploader}로 저장된 새 이미지의 파일 이름
+     * @throws EntityNotFoundException 주어진 ID의 상품 이미지가 없을 때 발생합니다.
      */
-    public void updateItemImg(Long itemImgId, MultipartFile itemImgFile) throws Exception{
-        if(!itemImgFile.isEmpty()){
-            ItemImg savedItemImg = itemImgRepository.findById(itemImgId).orElseThrow(EntityNotFoundException::new);
+    public void updateItemImg(Long itemImgId, String oriImgName, String imgName){
+        ItemImg savedItemImg = itemImgRepository.findById(itemImgId).orElseThrow(EntityNotFoundException::new);
 
-            // 기존 이미지 파일 삭제
-            if(!StringUtils.isEmpty(savedItemImg.getImgName()))
-                fileService.deleteFile(itemImgLocation + "/" + savedItemImg.getImgName());
+        // 기존 이미지 파일 삭제
+        if(!StringUtils.isEmpty(savedItemImg.getImgName()))
+            deleteFileAfterCommit(savedItemImg.getImgName());
 
-            String oriImgName = itemImgFile.getOriginalFilename();
-            String imgName = fileService.uploadFile(itemImgLocation, oriImgName, itemImgFile.getBytes());
-            String imgUrl = "/images/item/" + imgName;
-            savedItemImg.updateItemImg(oriImgName, imgName, imgUrl);
-        }
+        String imgUrl = "/images/item/" + imgName;
+        savedItemImg.updateItemImg(oriImgName, imgName, imgUrl);
+        itemDetailCache.invalidate(savedItemImg.getItem().getId());
+        syncRepImgUrl(savedItemImg);
     }
 
     /**
      * 새로운 상품 이미지를 저장합니다.
      *
      * @param itemImg       저장할 상품 이미지 엔티티
-     * @param itemImgFile   저장할 상품 이미지 파일
-     * @throws Exception    이미지 업로드 및 저장 중 발생할 수 있는 예외를 처리합니다.
+     * @param oriImgName    이미지의 원본 파일 이름, 이미지 파일이 없으면 빈 문자열
+     * @param imgName       {@link ItemImgUploader}로 저장된 이미지의 파일 이름, 이미지 파일이 없으면 null
      */
-    public void saveItemImg(ItemImg itemImg, MultipartFile itemImgFile) throws Exception{
-        String oriImgName = itemImgFile.getOriginalFilename();
-        String imgName = "";
+    public void saveItemImg(ItemImg itemImg, String oriImgName, String imgName){
         String imgUrl = "";
-
-        //파일 업로드
-        if(!StringUtils.isEmpty(oriImgName)){
-            imgName = fileService.uploadFile(itemImgLocation, oriImgName, itemImgFile.getBytes());
+        if(StringUtils.isEmpty(imgName)){
+            imgName = "";
+        } else {
             imgUrl = "/images/item/" + imgName;
         }
 
         //상품 이미지 정보 저장
         itemImg.updateItemImg(oriImgName, imgName, imgUrl);
         itemImgRepository.save(itemImg);
+        if(itemImg.getItem() != null){
+            itemDetailCache.invalidate(itemImg.getItem().getId());
+        }
+        syncRepImgUrl(itemImg);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 이미지 파일과 썸네일을 삭제합니다. 트랜잭션 밖에서 호출되면 바로 삭제합니다.
+     */
+    private void deleteFileAfterCommit(String imgName){
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            deleteFile(imgName);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    deleteFile(imgName);
+                } catch (RuntimeException e){
+                    log.warn("기존 상품 이미지 파일을 삭제하지 못했습니다: {}", imgName, e);
+                }
+            }
+        });
     }
 
+    private void deleteFile(String imgName){
+        itemThumbnailService.delete(imgName);
+        fileService.deleteFile(itemImgLocation + "/" + imgName);
+    }
 
+    /**
+     * 대표 이미지가 변경된 경우 대표 이미지 URL 캐시에서 해당 상품을 제거하고, 상품 목록 읽기 모델의 대표 이미지 URL을 갱신합니다.
+     *
+     * @param itemImg 저장되거나 변경된 상품 이미지 엔티티
+     */
+    private void syncRepImgUrl(ItemImg itemImg){
+        if(StringUtils.equals("Y", itemImg.getRepimgYn()) && itemImg.getItem() != null){
+            repImgUrlCache.invalidate(itemImg.getItem().getId());
+            catalogEntryRepository.findById(itemImg.getItem().getId())
+                    .ifPresent(catalogEntry -> catalogEntry.updateImgUrl(itemImg.getImgUrl()));
+        }
+    }
 }
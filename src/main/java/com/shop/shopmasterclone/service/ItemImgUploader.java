@@ -0,0 +1,130 @@
+package com.shop.shopmasterclone.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 등록과 수정 시 여러 상품 이미지 파일을 동시에 저장하는 컴포넌트입니다.
+ * <p>
+ * 이미지 파일은 {@code item.img-upload.threads}개의 스레드를 가진 전용 스레드 풀에서 병렬로 저장되며,
+ * 대기열이 가득 차면 호출한 스레드에서 직접 저장하여 처리 속도를 맞춥니다.
+ * 한 파일이라도 저장에 실패하면 이미 저장된 파일을 모두 삭제한 뒤 예외를 던지므로, 일부 이미지만 저장된 상태로 남지 않습니다.
+ * <p>
+ * 데이터베이스를 사용하지 않으므로 트랜잭션 밖에서 호출하여, 파일을 기록하는 동안 데이터베이스 커넥션을 점유하지 않도록 합니다.
+ */
+@Log4j2
+@Component
+public class ItemImgUploader {
+
+    private final FileService fileService;
+    private final ItemThumbnailService itemThumbnailService;
+    private final String itemImgLocation;
+    private final ThreadPoolExecutor executor;
+
+    public ItemImgUploader(
+            FileService fileService,
+            ItemThumbnailService itemThumbnailService,
+            @Value("${itemImgLocation}") String itemImgLocation,
+            @Value("${item.img-upload.threads:4}") int threads,
+            @Value("${item.img-upload.queue-capacity:100}") int queueCapacity
+    ){
+        this.fileService = fileService;
+        this.itemThumbnailService = itemThumbnailService;
+        this.itemImgLocation = itemImgLocation;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "item-img-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 이미지 파일들을 동시에 저장하고, 모든 저장이 끝날 때까지 기다립니다.
+     * 썸네일 생성은 상품 정보가 저장된 뒤에 호출하는 쪽에서 요청합니다.
+     *
+     * @param itemImgFileList 저장할 이미지 파일 목록입니다. null인 항목은 저장하지 않습니다.
+     * @return 저장된 파일 이름 목록을 입력과 같은 순서로 반환합니다. 저장하지 않은 항목은 null입니다.
+     * @throws RuntimeException 한 파일이라도 저장에 실패하면 저장된 파일을 모두 삭제한 뒤 발생합니다.
+     */
+    public List<String> upload(List<MultipartFile> itemImgFileList){
+        List<CompletableFuture<String>> futures = new ArrayList<>(itemImgFileList.size());
+        for(MultipartFile itemImgFile : itemImgFileList){
+            if(itemImgFile == null){
+                futures.add(CompletableFuture.completedFuture(null));
+            } else {
+                futures.add(CompletableFuture.supplyAsync(() -> uploadFile(itemImgFile), executor));
+            }
+        }
+
+        List<String> imgNames = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for(CompletableFuture<String> future : futures){
+            try {
+                imgNames.add(future.join());
+            } catch (CompletionException e){
+                imgNames.add(null);
+                if(failure == null){
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+
+        if(failure != null){
+            delete(imgNames);
+            throw failure;
+        }
+        return imgNames;
+    }
+
+    /**
+     * 저장된 이미지 파일들과 썸네일을 삭제합니다. 이미지를 저장한 뒤 상품 정보 저장에 실패했을 때 사용됩니다.
+     * 삭제에 실패한 파일은 기록만 남기고 나머지 파일을 계속 삭제합니다.
+     *
+     * @param imgNames 삭제할 파일 이름 목록입니다. null인 항목은 건너뜁니다.
+     */
+    public void delete(Collection<String> imgNames){
+        for(String imgName : imgNames){
+            if(imgName == null){
+                continue;
+            }
+            try {
+                itemThumbnailService.delete(imgName);
+                fileService.deleteFile(itemImgLocation + "/" + imgName);
+            } catch (RuntimeException e){
+                log.warn("저장된 상품 이미지를 삭제하지 못했습니다: {}", imgName, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        executor.shutdownNow();
+    }
+
+    private String uploadFile(MultipartFile itemImgFile){
+        try {
+            return fileService.uploadFile(itemImgLocation, itemImgFile.getOriginalFilename(), itemImgFile);
+        } catch (RuntimeException e){
+            throw e;
+        } catch (Exception e){
+            throw new RuntimeException("파일 업로드 중 에러가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.repository.ItemRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 입력 중인 검색어로 시작하는 상품명을 인기순으로 추천하는 메모리 자동 완성 색인입니다.
+ * <p>
+ * 정규화된 상품명을 압축 트라이(radix trie)에 저장합니다. 분기가 없는 경로는 간선 하나의 문자 배열로 합쳐지고,
+ * 자식 노드는 맵 대신 첫 글자 순으로 정렬된 배열에 보관하므로 상품당 메모리 사용량이 작습니다.
+ * 상품명 전체뿐 아니라 띄어쓰기로 나뉜 각 단어의 시작 위치부터도 색인하므로 "이어폰"으로 "무선 블루투스 이어폰"을 찾을 수 있습니다.
+ * <p>
+ * 각 노드는 하위 트리에서 인기도가 가장 높은 상품을 {@code item.suggest.max-size}개까지 미리 정렬해 둡니다.
+ * 따라서 추천은 검색어 길이만큼 트라이를 내려간 뒤 해당 노드의 목록을 복사하는 것으로 끝나며, 데이터베이스를 조회하지 않습니다.
+ * 인기도는 상품의 누적 주문 수량입니다.
+ * <p>
+ * 색인은 애플리케이션 시작 시 데이터베이스에서 구성되며, 상품이 등록되거나 수정되면 {@link ItemChangedEvent}를 받아
+ * 트랜잭션이 커밋된 뒤에 해당 상품만 다시 색인합니다. 인기도는 {@code item.suggest.refresh-ms}마다 색인을 다시 구성하여 반영합니다.
+ */
+@Log4j2
+@Component
+public class ItemNameSuggester {
+
+    private static final char[] NO_LABEL = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::popularity).reversed()
+            .thenComparing(Suggestion::itemNm)
+            .thenComparingLong(Suggestion::itemId);
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final int maxSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node(NO_LABEL);
+    private Map<Long, Suggestion> suggestions = new HashMap<>();
+    private Set<Long> changedDuringRebuild;
+    private volatile boolean ready;
+
+    public ItemNameSuggester(
+            ItemRepository itemRepository,
+            @Value("${item.suggest.enabled:true}") boolean enabled,
+            @Value("${item.suggest.max-size:10}") int maxSize
+    ){
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 추천 후보가 되는 상품 하나입니다.
+     */
+    private record Suggestion(long itemId, String itemNm, long popularity) {
+    }
+
+    /**
+     * 압축 트라이의 노드입니다. {@code label}은 부모에서 이 노드로 오는 간선의 문자열입니다.
+     */
+    private static final class Node {
+
+        private char[] label;
+        private Node[] children = NO_CHILDREN;
+        private Suggestion[] terminals = NO_SUGGESTIONS;
+        private Suggestion[] top = NO_SUGGESTIONS;
+
+        private Node(char[] label){
+            this.label = label;
+        }
+
+        private int childIndex(char first){
+            int low = 0;
+            int high = children.length - 1;
+            while(low <= high){
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label[0];
+                if(c < first){
+                    low = mid + 1;
+                } else if(c > first){
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int insertionPoint, Node child){
+            Node[] next = new Node[children.length + 1];
+            System.arraycopy(children, 0, next, 0, insertionPoint);
+            next[insertionPoint] = child;
+            System.arraycopy(children, insertionPoint, next, insertionPoint + 1, children.length - insertionPoint);
+            children = next;
+        }
+
+        private void removeChild(int index){
+            Node[] next = new Node[children.length - 1];
+            System.arraycopy(children, 0, next, 0, index);
+            System.arraycopy(children, index + 1, next, index, children.length - index - 1);
+            children = next.length == 0 ? NO_CHILDREN : next;
+        }
+    }
+
+    /**
+     * 색인을 사용할 수 있는지 여부를 반환합니다. 색인이 비활성화되었거나 아직 구성되지 않았으면 false를 반환합니다.
+     *
+     * @return 색인으로 상품명을 추천할 수 있으면 true를 반환합니다.
+     */
+    public boolean isReady(){
+        return enabled && ready;
+    }
+
+    /**
+     * 데이터베이스의 모든 상품명과 누적 주문 수량으로 색인을 다시 구성합니다. 애플리케이션 시작 시와
+     * {@code item.suggest.refresh-ms}마다 실행됩니다. 새 트라이를 따로 만든 뒤 교체하므로 구성하는 동안에도 추천할 수 있습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${item.suggest.refresh-ms:600000}",
+            initialDelayString = "${item.suggest.refresh-ms:600000}")
+    public void rebuild(){
+        if(!enabled){
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Node rebuilt = new Node(NO_LABEL);
+        Map<Long, Suggestion> rebuiltSuggestions = new HashMap<>();
+        for(Object[] row : itemRepository.findSuggestRows()){
+            Suggestion suggestion = new Suggestion((Long) row[0], (String) row[1], ((Number) row[2]).longValue());
+            rebuiltSuggestions.put(suggestion.itemId(), suggestion);
+            for(String key : keys(suggestion.itemNm())){
+                insert(rebuilt, key, suggestion);
+            }
+        }
+
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            root = rebuilt;
+            suggestions = rebuiltSuggestions;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 구성하는 동안 변경된 상품은 새 트라이에 빠져 있을 수 있으므로 다시 반영합니다.
+        for(Long itemId : changed){
+            apply(itemId);
+        }
+        ready = true;
+        log.info("상품명 자동 완성 색인을 구성했습니다. 상품 수: {}", rebuiltSuggestions.size());
+    }
+
+    /**
+     * 상품이 등록되거나 수정되면 트랜잭션이 커밋된 뒤 해당 상품의 상품명을 다시 읽어 색인에 반영합니다.
+     * 인기도는 기존 값을 유지하며, 다음 재구성 때 갱신됩니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event){
+        if(!enabled){
+            return;
+        }
+        apply(event.itemId());
+    }
+
+    /**
+     * 상품의 현재 상품명을 읽어 기존 키를 제거하고 새 키를 색인합니다. 색인을 구성하는 중이면 구성이 끝난 뒤 다시 반영하도록 기록합니다.
+     */
+    private void apply(Long itemId){
+        Optional<String> itemNm = itemRepository.findItemNmById(itemId);
+
+        lock.writeLock().lock();
+        try {
+            if(changedDuringRebuild != null){
+                changedDuringRebuild.add(itemId);
+            }
+            Suggestion previous = suggestions.remove(itemId);
+            if(previous != null){
+                for(String key : keys(previous.itemNm())){
+                    remove(root, key, previous);
+                }
+            }
+            if(itemNm.isPresent()){
+                Suggestion suggestion = new Suggestion(itemId, itemNm.get(),
+                        previous == null ? 0 : previous.popularity());
+                suggestions.put(suggestion.itemId(), suggestion);
+                for(String key : keys(suggestion.itemNm())){
+                    insert(root, key, suggestion);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어로 시작하는 상품명을 인기순으로 반환합니다. 같은 이름의 상품이 여러 개이면 한 번만 반환합니다.
+     *
+     * @param prefix 입력 중인 검색어입니다.
+     * @param size 반환할 최대 상품명 수입니다. {@code item.suggest.max-size}보다 크면 그 값으로 제한됩니다.
+     * @return 추천 상품명 목록을 반환합니다. 검색어가 비어 있거나 색인을 사용할 수 없으면 빈 목록을 반환합니다.
+     */
+    public List<String> suggest(String prefix, int size){
+        String key = normalize(prefix);
+        if(key.isEmpty() || size <= 0 || !isReady()){
+            return List.of();
+        }
+
+        Suggestion[] top;
+        lock.readLock().lock();
+        try {
+            Node node = find(root, key);
+            top = node == null ? NO_SUGGESTIONS : node.top;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Set<String> itemNms = new LinkedHashSet<>();
+        for(Suggestion suggestion : top){
+            if(itemNms.size() >= Math.min(size, maxSize)){
+                break;
+            }
+            itemNms.add(suggestion.itemNm());
+        }
+        return new ArrayList<>(itemNms);
+    }
+
+    /**
+     * 검색어로 시작하는 모든 키를 하위 트리에 가진 노드를 찾습니다. 검색어가 간선 중간에서 끝나면 그 간선의 아래 노드를 반환합니다.
+     */
+    private static Node find(Node root, String key){
+        Node node = root;
+        int offset = 0;
+        while(offset < key.length()){
+            int index = node.childIndex(key.charAt(offset));
+            if(index < 0){
+                return null;
+            }
+            Node child = node.children[index];
+            int matched = 0;
+            while(matched < child.label.length && offset < key.length()){
+                if(child.label[matched] != key.charAt(offset)){
+                    return null;
+                }
+                matched++;
+                offset++;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * 키를 트라이에 추가하고, 키가 지나는 경로의 노드마다 인기 상품 목록에 상품을 끼워 넣습니다.
+     * 상품이 추가되기만 하므로 노드마다 기존 목록과 새 상품만 비교하면 됩니다. 간선의 일부만 일치하면 간선을 나눕니다.
+     */
+    private void insert(Node root, String key, Suggestion suggestion){
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int offset = 0;
+        while(offset < key.length()){
+            int index = node.childIndex(key.charAt(offset));
+            if(index < 0){
+                Node leaf = new Node(key.substring(offset).toCharArray());
+                node.insertChild(-(index + 1), leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+
+            Node child = node.children[index];
+            int matched = 0;
+            while(matched < child.label.length && offset + matched < key.length()
+                    && child.label[matched] == key.charAt(offset + matched)){
+                matched++;
+            }
+            if(matched < child.label.length){
+                Node split = new Node(Arrays.copyOf(child.label, matched));
+                child.label = Arrays.copyOfRange(child.label, matched, child.label.length);
+                split.children = new Node[]{child};
+                split.top = child.top;
+                node.children[index] = split;
+                child = split;
+            }
+            offset += matched;
+            node = child;
+            path.add(node);
+        }
+
+        node.terminals = append(node.terminals, suggestion);
+        for(Node current : path){
+            current.top = withSuggestion(current.top, suggestion);
+        }
+    }
+
+    /**
+     * 키에서 상품을 제거합니다. 경로의 노드 중 인기 상품 목록에 제거한 상품이 있던 노드만 목록을 다시 계산하며,
+     * 비게 된 잎 노드는 부모에서 떼어 냅니다. 나뉜 간선을 다시 합치지는 않으며, 다음 재구성 때 정리됩니다.
+     */
+    private void remove(Node root, String key, Suggestion suggestion){
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int offset = 0;
+        while(offset < key.length()){
+            int index = node.childIndex(key.charAt(offset));
+            if(index < 0){
+                return;
+            }
+            Node child = node.children[index];
+            if(child.label.length > key.length() - offset
+                    || !key.regionMatches(offset, new String(child.label), 0, child.label.length)){
+                return;
+            }
+            offset += child.label.length;
+            node = child;
+            path.add(node);
+        }
+
+        node.terminals = Arrays.stream(node.terminals).filter(s -> s != suggestion).toArray(Suggestion[]::new);
+        for(int i = path.size() - 1; i >= 0; i--){
+            Node current = path.get(i);
+            if(i > 0 && current.terminals.length == 0 && current.children.length == 0){
+                Node parent = path.get(i - 1);
+                parent.removeChild(parent.childIndex(current.label[0]));
+                continue;
+            }
+            if(Arrays.asList(current.top).contains(suggestion)){
+                updateTop(current);
+            }
+        }
+    }
+
+    /**
+     * 노드에서 끝나는 상품과 자식 노드의 인기 상품 목록을 합쳐 노드의 인기 상품 목록을 다시 계산합니다.
+     * 같은 상품이 여러 키로 색인되어 있어도 한 번만 포함합니다.
+     */
+    private void updateTop(Node node){
+        List<Suggestion> candidates = new ArrayList<>(Arrays.asList(node.terminals));
+        for(Node child : node.children){
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        node.top = candidates.stream()
+                .distinct()
+                .sorted(RANKING)
+                .limit(maxSize)
+                .toArray(Suggestion[]::new);
+    }
+
+    /**
+     * 인기 상품 목록에 상품을 끼워 넣은 새 목록을 반환합니다. 이미 있거나 목록이 가득 찼는데 순위가 낮으면 기존 목록을 그대로 반환합니다.
+     */
+    private Suggestion[] withSuggestion(Suggestion[] top, Suggestion suggestion){
+        int position = 0;
+        while(position < top.length && RANKING.compare(top[position], suggestion) < 0){
+            position++;
+        }
+        if(position >= maxSize || (position < top.length && top[position] == suggestion)){
+            return top;
+        }
+        int length = Math.min(top.length + 1, maxSize);
+        Suggestion[] next = new Suggestion[length];
+        System.arraycopy(top, 0, next, 0, position);
+        next[position] = suggestion;
+        System.arraycopy(top, position, next, position + 1, length - position - 1);
+        return next;
+    }
+
+    private static Suggestion[] append(Suggestion[] suggestions, Suggestion suggestion){
+        Suggestion[] next = Arrays.copyOf(suggestions, suggestions.length + 1);
+        next[suggestions.length] = suggestion;
+        return next;
+    }
+
+    /**
+     * 상품명 전체와 띄어쓰기 뒤에 오는 각 단어의 시작 위치부터의 문자열을 색인 키로 반환합니다.
+     */
+    private static Set<String> keys(String itemNm){
+        String normalized = normalize(itemNm);
+        Set<String> keys = new LinkedHashSet<>();
+        for(int i = 0; i < normalized.length(); i++){
+            if(i == 0 || normalized.charAt(i - 1) == ' '){
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * {@link ItemSearchIndex}와 같이 NFC로 정규화하고 영문은 소문자로 바꾸며, 연속된 공백은 하나로 줄입니다.
+     */
+    private static String normalize(String text){
+        if(text == null){
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+}
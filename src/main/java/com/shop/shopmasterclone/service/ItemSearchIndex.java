@@ -0,0 +1,285 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품명과 상품 상세 설명의 요약(itemSummary)을 문자 n-gram 단위로 색인하는 메모리 역색인입니다.
+ * <p>
+ * {@code like '%검색어%'} 조건은 인덱스를 사용할 수 없어 상품이 늘어날수록 느려지므로, 상품 검색은 이 색인에서
+ * 일치하는 상품 ID를 먼저 찾은 뒤 해당 상품만 조회합니다. 한글은 형태소 분석 없이도 부분 문자열 검색이 되도록
+ * 한 글자(unigram)와 두 글자(bigram) 단위로 색인하며, 검색어의 모든 bigram을 가진 후보 상품을
+ * 실제 문자열과 다시 비교하여 {@code like}와 같은 결과를 반환합니다. 영문은 대소문자를 구분하지 않습니다.
+ * <p>
+ * 색인은 애플리케이션 시작 시 데이터베이스에서 구성되며, 상품이 등록되거나 수정되면 트랜잭션이 커밋된 뒤에 반영됩니다.
+ * 커밋 전의 변경은 같은 트랜잭션 안의 검색에서만 보입니다.
+ * <p>
+ * 후보를 실제 문자열과 다시 비교하기 위해 정규화된 상품명과 요약을 힙에 보관합니다. 상세 설명 전체는 보관하지 않으며,
+ * 요약은 최대 {@link Item#SUMMARY_LENGTH}자이므로 상품 하나가 차지하는 메모리는 상세 설명의 길이와 관계없이 제한됩니다.
+ * 따라서 상세 설명은 요약에 포함된 앞부분에서만 검색되며, 색인을 사용할 수 없을 때의 like 조건도 같은 범위를 검색합니다.
+ * <p>
+ * 목록 조회 쿼리에는 {@link #searchLatest(String, boolean)}로 일치하는 상품 중 ID가 큰(최근 등록된) 상품을
+ * {@code item.search-index.max-matches}개까지만 넘겨, IN 조건에 바인딩되는 ID 수가 검색 결과 크기와 관계없이 제한되도록 합니다.
+ */
+@Log4j2
+@Component
+public class ItemSearchIndex {
+
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final int maxMatches;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public ItemSearchIndex(
+            ItemRepository itemRepository,
+            @Value("${item.search-index.enabled:true}") boolean enabled,
+            @Value("${item.search-index.max-matches:1000}") int maxMatches
+    ){
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+        this.maxMatches = maxMatches;
+    }
+
+    /**
+     * 색인된 상품 하나의 정규화된 상품명과 상세 설명 요약입니다.
+     */
+    private record Document(String itemNm, String itemSummary) {
+
+        private boolean matches(String query, boolean includeDetail){
+            return itemNm.contains(query) || (includeDetail && itemSummary.contains(query));
+        }
+
+        private Set<String> grams(){
+            Set<String> grams = new HashSet<>();
+            addGrams(itemNm, grams);
+            addGrams(itemSummary, grams);
+            return grams;
+        }
+    }
+
+    /**
+     * 색인을 사용할 수 있는지 여부를 반환합니다. 색인이 비활성화되었거나 아직 구성되지 않았으면 false를 반환합니다.
+     *
+     * @return 색인으로 검색할 수 있으면 true를 반환합니다.
+     */
+    public boolean isReady(){
+        return enabled && ready;
+    }
+
+    /**
+     * 데이터베이스의 모든 상품으로 색인을 다시 구성합니다. 애플리케이션 시작 시 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        if(!enabled){
+            return;
+        }
+        ready = false;
+        synchronized (this){
+            postings.clear();
+            documents.clear();
+            for(Object[] row : itemRepository.findSearchTexts()){
+                apply((Long) row[0], new Document(normalize((String) row[1]), normalize((String) row[2])));
+            }
+        }
+        ready = true;
+        log.info("상품 검색 색인을 구성했습니다. 상품 수: {}, 토큰 수: {}", documents.size(), postings.size());
+    }
+
+    /**
+     * 등록되거나 수정된 상품을 색인에 반영합니다. 현재 트랜잭션이 커밋된 뒤에 반영되며,
+     * 커밋 전까지는 같은 트랜잭션 안의 검색에서만 변경된 내용이 보입니다.
+     *
+     * @param itemId 색인할 상품의 ID입니다.
+     * @param itemNm 상품명입니다.
+     * @param itemSummary 상품 상세 설명의 요약입니다.
+     */
+    public void index(Long itemId, String itemNm, String itemSummary){
+        if(!enabled){
+            return;
+        }
+        Document document = new Document(normalize(itemNm), normalize(itemSummary));
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            apply(itemId, document);
+            return;
+        }
+        pendingDocuments().put(itemId, document);
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함하는 상품의 ID를 찾습니다.
+     *
+     * @param query 검색어입니다.
+     * @param includeDetail 상품 상세 설명의 요약까지 검색하려면 true, 상품명만 검색하려면 false를 전달합니다.
+     * @return 검색어를 포함하는 상품의 ID 집합을 반환합니다.
+     */
+    public Set<Long> search(String query, boolean includeDetail){
+        String normalized = normalize(query);
+        Map<Long, Document> pending = currentPendingDocuments();
+
+        Set<Long> itemIds = new HashSet<>();
+        for(Long itemId : candidates(normalized)){
+            Document document = documents.get(itemId);
+            if(!pending.containsKey(itemId) && document != null && document.matches(normalized, includeDetail)){
+                itemIds.add(itemId);
+            }
+        }
+        pending.forEach((itemId, document) -> {
+            if(document.matches(normalized, includeDetail)){
+                itemIds.add(itemId);
+            }
+        });
+        return itemIds;
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함하는 상품 중 ID가 큰 상품부터 최대 {@code item.search-index.max-matches}개의 ID를 찾습니다.
+     * 목록 조회 쿼리의 IN 조건에 바인딩할 ID 수를 제한하기 위해 사용되며, 그보다 오래된 상품은 검색 결과 목록에 나타나지 않습니다.
+     *
+     * @param query 검색어입니다.
+     * @param includeDetail 상품 상세 설명의 요약까지 검색하려면 true, 상품명만 검색하려면 false를 전달합니다.
+     * @return 검색어를 포함하는 상품의 ID 목록을 ID 내림차순으로 반환합니다.
+     */
+    public List<Long> searchLatest(String query, boolean includeDetail){
+        return search(query, includeDetail).stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(maxMatches)
+                .toList();
+    }
+
+    /**
+     * 검색어의 모든 n-gram을 가진 상품 ID를 반환합니다. 가장 짧은 목록부터 교집합을 구합니다.
+     */
+    private Set<Long> candidates(String query){
+        if(query.isEmpty()){
+            return new HashSet<>(documents.keySet());
+        }
+
+        Set<String> grams = new HashSet<>();
+        if(query.length() == 1){
+            grams.add(query);
+        } else {
+            for(int i = 0; i + 1 < query.length(); i++){
+                grams.add(query.substring(i, i + 2));
+            }
+        }
+
+        Set<Long> candidates = null;
+        for(String gram : grams.stream().sorted((a, b) -> Integer.compare(postingSize(a), postingSize(b))).toList()){
+            Set<Long> posting = postings.get(gram);
+            if(posting == null){
+                return Collections.emptySet();
+            }
+            if(candidates == null){
+                candidates = new HashSet<>(posting);
+            } else {
+                candidates.retainAll(posting);
+            }
+            if(candidates.isEmpty()){
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private int postingSize(String gram){
+        Set<Long> posting = postings.get(gram);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * 상품의 기존 토큰을 제거하고 새 토큰을 색인합니다.
+     */
+    private synchronized void apply(Long itemId, Document document){
+        Document previous = documents.put(itemId, document);
+        Set<String> grams = document.grams();
+        if(previous != null){
+            for(String gram : previous.grams()){
+                if(!grams.contains(gram)){
+                    Set<Long> posting = postings.get(gram);
+                    if(posting != null){
+                        posting.remove(itemId);
+                        if(posting.isEmpty()){
+                            postings.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+        for(String gram : grams){
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(itemId);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 아직 커밋되지 않은 색인 변경을 반환하며, 처음 호출될 때 커밋 후 반영을 등록합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Document> pendingDocuments(){
+        Map<Long, Document> pending = (Map<Long, Document>) TransactionSynchronizationManager.getResource(this);
+        if(pending != null){
+            return pending;
+        }
+
+        Map<Long, Document> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(ItemSearchIndex.this::apply);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ItemSearchIndex.this);
+            }
+        });
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Document> currentPendingDocuments(){
+        Map<Long, Document> pending = (Map<Long, Document>) TransactionSynchronizationManager.getResource(this);
+        return pending == null ? Collections.emptyMap() : pending;
+    }
+
+    private static void addGrams(String text, Set<String> grams){
+        for(int i = 0; i < text.length(); i++){
+            grams.add(text.substring(i, i + 1));
+            if(i + 1 < text.length()){
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 한글 자모가 분리된 입력도 같은 글자로 검색되도록 NFC로 정규화하고, 영문은 소문자로 바꿉니다.
+     */
+    private static String normalize(String text){
+        if(text == null){
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,24 +1,47 @@
 package com.shop.shopmasterclone.service;
 
+import com.shop.shopmasterclone.dto.ItemDetailRow;
+import com.shop.shopmasterclone.dto.ItemDetailSnapshot;
+import com.shop.shopmasterclone.dto.ItemFacetDto;
 import com.shop.shopmasterclone.dto.ItemFormDto;
 import com.shop.shopmasterclone.dto.ItemImgDto;
 import com.shop.shopmasterclone.dto.ItemSearchDto;
 import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.dto.MainItemSliceDto;
+import com.shop.shopmasterclone.entity.CatalogEntry;
 import com.shop.shopmasterclone.entity.Item;
 import com.shop.shopmasterclone.entity.ItemImg;
+import com.shop.shopmasterclone.repository.CatalogEntryRepository;
+import com.shop.shopmasterclone.repository.ItemCountCache;
 import com.shop.shopmasterclone.repository.ItemImgRepository;
 import com.shop.shopmasterclone.repository.ItemRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.thymeleaf.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 상품 관련 서비스를 제공하는 클래스입니다.
@@ -33,6 +56,19 @@ public class ItemService {
     private final ItemRepository itemRepository;
     private final ItemImgService itemImgService;
     private final ItemImgRepository itemImgRepository;
+    private final CatalogEntryRepository catalogEntryRepository;
+    private final StockService stockService;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemFacetIndex itemFacetIndex;
+    private final ItemCountCache itemCountCache;
+    private final MainItemPageCache mainItemPageCache;
+    private final ItemDetailCache itemDetailCache;
+    private final ItemImgUploader itemImgUploader;
+    private final ItemThumbnailService itemThumbnailService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
 
     /**
      * 메인 페이지에 표시할 상품 목록을 조회하는 메서드입니다.
@@ -42,6 +78,12 @@ public class ItemService {
      * <p>페이징 처리는 {@link Pageable} 객체를 통해 구현되며, 클라이언트는 페이지 번호와 페이지 당 항목 수를 지정할 수 있습니다.
      * 반환되는 {@link Page} 객체에는 조회된 상품 목록과 페이징 정보(총 페이지 수, 총 항목 수 등)가 포함됩니다.</p>
      *
+     * <p>상품 목록은 상품 이미지와 조인하지 않고 비정규화된 {@link CatalogEntry} 읽기 모델에서만 조회합니다.
+     * 검색어가 있으면 {@link ItemSearchIndex}에서 상품명이나 상세 설명에 검색어를 포함하는 상품 ID를 찾은 뒤 해당 상품만 조회합니다.
+     * 색인을 사용할 수 없으면 like 조건으로 조회합니다.</p>
+     *
+     * <p>조회 결과는 {@link MainItemPageCache}에 보관되어 같은 검색어와 페이지의 요청에 재사용됩니다.</p>
+     *
      * <p>이 메서드는 읽기 전용 트랜잭션에서 실행되므로, 데이터베이스의 데이터를 변경하지 않습니다.</p>
      *
      * @param itemSearchDto 상품 검색 조건을 담고 있는 {@link ItemSearchDto} 객체입니다.
@@ -53,12 +95,72 @@ public class ItemService {
      */
     @Transactional(readOnly = true)
     public Page<MainItemDto> getMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable){
-        return itemRepository.getMainItemPage(itemSearchDto, pageable);
+        return mainItemPageCache.get(itemSearchDto, pageable, () -> loadMainItemPage(itemSearchDto, pageable));
+    }
+
+    /**
+     * 메인 페이지 상품 목록을 데이터베이스에서 조회합니다. {@link MainItemPageCache}의 백그라운드 갱신 스레드에서도 호출됩니다.
+     */
+    private Page<MainItemDto> loadMainItemPage(ItemSearchDto itemSearchDto, Pageable pageable){
+        Page<MainItemDto> mainItemPage;
+        if(StringUtils.isEmpty(itemSearchDto.getSearchQuery()) || !itemSearchIndex.isReady()){
+            mainItemPage = catalogEntryRepository.getMainItemPage(itemSearchDto, pageable);
+        } else {
+            List<Long> itemIds = itemSearchIndex.searchLatest(itemSearchDto.getSearchQuery(), true);
+            mainItemPage = catalogEntryRepository.getMainItemPage(itemSearchDto, itemIds, pageable);
+        }
+        applyCardThumbnails(mainItemPage.getContent());
+        return mainItemPage;
+    }
+
+    /**
+     * 상품 카드용 썸네일이 만들어진 상품은 이미지 URL을 원본 대신 썸네일 URL로 바꿉니다.
+     */
+    private void applyCardThumbnails(List<MainItemDto> mainItemDtoList){
+        for(MainItemDto mainItemDto : mainItemDtoList){
+            mainItemDto.setImgUrl(itemThumbnailService.variantUrl(mainItemDto.getImgUrl(), ItemThumbnailService.CARD));
+        }
+    }
+
+    /**
+     * 메인 페이지에 표시할 상품 목록을 커서 기반으로 조회합니다. 무한 스크롤 화면에서 사용합니다.
+     * 이전 페이지의 마지막 상품 ID보다 작은 상품부터 조회하므로, 앞 페이지의 행을 건너뛰며 읽지 않고
+     * 전체 개수도 세지 않습니다. 따라서 상품이 많아도 페이지 깊이와 관계없이 일정한 시간에 조회됩니다.
+     *
+     * <p>검색어가 있으면 {@link #getMainItemPage(ItemSearchDto, Pageable)}와 같이 {@link ItemSearchIndex}의 결과로 조회하며,
+     * 색인을 사용할 수 없으면 like 조건으로 조회합니다.</p>
+     *
+     * @param itemSearchDto 상품 검색 조건을 담고 있는 {@link ItemSearchDto} 객체입니다.
+     * @param cursor 이전 조회에서 받은 다음 페이지 커서입니다. 첫 페이지를 조회할 때는 null을 전달합니다.
+     * @param size 한 번에 조회할 상품의 수입니다.
+     * @return 상품 목록과 다음 페이지 커서를 담은 {@link MainItemSliceDto}를 반환합니다.
+     * @throws IllegalArgumentException 커서의 형식이 올바르지 않을 때 발생합니다.
+     */
+    @Transactional(readOnly = true)
+    public MainItemSliceDto getMainItemSlice(ItemSearchDto itemSearchDto, String cursor, int size){
+        Long lastItemId = (cursor == null || cursor.isBlank()) ? null : MainItemCursor.decode(cursor);
+
+        List<MainItemDto> mainItemDtoList;
+        if(StringUtils.isEmpty(itemSearchDto.getSearchQuery()) || !itemSearchIndex.isReady()){
+            mainItemDtoList = catalogEntryRepository.getMainItemSlice(itemSearchDto, lastItemId, size + 1);
+        } else {
+            List<Long> itemIds = itemSearchIndex.searchLatest(itemSearchDto.getSearchQuery(), true);
+            mainItemDtoList = catalogEntryRepository.getMainItemSlice(itemSearchDto, itemIds, lastItemId, size + 1);
+        }
+
+        boolean hasNext = mainItemDtoList.size() > size;
+        if(hasNext){
+            mainItemDtoList = mainItemDtoList.subList(0, size);
+        }
+        String nextCursor = hasNext ? MainItemCursor.encode(mainItemDtoList.get(size - 1).getId()) : null;
+        applyCardThumbnails(mainItemDtoList);
+        return new MainItemSliceDto(mainItemDtoList, nextCursor);
     }
 
     /**
      * 관리자 상품 페이지를 조회하는 기능입니다.
      * 상품 검색 조건과 페이지 정보를 기반으로 상품 목록을 페이징하여 반환합니다.
+     * 상품명으로 검색하는 경우 {@link ItemSearchIndex}에서 일치하는 상품 ID를 찾아 조회합니다.
      *
      * @param itemSearchDto 상품 검색 조건을 담은 DTO
      * @param pageable 페이징 정보
@@ -66,15 +168,72 @@ public class ItemService {
      */
     @Transactional(readOnly = true)
     public Page<Item> getAdminItemPage(ItemSearchDto itemSearchDto, Pageable pageable){
-        return itemRepository.getAdminItemPage(itemSearchDto, pageable);
+        if(!"itemNm".equals(itemSearchDto.getSearchBy()) || StringUtils.isEmpty(itemSearchDto.getSearchQuery())
+                || !itemSearchIndex.isReady()){
+            return itemRepository.getAdminItemPage(itemSearchDto, pageable);
+        }
+        List<Long> itemIds = itemSearchIndex.searchLatest(itemSearchDto.getSearchQuery(), false);
+        return itemRepository.getAdminItemPage(itemSearchDto, itemIds, pageable);
+    }
+
+    /**
+     * 메인 페이지 검색 결과의 패싯별 상품 수를 {@link ItemFacetIndex}로 계산합니다.
+     * 메인 페이지에 표시되는 상품(대표 이미지가 있는 상품)만 세며, 검색어가 있으면 {@link ItemSearchIndex}에서 찾은 상품만 셉니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담고 있는 {@link ItemSearchDto} 객체입니다.
+     * @return 패싯별 상품 수를 담은 {@link ItemFacetDto}를 반환합니다. 색인을 사용할 수 없으면 null을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public ItemFacetDto getMainItemFacets(ItemSearchDto itemSearchDto){
+        if(!itemFacetIndex.isReady()){
+            return null;
+        }
+        Set<Long> itemIds = null;
+        if(!StringUtils.isEmpty(itemSearchDto.getSearchQuery())){
+            if(!itemSearchIndex.isReady()){
+                return null;
+            }
+            itemIds = itemSearchIndex.search(itemSearchDto.getSearchQuery(), true);
+        }
+        // 메인 페이지 목록은 검색어와 가격 범위로만 필터링하므로 판매 상태와 등록 기간 조건은 적용하지 않습니다.
+        return itemFacetIndex.count(itemIds, true, null, null, itemSearchDto.getMinPrice(), itemSearchDto.getMaxPrice());
+    }
+
+    /**
+     * 관리자 상품 페이지 검색 결과의 패싯별 상품 수를 {@link ItemFacetIndex}로 계산합니다.
+     * 상품명 검색어는 {@link ItemSearchIndex}로, 등록자 검색어는 {@link ItemFacetIndex}의 등록자 색인으로 일치하는 상품을 찾습니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @return 패싯별 상품 수를 담은 {@link ItemFacetDto}를 반환합니다. 색인을 사용할 수 없으면 null을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public ItemFacetDto getAdminItemFacets(ItemSearchDto itemSearchDto){
+        if(!itemFacetIndex.isReady()){
+            return null;
+        }
+        Collection<Long> itemIds = null;
+        if(!StringUtils.isEmpty(itemSearchDto.getSearchQuery())){
+            if("itemNm".equals(itemSearchDto.getSearchBy())){
+                if(!itemSearchIndex.isReady()){
+                    return null;
+                }
+                itemIds = itemSearchIndex.search(itemSearchDto.getSearchQuery(), false);
+            } else if("createdBy".equals(itemSearchDto.getSearchBy())){
+                return itemFacetIndex.countByCreatedBy(itemSearchDto.getSearchQuery(), false, itemSearchDto.getSearchSellStatus(),
+                        itemSearchDto.getSearchDateType(), itemSearchDto.getMinPrice(), itemSearchDto.getMaxPrice());
+            }
+        }
+        return itemFacetIndex.count(itemIds, false, itemSearchDto.getSearchSellStatus(), itemSearchDto.getSearchDateType(),
+                itemSearchDto.getMinPrice(), itemSearchDto.getMaxPrice());
     }
 
     /**
      * 기존 상품의 정보와 이미지를 업데이트하는 메서드입니다.
      *
      * 이 메서드는 상품 정보를 포함하는 {@link ItemFormDto} 객체와 상품 이미지 파일의 리스트를 받아
-     * 해당 상품의 정보와 이미지를 업데이트합니다. 상품 정보는 DTO 객체를 통해 업데이트되며,
-     * 각 이미지 파일은 {@link ItemImgService}를 사용하여 업데이트됩니다.
+     * 해당 상품의 정보와 이미지를 업데이트합니다. 새 이미지 파일은 트랜잭션을 시작하기 전에 {@link ItemImgUploader}로 동시에 저장되고,
+     * 상품 정보와 이미지 정보는 그 뒤 하나의 트랜잭션에서 업데이트됩니다. 상품 정보를 업데이트한 트랜잭션이 롤백되면 새로 저장한 이미지 파일을 삭제하고,
+     * 업데이트에 성공하면 새 이미지의 썸네일 생성을 요청합니다.
      *
      * @param itemFormDto 업데이트할 상품 정보가 담긴 DTO 객체입니다. 이 객체는 상품의 기본 정보와
      *                    업데이트할 이미지에 대한 ID 목록을 포함해야 합니다.
@@ -86,61 +245,121 @@ public class ItemService {
      * @throws EntityNotFoundException 주어진 {@code itemFormDto}의 ID로 상품을 찾을 수 없을 때 발생합니다.
      * @throws IllegalArgumentException 이미지 파일 리스트가 비어 있거나, 예상되는 이미지 ID와 일치하지 않을 때 발생합니다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long updateItem(ItemFormDto itemFormDto, List<MultipartFile> itemImgFileList) throws Exception {
-        // 상품 수정
-        Item item = itemRepository.findById(itemFormDto.getId()).orElseThrow(() -> new EntityNotFoundException("Item not found with id: " + itemFormDto.getId()));
-        item.updateItem(itemFormDto);
-
         if(itemImgFileList == null || itemImgFileList.isEmpty()) {
             throw new IllegalArgumentException("Image file list cannot be empty when updating item images.");
         }
 
         List<Long> itemImgIds = itemFormDto.getItemImgIds();
+        if(itemImgFileList.size() > itemImgIds.size()) {
+            // Handle the case where there are more files than expected or log a warning
+            log.warn("Extra image file provided without a corresponding item image ID.");
+        }
 
-        // 이미지 등록
+        // 이미지 파일 저장
+        List<MultipartFile> uploadFileList = new ArrayList<>(itemImgFileList.size());
         for(int i = 0; i < itemImgFileList.size(); i++) {
-            if(i < itemImgIds.size()) { // Ensure there's a corresponding image ID for the file
-                itemImgService.updateItemImg(itemImgIds.get(i), itemImgFileList.get(i));
-            } else {
-                // Handle the case where there are more files than expected or log a warning
-                log.warn("Extra image file provided without a corresponding item image ID.");
-            }
+            MultipartFile itemImgFile = itemImgFileList.get(i);
+            uploadFileList.add(i < itemImgIds.size() && !itemImgFile.isEmpty() ? itemImgFile : null);
         }
+        List<String> imgNames = itemImgUploader.upload(uploadFileList);
+
+        Long itemId;
+        try {
+            itemId = transactionTemplate.execute(status -> {
+                deleteImagesOnRollback(imgNames);
 
-        return item.getId();
+                // 상품 수정
+                Item item = itemRepository.findByIdForUpdate(itemFormDto.getId()).orElseThrow(() -> new EntityNotFoundException("Item not found with id: " + itemFormDto.getId()));
+                item.updateItem(itemFormDto);
+                stockService.resetStock(item, itemFormDto.getStockNumber());
+                catalogEntryRepository.findById(item.getId())
+                        .ifPresentOrElse(catalogEntry -> catalogEntry.updateItem(item),
+                                () -> catalogEntryRepository.save(CatalogEntry.createCatalogEntry(item)));
+                itemSearchIndex.index(item.getId(), item.getItemNm(), item.getItemSummary());
+                itemCountCache.invalidateAll();
+                itemDetailCache.invalidate(item.getId());
+                eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
+
+                // 이미지 정보 수정
+                for(int i = 0; i < imgNames.size(); i++) {
+                    if(imgNames.get(i) != null) {
+                        itemImgService.updateItemImg(itemImgIds.get(i), uploadFileList.get(i).getOriginalFilename(), imgNames.get(i));
+                    }
+                }
+                return item.getId();
+            });
+        } catch (CannotCreateTransactionException e) {
+            // 트랜잭션을 시작하지 못하면 롤백 시 삭제가 등록되지 않으므로 여기서 삭제합니다.
+            itemImgUploader.delete(imgNames);
+            throw e;
+        }
+        imgNames.forEach(itemThumbnailService::generateAsync);
+        return itemId;
     }
 
 
     /**
      * 새로운 상품을 등록하는 메서드입니다.
+     * 이미지 파일은 트랜잭션을 시작하기 전에 {@link ItemImgUploader}로 동시에 저장되고, 상품 정보와 이미지 정보는 그 뒤
+     * 하나의 트랜잭션에서 저장됩니다. 상품 정보를 저장한 트랜잭션이 롤백되면 저장한 이미지 파일을 삭제하고,
+     * 저장에 성공하면 이미지의 썸네일 생성을 요청합니다.
      *
      * @param itemFormDto 상품 등록에 필요한 데이터가 담긴 DTO 객체
      * @param itemImgFileList 상품 이미지 파일 목록
      * @return 등록된 상품의 ID
      * @throws Exception 이미지 저장 중 발생할 수 있는 예외
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long saveItem(ItemFormDto itemFormDto, List<MultipartFile> itemImgFileList) throws Exception{
-        // 상품 등록
-        Item item = itemFormDto.createItem();
-        itemRepository.save(item);
+        // 이미지 파일 저장
+        List<MultipartFile> uploadFileList = new ArrayList<>(itemImgFileList.size());
+        for(MultipartFile itemImgFile : itemImgFileList){
+            uploadFileList.add(StringUtils.isEmpty(itemImgFile.getOriginalFilename()) ? null : itemImgFile);
+        }
+        List<String> imgNames = itemImgUploader.upload(uploadFileList);
+
+        Long itemId;
+        try {
+            itemId = transactionTemplate.execute(status -> {
+                deleteImagesOnRollback(imgNames);
 
-        // 이미지 등록
-        for(int i=0; i<itemImgFileList.size(); i++){
-            ItemImg itemImg = new ItemImg();
-            itemImg.setItem(item);
+                // 상품 등록
+                Item item = itemFormDto.createItem();
+                itemRepository.save(item);
+                catalogEntryRepository.save(CatalogEntry.createCatalogEntry(item));
+                itemSearchIndex.index(item.getId(), item.getItemNm(), item.getItemSummary());
+                itemCountCache.invalidateAll();
+                eventPublisher.publishEvent(new ItemChangedEvent(item.getId()));
 
-            if(i == 0)
-                itemImg.setRepimgYn("Y");
-            else
-                itemImg.setRepimgYn("N");
-            itemImgService.saveItemImg(itemImg, itemImgFileList.get(i));
+                // 이미지 등록
+                for(int i=0; i<itemImgFileList.size(); i++){
+                    ItemImg itemImg = new ItemImg();
+                    itemImg.setItem(item);
 
+                    if(i == 0)
+                        itemImg.setRepimgYn("Y");
+                    else
+                        itemImg.setRepimgYn("N");
+                    itemImgService.saveItemImg(itemImg, itemImgFileList.get(i).getOriginalFilename(), imgNames.get(i));
+
+                }
+                return item.getId();
+            });
+        } catch (CannotCreateTransactionException e) {
+            // 트랜잭션을 시작하지 못하면 롤백 시 삭제가 등록되지 않으므로 여기서 삭제합니다.
+            itemImgUploader.delete(imgNames);
+            throw e;
         }
-        return item.getId();
+        imgNames.forEach(itemThumbnailService::generateAsync);
+        return itemId;
     }
 
     /**
      * 상품 상세 정보를 조회하는 메서드입니다.
+     * 상품 정보와 이미지 목록은 {@link ItemDetailCache}에 보관된 스냅샷을 사용하고, 캐시에 없을 때만 데이터베이스에서 조회합니다.
+     * 재고는 캐시하지 않고 매번 새로 조회합니다. 상세 화면용 썸네일이 만들어진 이미지는 원본 대신 썸네일 URL을 사용합니다.
      *
      * @param itemId 조회할 상품의 ID
      * @return 조회된 상품의 상세 정보가 담긴 DTO
@@ -148,17 +367,129 @@ public class ItemService {
      */
     @Transactional(readOnly = true)
     public ItemFormDto getItemDtl(Long itemId){
-        List<ItemImg> itemImgList = itemImgRepository.findByItemIdOrderByIdAsc(itemId);
-        List<ItemImgDto> itemImgDtoList = new ArrayList<>();
+        ItemDetailSnapshot itemDetailSnapshot = itemDetailCache.get(itemId, () -> loadItemDetail(itemId));
+        ItemFormDto itemFormDto = itemDetailSnapshot.toItemFormDto();
+        for(ItemImgDto itemImgDto : itemFormDto.getItemImgDtoList()){
+            itemImgDto.setImgUrl(itemThumbnailService.variantUrl(itemImgDto.getImgUrl(), ItemThumbnailService.DETAIL));
+        }
+        itemFormDto.setStockNumber(stockService.getStockNumber(itemId, itemDetailSnapshot.stockSharded()));
+        return itemFormDto;
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 저장한 이미지 파일을 삭제하도록 등록합니다.
+     * 이 메서드를 호출한 쪽의 트랜잭션에 참여한 경우에도 그 트랜잭션이 롤백될 때 삭제되므로,
+     * 상품 정보 없이 이미지 파일만 남지 않습니다.
+     */
+    private void deleteImagesOnRollback(List<String> imgNames){
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status == STATUS_ROLLED_BACK){
+                    itemImgUploader.delete(imgNames);
+                }
+            }
+        });
+    }
 
-        for(ItemImg itemImg: itemImgList){
-            ItemImgDto itemImgDto = ItemImgDto.of(itemImg);
-            itemImgDtoList.add(itemImgDto);
+    /**
+     * 상품 정보와 이미지 목록을 한 번의 쿼리로 조회하여 상품 상세 스냅샷을 만듭니다.
+     */
+    private ItemDetailSnapshot loadItemDetail(Long itemId){
+        List<ItemDetailRow> detailRows = itemRepository.findDetailRowsByItemId(itemId);
+        if(detailRows.isEmpty()){
+            throw new EntityNotFoundException();
         }
+        return ItemDetailSnapshot.ofRows(detailRows);
+    }
 
-        Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
-        ItemFormDto itemFormDto = ItemFormDto.of(item);
-        itemFormDto.setItemImgDtoList(itemImgDtoList);
-        return itemFormDto;
+    /**
+     * 애플리케이션이 시작되면 상품 요약이 없는 상품의 요약을 채우고, {@link CatalogEntry} 읽기 모델이 없는 상품의 항목을 만듭니다.
+     * 상품 요약과 읽기 모델을 도입하기 전에 등록된 상품도 메인 페이지에 표시되도록 하기 위해 사용됩니다.
+     * <p>
+     * 항목이 없는 상품을 상품 ID 순서로 {@value #BACKFILL_BATCH_SIZE}개씩 나누어 묶음마다 별도의 트랜잭션으로 저장하므로,
+     * 상품 수와 관계없이 한 번에 메모리에 올리는 상품 수와 트랜잭션의 크기가 일정합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillCatalogEntries(){
+        Integer summaries = transactionTemplate.execute(status -> itemRepository.fillMissingItemSummaries(Item.SUMMARY_LENGTH));
+        if(summaries != null && summaries > 0){
+            log.info("상품 요약 {}건을 채웠습니다.", summaries);
+        }
+
+        long created = 0;
+        Long lastItemId = 0L;
+        while(lastItemId != null){
+            Long afterItemId = lastItemId;
+            List<Long> itemIds = transactionTemplate.execute(status -> backfillCatalogEntryBatch(afterItemId));
+            created += itemIds.size();
+            lastItemId = itemIds.size() < BACKFILL_BATCH_SIZE ? null : itemIds.get(itemIds.size() - 1);
+        }
+        if(created > 0){
+            log.info("상품 목록 읽기 모델 {}건을 생성했습니다.", created);
+        }
+    }
+
+    /**
+     * 주어진 상품 ID 다음부터 읽기 모델 항목이 없는 상품 한 묶음의 항목을 만듭니다.
+     *
+     * @return 항목을 만든 상품의 ID 목록을 상품 ID 오름차순으로 반환합니다.
+     */
+    private List<Long> backfillCatalogEntryBatch(Long lastItemId){
+        List<Item> items = itemRepository.findItemsWithoutCatalogEntry(lastItemId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        if(items.isEmpty()){
+            return List.of();
+        }
+
+        List<Long> itemIds = new ArrayList<>(items.size());
+        for(Item item : items){
+            itemIds.add(item.getId());
+        }
+        Map<Long, String> repImgUrls = new HashMap<>();
+        for(Object[] row : itemImgRepository.findRepImgUrlsByItemIdIn(itemIds)){
+            repImgUrls.put((Long) row[0], (String) row[1]);
+        }
+
+        List<CatalogEntry> catalogEntries = new ArrayList<>(items.size());
+        for(Item item : items){
+            CatalogEntry catalogEntry = CatalogEntry.createCatalogEntry(item);
+            catalogEntry.updateImgUrl(repImgUrls.get(item.getId()));
+            catalogEntries.add(catalogEntry);
+        }
+        catalogEntryRepository.persistAll(catalogEntries);
+        return itemIds;
+    }
+
+    /**
+     * 인기 상품의 재고 샤드 개수를 변경합니다.
+     * 샤드 개수가 1 이상이면 주문 시 재고가 여러 행으로 나뉘어 차감되고, 0이면 샤딩이 해제됩니다.
+     *
+     * @param itemId 재고 샤딩을 변경할 상품의 ID
+     * @param shardCount 새 재고 샤드 개수
+     * @throws EntityNotFoundException 주어진 ID에 해당하는 상품이 없을 경우 발생
+     */
+    public void changeStockShardCount(Long itemId, int shardCount){
+        stockService.changeStockShardCount(itemId, shardCount);
+        itemDetailCache.invalidate(itemId);
+    }
+
+    /**
+     * 메인 페이지 상품 목록 커서입니다. 마지막 상품 ID를 URL에 안전한 Base64 문자열로 인코딩하여,
+     * 클라이언트가 커서의 내부 구조에 의존하지 않도록 합니다.
+     */
+    private static final class MainItemCursor {
+
+        private static String encode(Long itemId){
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(itemId).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Long decode(String cursor){
+            try {
+                return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            } catch (RuntimeException e){
+                throw new IllegalArgumentException("올바르지 않은 상품 목록 커서입니다: " + cursor);
+            }
+        }
     }
 }
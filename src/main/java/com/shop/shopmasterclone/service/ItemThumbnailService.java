@@ -0,0 +1,274 @@
+package com.shop.shopmasterclone.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 상품 이미지의 썸네일을 만들고, 화면에 맞는 썸네일 URL을 찾아 주는 컴포넌트입니다.
+ * <p>
+ * 상품과 이미지 정보가 저장되면 {@link #generateAsync(String)}로 전용 스레드에서 {@code item.thumbnail.sizes}에 설정된 크기별 썸네일을
+ * JDK {@link ImageIO}로 만들어 원본과 같은 디렉토리에 {@code <원본 파일명>_<크기 이름>.<확장자>}로 저장합니다.
+ * 썸네일은 가로세로 비율을 유지한 채 설정된 크기의 정사각형 안에 들어가도록 축소되며, 원본보다 크게 만들지 않습니다.
+ * 썸네일은 임시 파일에 기록한 뒤 이름을 바꾸어 저장하므로, 기록 중인 파일이 화면에 노출되지 않습니다.
+ * <p>
+ * {@link #variantUrl(String, String)}는 썸네일이 만들어져 있으면 썸네일 URL을, 아직 만들어지지 않았거나 만들 수 없는 형식이면
+ * 원본 URL을 반환합니다. {@code item.thumbnail.enabled=false}이면 썸네일을 만들지 않고 항상 원본 URL을 반환합니다.
+ * 목록 화면은 상품마다 썸네일 URL을 찾으므로, 만들어진 썸네일의 파일 이름을 메모리에 기록해 두고 요청마다 파일 시스템을 확인하지 않습니다.
+ * 기록은 썸네일을 저장하거나 삭제할 때 갱신되며, 애플리케이션 시작 시 이미지 디렉토리에 있는 썸네일로 채워집니다.
+ */
+@Log4j2
+@Component
+public class ItemThumbnailService {
+
+    /**
+     * 메인 페이지 상품 카드에 표시할 썸네일 크기 이름입니다.
+     */
+    public static final String CARD = "card";
+
+    /**
+     * 상품 상세 페이지에 표시할 썸네일 크기 이름입니다.
+     */
+    public static final String DETAIL = "detail";
+
+    /**
+     * 주문 내역에 표시할 썸네일 크기 이름입니다.
+     */
+    public static final String ORDER = "order";
+
+    private static final String IMG_URL_PREFIX = "/images/item/";
+
+    private final String itemImgLocation;
+    private final boolean enabled;
+    private final Map<String, Integer> sizes;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> thumbnailNames = ConcurrentHashMap.newKeySet();
+
+    public ItemThumbnailService(
+            @Value("${itemImgLocation}") String itemImgLocation,
+            @Value("${item.thumbnail.enabled:true}") boolean enabled,
+            @Value("${item.thumbnail.sizes:card:400,detail:800,order:150}") String sizes,
+            @Value("${item.thumbnail.threads:2}") int threads,
+            @Value("${item.thumbnail.queue-capacity:1000}") int queueCapacity
+    ){
+        this.itemImgLocation = itemImgLocation;
+        this.enabled = enabled;
+        this.sizes = parseSizes(sizes);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "item-thumbnail");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> log.warn("썸네일 생성 대기열이 가득 차 요청을 건너뜁니다. 원본 이미지가 대신 표시됩니다."));
+    }
+
+    /**
+     * 이미지의 썸네일 생성을 대기열에 넣습니다. 썸네일이 만들어지기 전까지는 원본 이미지가 표시됩니다.
+     *
+     * @param imgName 썸네일을 만들 원본 이미지의 파일 이름입니다.
+     */
+    public void generateAsync(String imgName){
+        if(!enabled || StringUtils.isEmpty(imgName)){
+            return;
+        }
+        executor.execute(() -> generate(imgName));
+    }
+
+    /**
+     * 이미지의 모든 크기별 썸네일을 만듭니다. 이미지를 읽을 수 없거나 쓸 수 없는 형식이면 썸네일을 만들지 않습니다.
+     *
+     * @param imgName 썸네일을 만들 원본 이미지의 파일 이름입니다.
+     */
+    void generate(String imgName){
+        Path original = Path.of(itemImgLocation, imgName);
+        String format = extension(imgName).toLowerCase();
+        if(format.isEmpty() || !ImageIO.getImageWritersBySuffix(format).hasNext()){
+            return;
+        }
+
+        try {
+            BufferedImage source = ImageIO.read(original.toFile());
+            if(source == null){
+                return;
+            }
+            for(Map.Entry<String, Integer> size : sizes.entrySet()){
+                writeThumbnail(original, imgName, format, resize(source, size.getValue(), format), size.getKey());
+            }
+        } catch (IOException | RuntimeException e){
+            log.warn("썸네일을 만들지 못했습니다: {}", imgName, e);
+        }
+    }
+
+    /**
+     * 이미지 URL에 해당하는 크기별 썸네일의 URL을 반환합니다.
+     *
+     * @param imgUrl 원본 이미지의 URL입니다.
+     * @param variant 썸네일 크기 이름입니다. ({@link #CARD}, {@link #DETAIL}, {@link #ORDER} 등)
+     * @return 썸네일이 만들어져 있으면 썸네일 URL을, 없으면 원본 이미지 URL을 그대로 반환합니다.
+     */
+    public String variantUrl(String imgUrl, String variant){
+        if(!enabled || StringUtils.isEmpty(imgUrl) || !imgUrl.startsWith(IMG_URL_PREFIX) || !sizes.containsKey(variant)){
+            return imgUrl;
+        }
+        String thumbnailName = thumbnailName(imgUrl.substring(IMG_URL_PREFIX.length()), variant);
+        if(thumbnailNames.contains(thumbnailName)){
+            return IMG_URL_PREFIX + thumbnailName;
+        }
+        return imgUrl;
+    }
+
+    /**
+     * 이미지의 모든 크기별 썸네일 파일을 삭제합니다. 원본 이미지가 삭제되거나 교체될 때 사용됩니다.
+     *
+     * @param imgName 원본 이미지의 파일 이름입니다.
+     */
+    public void delete(String imgName){
+        if(StringUtils.isEmpty(imgName)){
+            return;
+        }
+        for(String variant : sizes.keySet()){
+            thumbnailNames.remove(thumbnailName(imgName, variant));
+            try {
+                Files.deleteIfExists(Path.of(itemImgLocation, thumbnailName(imgName, variant)));
+            } catch (IOException e){
+                log.warn("썸네일을 삭제하지 못했습니다: {}", thumbnailName(imgName, variant), e);
+            }
+        }
+    }
+
+    /**
+     * 이미지 디렉토리에 이미 저장된 썸네일을 찾아 기록합니다. 애플리케이션 시작 시 한 번 실행되며,
+     * 이전 실행에서 만든 썸네일도 재시작 후 바로 사용되도록 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadThumbnailNames(){
+        Path directory = Path.of(itemImgLocation);
+        if(!enabled || !Files.isDirectory(directory)){
+            return;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.map(path -> path.getFileName().toString())
+                    .filter(this::isThumbnailName)
+                    .forEach(thumbnailNames::add);
+        } catch (IOException e){
+            log.warn("저장된 썸네일 목록을 읽지 못했습니다. 새로 만들어지는 썸네일부터 사용됩니다.", e);
+        }
+        log.info("저장된 썸네일을 기록했습니다. 썸네일 수: {}", thumbnailNames.size());
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        executor.shutdownNow();
+    }
+
+    /**
+     * 썸네일을 임시 파일에 기록한 뒤 이름을 바꾸어 저장합니다. 그 사이 원본이 삭제되었으면 썸네일을 남기지 않습니다.
+     */
+    private void writeThumbnail(Path original, String imgName, String format, BufferedImage thumbnail, String variant) throws IOException {
+        Path target = Path.of(itemImgLocation, thumbnailName(imgName, variant));
+        Path temp = Files.createTempFile(target.getParent(), "thumbnail", ".tmp");
+        try {
+            if(!ImageIO.write(thumbnail, format, temp.toFile()) || !Files.exists(original)){
+                return;
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            thumbnailNames.add(target.getFileName().toString());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 가로세로 비율을 유지한 채 이미지를 {@code maxSize} 크기의 정사각형 안에 들어가도록 축소합니다.
+     * JPEG처럼 투명도를 지원하지 않는 형식은 RGB 이미지로 만듭니다.
+     */
+    private static BufferedImage resize(BufferedImage source, int maxSize, String format){
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        boolean alpha = source.getColorModel().hasAlpha() && !format.equals("jpg") && !format.equals("jpeg");
+
+        BufferedImage thumbnail = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    private static String thumbnailName(String imgName, String variant){
+        int dot = imgName.lastIndexOf('.');
+        if(dot < 0){
+            return imgName + "_" + variant;
+        }
+        return imgName.substring(0, dot) + "_" + variant + imgName.substring(dot);
+    }
+
+    /**
+     * 파일 이름이 설정된 크기 이름 중 하나로 끝나는 썸네일 파일 이름인지 확인합니다.
+     */
+    private boolean isThumbnailName(String fileName){
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot < 0 ? fileName : fileName.substring(0, dot);
+        for(String variant : sizes.keySet()){
+            if(baseName.endsWith("_" + variant)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String extension(String imgName){
+        int dot = imgName.lastIndexOf('.');
+        return dot < 0 ? "" : imgName.substring(dot + 1);
+    }
+
+    /**
+     * {@code 이름:크기} 형식을 쉼표로 구분한 설정 값을 읽습니다.
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않거나 크기가 양수가 아닐 때 발생합니다.
+     */
+    private static Map<String, Integer> parseSizes(String sizes){
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        for(String entry : sizes.split(",")){
+            String[] nameAndSize = entry.trim().split(":");
+            if(nameAndSize.length != 2 || nameAndSize[0].isBlank()){
+                throw new IllegalArgumentException("썸네일 크기 설정은 '이름:크기' 형식이어야 합니다. 입력된 값: " + entry);
+            }
+            int size = Integer.parseInt(nameAndSize[1].trim());
+            if(size <= 0){
+                throw new IllegalArgumentException("썸네일 크기는 양수여야 합니다. 입력된 값: " + entry);
+            }
+            parsed.put(nameAndSize[0].trim(), size);
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+}
@@ -0,0 +1,250 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import com.shop.shopmasterclone.dto.MainItemDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메인 페이지 상품 목록({@code Page<MainItemDto>})을 검색어와 페이지 정보별로 보관하는 크기 제한 캐시입니다.
+ * <p>
+ * 대부분의 방문자는 검색어 없이 앞쪽 몇 페이지만 조회하므로, 같은 목록을 매번 조인 쿼리로 만들지 않고
+ * {@code item.main-page-cache.ttl-ms} 동안 재사용합니다. 캐시가 가득 차면 가장 오래 사용되지 않은 항목부터 제거됩니다.
+ * <p>
+ * 유효 시간이 지난 항목은 {@code item.main-page-cache.stale-ms} 동안 그대로 반환하고, 전용 스레드가 백그라운드에서 새로 조회합니다.
+ * 따라서 캐시를 갱신하는 동안에도 방문자의 요청은 기다리지 않습니다. 허용 시간까지 지난 항목이나 캐시에 없는 항목만 요청 스레드에서 조회하며,
+ * 같은 항목을 여러 요청이 동시에 조회하면 {@link ItemDetailCache}와 같이 한 요청만 조회하고 나머지 요청은 그 결과를 기다려 함께 사용합니다.
+ * <p>
+ * 상품이 변경되면 {@link ItemChangedEvent}를 받아 트랜잭션이 커밋된 뒤 모든 항목을 만료 처리하여, 다음 요청부터 새 목록으로 갱신되도록 합니다.
+ * {@code item.main-page-cache.enabled=false}이면 캐시 없이 매번 조회합니다.
+ */
+@Log4j2
+@Component
+public class MainItemPageCache {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final Map<String, CachedPage> entries;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, CompletableFuture<Page<MainItemDto>>> loading = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refresher;
+
+    /**
+     * 무효화가 일어날 때마다 증가하는 세대 번호입니다. 무효화 이전에 시작한 갱신 결과를 새 값으로 취급하지 않기 위해 사용합니다.
+     */
+    private volatile long generation;
+
+    private final Counter hitCounter;
+    private final Counter staleHitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public MainItemPageCache(
+            MeterRegistry meterRegistry,
+            @Value("${item.main-page-cache.enabled:true}") boolean enabled,
+            @Value("${item.main-page-cache.max-size:100}") int maxSize,
+            @Value("${item.main-page-cache.ttl-ms:10000}") long ttlMillis,
+            @Value("${item.main-page-cache.stale-ms:60000}") long staleMillis
+    ){
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.staleMillis = staleMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPage> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.refresher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(maxSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "main-page-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.hitCounter = Counter.builder("main.page.cache.hits")
+                .description("캐시에서 바로 반환한 메인 페이지 상품 목록 수").register(meterRegistry);
+        this.staleHitCounter = Counter.builder("main.page.cache.stale.hits")
+                .description("유효 시간이 지나 이전 값을 반환하고 백그라운드에서 갱신한 요청 수").register(meterRegistry);
+        this.missCounter = Counter.builder("main.page.cache.misses")
+                .description("캐시에 없어 요청 스레드에서 조회한 메인 페이지 상품 목록 수").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("main.page.cache.coalesced")
+                .description("같은 목록을 조회 중인 다른 요청의 결과를 기다려 사용한 요청 수").register(meterRegistry);
+        Gauge.builder("main.page.cache.size", this, MainItemPageCache::size)
+                .description("캐시에 적재된 메인 페이지 상품 목록 수").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 상품 목록과 만료 시각입니다.
+     *
+     * @param page 상품 목록 페이지
+     * @param freshUntil 이 시각까지는 갱신 없이 반환합니다.
+     * @param staleUntil 이 시각까지는 이전 값을 반환하며 백그라운드에서 갱신합니다.
+     */
+    private record CachedPage(Page<MainItemDto> page, long freshUntil, long staleUntil) {
+    }
+
+    /**
+     * 검색 조건과 페이지 정보에 해당하는 메인 페이지 상품 목록을 반환합니다.
+     *
+     * @param itemSearchDto 상품 검색 조건을 담은 DTO
+     * @param pageable 페이징 정보
+     * @param loader 캐시에 없거나 갱신이 필요할 때 상품 목록을 조회하는 함수입니다. 백그라운드 스레드에서 호출될 수 있습니다.
+     * @return 메인 페이지 상품 목록
+     */
+    public Page<MainItemDto> get(ItemSearchDto itemSearchDto, Pageable pageable, Supplier<Page<MainItemDto>> loader){
+        if(!enabled){
+            return loader.get();
+        }
+
+        String key = key(itemSearchDto, pageable);
+        long now = System.currentTimeMillis();
+        CachedPage cached;
+        synchronized (entries){
+            cached = entries.get(key);
+        }
+
+        if(cached != null && now < cached.freshUntil()){
+            hitCounter.increment();
+            return cached.page();
+        }
+        if(cached != null && now < cached.staleUntil()){
+            staleHitCounter.increment();
+            refreshAsync(key, loader);
+            return cached.page();
+        }
+
+        CompletableFuture<Page<MainItemDto>> created = new CompletableFuture<>();
+        CompletableFuture<Page<MainItemDto>> existing = loading.putIfAbsent(key, created);
+        if(existing != null){
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        missCounter.increment();
+        long loadGeneration = generation;
+        try {
+            Page<MainItemDto> page = loader.get();
+            put(key, page, loadGeneration);
+            created.complete(page);
+            return page;
+        } catch (RuntimeException e){
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+
+    /**
+     * 상품이 변경되면 트랜잭션이 커밋된 뒤 모든 항목을 만료 처리합니다.
+     * 항목은 제거하지 않으므로, 다음 요청은 이전 목록을 받고 새 목록은 백그라운드에서 조회됩니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event){
+        invalidateAll();
+    }
+
+    /**
+     * 모든 항목을 만료 처리하고, 진행 중인 조회를 제거하여 이후 요청이 새로 조회하도록 합니다.
+     */
+    public void invalidateAll(){
+        synchronized (entries){
+            generation++;
+            loading.clear();
+            entries.replaceAll((key, cached) -> new CachedPage(cached.page(), 0, cached.staleUntil()));
+        }
+    }
+
+    /**
+     * 캐시에 적재된 상품 목록 수를 반환합니다.
+     *
+     * @return 캐시 항목 수를 반환합니다.
+     */
+    public int size(){
+        synchronized (entries){
+            return entries.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        refresher.shutdownNow();
+    }
+
+    private void refreshAsync(String key, Supplier<Page<MainItemDto>> loader){
+        if(!refreshing.add(key)){
+            return;
+        }
+        long loadGeneration = generation;
+        try {
+            refresher.execute(() -> {
+                try {
+                    put(key, loader.get(), loadGeneration);
+                } catch (RuntimeException e){
+                    log.warn("메인 페이지 상품 목록을 갱신하지 못했습니다. key={}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e){
+            // 갱신 대기열이 가득 찼거나 종료 중이면 이번 갱신을 건너뛰고, 다음 요청에서 다시 시도합니다.
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * 조회한 상품 목록을 저장합니다. 조회하는 동안 무효화가 일어났다면 만료된 상태로 저장하여 다음 요청에서 다시 갱신되도록 합니다.
+     */
+    private void put(String key, Page<MainItemDto> page, long loadGeneration){
+        long now = System.currentTimeMillis();
+        synchronized (entries){
+            long freshUntil = loadGeneration == generation ? now + ttlMillis : 0;
+            entries.put(key, new CachedPage(page, freshUntil, now + ttlMillis + staleMillis));
+        }
+    }
+
+    private static Page<MainItemDto> await(CompletableFuture<Page<MainItemDto>> future){
+        try {
+            return future.join();
+        } catch (CompletionException e){
+            if(e.getCause() instanceof RuntimeException cause){
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 메인 페이지는 검색 조건 중 검색어, 가격 범위, 정렬 기준만 사용하므로, 이 값들과 페이지 번호, 페이지 크기로 키를 만듭니다.
+     * 검색어가 없는 경우(null)와 빈 검색어는 같은 결과를 내므로 같은 키를 사용합니다.
+     */
+    private static String key(ItemSearchDto itemSearchDto, Pageable pageable){
+        String searchQuery = itemSearchDto.getSearchQuery() == null ? "" : itemSearchDto.getSearchQuery();
+        return pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + searchQuery
+                + "|" + itemSearchDto.getMinPrice() + "|" + itemSearchDto.getMaxPrice() + "|" + itemSearchDto.getSortBy();
+    }
+}
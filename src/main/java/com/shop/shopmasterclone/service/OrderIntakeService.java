@@ -0,0 +1,323 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.dto.OrderDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.entity.Order;
+import com.shop.shopmasterclone.entity.OrderItem;
+import com.shop.shopmasterclone.exception.OutofStockException;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 요청을 대기열에 모았다가 여러 건을 하나의 트랜잭션으로 커밋하는 주문 접수 서비스입니다.
+ * <p>
+ * 주문마다 커밋하면 주문 수만큼 데이터베이스 커밋 비용이 발생하므로, 이 서비스는 요청을 대기열에 넣고
+ * 전용 스레드가 최대 {@code order.intake.batch-size}건 또는 {@code order.intake.linger-ms}만큼 기다린 요청을
+ * 묶어 한 번에 처리합니다. 묶음 안의 재고 차감은 상품 ID 순서로 실행되며, 같은 상품의 주문은 수량을 합산하여
+ * 상품마다 조건부 UPDATE 한 번으로 차감합니다. 주문은 JDBC 배치로 함께 저장됩니다.
+ * 합산한 수량만큼 재고가 없으면 그 상품의 주문만 다음 시도에서 주문별로 차감하여, 재고가 허락하는 주문까지는 성공시킵니다.
+ * <p>
+ * 각 호출자는 {@link CompletableFuture}로 자신의 주문 ID 또는 {@link OutofStockException} 등의 예외를 받습니다.
+ * 묶음 중 일부 주문이 실패하면 트랜잭션을 롤백한 뒤 실패한 주문을 제외하고 나머지를 다시 커밋하므로,
+ * 한 주문의 실패가 다른 주문의 결과에 영향을 주지 않습니다.
+ * <p>
+ * {@code order.intake.enabled=false}이면 대기열 없이 {@link OrderService#order(OrderDto, String)}를 바로 호출합니다.
+ */
+@Log4j2
+@Service
+public class OrderIntakeService {
+
+    private final OrderService orderService;
+    private final StockService stockService;
+    private final ItemRepository itemRepository;
+    private final MemberRepository memberRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<OrderRequest> queue;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer commitTimer;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public OrderIntakeService(
+            OrderService orderService,
+            StockService stockService,
+            ItemRepository itemRepository,
+            MemberRepository memberRepository,
+            OrderRepository orderRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.intake.enabled:true}") boolean enabled,
+            @Value("${order.intake.batch-size:50}") int batchSize,
+            @Value("${order.intake.linger-ms:5}") long lingerMillis,
+            @Value("${order.intake.queue-capacity:10000}") int queueCapacity
+    ){
+        this.orderService = orderService;
+        this.stockService = stockService;
+        this.itemRepository = itemRepository;
+        this.memberRepository = memberRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchSizeSummary = DistributionSummary.builder("order.intake.batch.size")
+                .description("하나의 트랜잭션으로 묶인 주문 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("order.intake.commit.latency")
+                .description("주문 묶음 하나를 처리하고 커밋하는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("order.intake.queue.depth", queue, BlockingQueue::size)
+                .description("처리를 기다리는 주문 요청 수").register(meterRegistry);
+    }
+
+    /**
+     * 대기열에 들어온 주문 요청 하나입니다.
+     */
+    private static final class OrderRequest {
+        private final OrderDto orderDto;
+        private final String email;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        private OrderRequest(OrderDto orderDto, String email){
+            this.orderDto = orderDto;
+            this.email = email;
+        }
+    }
+
+    /**
+     * 주문 요청을 대기열에 넣습니다.
+     *
+     * @param orderDto 주문 생성에 필요한 데이터를 담고 있는 DTO 객체입니다.
+     * @param email 주문을 생성하는 사용자의 이메일 주소입니다.
+     * @return 주문이 커밋되면 주문 ID로 완료되고, 재고 부족 등으로 실패하면 해당 예외로 완료되는 Future를 반환합니다.
+     *         대기열이 가득 찼거나 접수가 종료된 경우 {@link IllegalStateException}으로 완료됩니다.
+     */
+    public CompletableFuture<Long> submit(OrderDto orderDto, String email){
+        if(!enabled){
+            try {
+                return CompletableFuture.completedFuture(orderService.order(orderDto, email));
+            } catch (RuntimeException e){
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        if(!running){
+            return CompletableFuture.failedFuture(new IllegalStateException("주문 접수가 종료되었습니다."));
+        }
+        OrderRequest request = new OrderRequest(orderDto, email);
+        if(!queue.offer(request)){
+            return CompletableFuture.failedFuture(new IllegalStateException("주문 접수 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."));
+        }
+        return request.future;
+    }
+
+    @PostConstruct
+    public void start(){
+        if(!enabled){
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drain, "order-intake");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if(drainer == null){
+            return;
+        }
+        running = false;
+        drainer.interrupt();
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<OrderRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining, new IllegalStateException("주문 접수가 종료되었습니다."));
+    }
+
+    /**
+     * 대기열에서 요청을 꺼내 묶음 단위로 처리합니다. 첫 요청이 도착한 뒤 linger 시간 동안 요청을 더 모으며,
+     * 묶음이 가득 차면 바로 처리합니다.
+     */
+    private void drain(){
+        List<OrderRequest> batch = new ArrayList<>(batchSize);
+        while(running){
+            try {
+                OrderRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first == null){
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + lingerNanos;
+                while(batch.size() < batchSize){
+                    OrderRequest next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if(next == null){
+                        break;
+                    }
+                    batch.add(next);
+                }
+                process(batch);
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                failAll(batch, new IllegalStateException("주문 접수가 종료되었습니다."));
+                return;
+            } catch (RuntimeException e){
+                log.error("주문 묶음 처리 중 예상하지 못한 오류가 발생했습니다.", e);
+                failAll(batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 주문 묶음을 하나의 트랜잭션으로 처리합니다. 실패한 주문이 있으면 트랜잭션을 롤백하고,
+     * 실패한 주문을 제외한 나머지로 성공할 때까지 다시 시도합니다.
+     */
+    private void process(List<OrderRequest> batch){
+        batchSizeSummary.record(batch.size());
+
+        List<OrderRequest> pending = new ArrayList<>(batch);
+        pending.sort(Comparator.comparing(request -> request.orderDto.getItemId()));
+        Set<Long> lineByLineItemIds = new HashSet<>();
+
+        while(!pending.isEmpty()){
+            Map<OrderRequest, RuntimeException> failures = new HashMap<>();
+            List<Long> orderIds;
+            Timer.Sample sample = Timer.start();
+            try {
+                orderIds = transactionTemplate.execute(status -> placeOrders(pending, lineByLineItemIds, failures, status));
+            } catch (RuntimeException e){
+                failAll(pending, e);
+                return;
+            } finally {
+                sample.stop(commitTimer);
+            }
+
+            if(orderIds != null){
+                for(int i = 0; i < pending.size(); i++){
+                    pending.get(i).future.complete(orderIds.get(i));
+                }
+                return;
+            }
+            failures.forEach((request, e) -> request.future.completeExceptionally(e));
+            pending.removeIf(failures::containsKey);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에서 주문 묶음의 재고를 차감하고 주문을 저장합니다.
+     * 같은 상품의 주문은 수량을 합산하여 한 번에 차감하며, 합산한 수량만큼 재고가 없으면 그 상품을
+     * {@code lineByLineItemIds}에 추가하여 다음 시도에서 주문별로 차감하도록 합니다.
+     * 재고 차감에 실패한 주문이 하나라도 있거나 다시 시도할 상품이 생기면 주문을 저장하지 않고 트랜잭션을 롤백으로 표시합니다.
+     *
+     * @return 요청 순서대로 생성된 주문 ID 목록을 반환합니다. 트랜잭션을 롤백으로 표시했으면 null을 반환합니다.
+     */
+    private List<Long> placeOrders(List<OrderRequest> requests, Set<Long> lineByLineItemIds,
+                                   Map<OrderRequest, RuntimeException> failures, TransactionStatus status){
+        Map<Long, List<OrderRequest>> requestsByItemId = new LinkedHashMap<>();
+        for(OrderRequest request : requests){
+            requestsByItemId.computeIfAbsent(request.orderDto.getItemId(), itemId -> new ArrayList<>()).add(request);
+        }
+
+        boolean retry = false;
+        for(Map.Entry<Long, List<OrderRequest>> entry : requestsByItemId.entrySet()){
+            Long itemId = entry.getKey();
+            List<OrderRequest> itemRequests = entry.getValue();
+            if(itemRequests.size() == 1 || lineByLineItemIds.contains(itemId)
+                    || itemRequests.stream().anyMatch(request -> request.orderDto.getCount() <= 0)){
+                for(OrderRequest request : itemRequests){
+                    try {
+                        stockService.removeStock(itemId, request.orderDto.getCount());
+                    } catch (RuntimeException e){
+                        failures.put(request, e);
+                    }
+                }
+                continue;
+            }
+
+            int totalCount = itemRequests.stream().mapToInt(request -> request.orderDto.getCount()).sum();
+            try {
+                stockService.removeStock(itemId, totalCount);
+            } catch (OutofStockException e){
+                lineByLineItemIds.add(itemId);
+                retry = true;
+            } catch (RuntimeException e){
+                itemRequests.forEach(request -> failures.put(request, e));
+            }
+        }
+        if(retry || !failures.isEmpty()){
+            status.setRollbackOnly();
+            return null;
+        }
+
+        Map<Long, Item> itemMap = new HashMap<>();
+        for(Item item : itemRepository.findAllById(requestsByItemId.keySet())){
+            itemMap.put(item.getId(), item);
+        }
+        Map<String, Member> memberMap = new HashMap<>();
+
+        List<Order> orders = new ArrayList<>(requests.size());
+        for(OrderRequest request : requests){
+            Item item = itemMap.get(request.orderDto.getItemId());
+            Member member = memberMap.computeIfAbsent(request.email, memberRepository::findByEmail);
+
+            List<OrderItem> orderItemList = new ArrayList<>();
+            orderItemList.add(OrderItem.createStockReservedOrderItem(item, request.orderDto.getCount()));
+            orders.add(Order.createOrder(member, orderItemList));
+        }
+        orderRepository.saveAll(orders);
+
+        List<Long> orderIds = new ArrayList<>(orders.size());
+        for(Order order : orders){
+            orderIds.add(order.getId());
+        }
+        return orderIds;
+    }
+
+    private void failAll(List<OrderRequest> requests, Throwable cause){
+        for(OrderRequest request : requests){
+            request.future.completeExceptionally(cause);
+        }
+    }
+}
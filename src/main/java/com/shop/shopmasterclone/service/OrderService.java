@@ -1,11 +1,12 @@
 package com.shop.shopmasterclone.service;
 
+import com.shop.shopmasterclone.constant.OrderStatus;
 import com.shop.shopmasterclone.dto.OrderDto;
 import com.shop.shopmasterclone.dto.OrderHistDto;
+import com.shop.shopmasterclone.dto.OrderHistSliceDto;
 import com.shop.shopmasterclone.dto.OrderItemDto;
 import com.shop.shopmasterclone.entity.*;
 import com.shop.shopmasterclone.exception.OutofStockException;
-import com.shop.shopmasterclone.repository.ItemImgRepository;
 import com.shop.shopmasterclone.repository.ItemRepository;
 import com.shop.shopmasterclone.repository.MemberRepository;
 import com.shop.shopmasterclone.repository.OrderRepository;
@@ -13,13 +14,22 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * 주문 관련 서비스를 제공하는 클래스입니다.
@@ -33,7 +43,9 @@ public class OrderService {
     private final ItemRepository itemRepository;
     private final MemberRepository memberRepository;
     private final OrderRepository orderRepository;
-    private final ItemImgRepository itemImgRepository;
+    private final StockService stockService;
+    private final RepImgUrlCache repImgUrlCache;
+    private final ItemThumbnailService itemThumbnailService;
 
     /**
      * 주문이 현재 로그인한 사용자에 의해 생성되었는지 검증합니다.
@@ -57,17 +69,30 @@ public class OrderService {
 
     /**
      * 주문을 취소합니다. 주문의 상태를 취소로 변경하고, 관련 주문 항목의 재고를 복구합니다.
+     * 재고 복구는 {@link StockService}를 통해 UPDATE 문으로 반영되어, 동시에 진행 중인 주문의 차감을 덮어쓰지 않습니다.
+     * 주문 행을 잠근 뒤 상태를 확인하므로, 같은 주문을 동시에 또는 반복해서 취소해도 재고는 한 번만 복구됩니다.
      *
      * @param orderId 취소할 주문의 식별자입니다.
      * @throws EntityNotFoundException 주어진 식별자로 주문을 찾을 수 없을 때 발생합니다.
+     * @throws IllegalStateException 이미 취소된 주문일 때 발생합니다.
      */
     public void cancelOrder(Long orderId){
-        Order order = orderRepository.findById(orderId).orElseThrow(EntityNotFoundException::new);
-        order.cancelOrder();
+        Order order = orderRepository.findByIdForUpdate(orderId).orElseThrow(EntityNotFoundException::new);
+        if(order.getOrderStatus() == OrderStatus.CANCEL){
+            throw new IllegalStateException("이미 취소된 주문입니다.");
+        }
+        order.setOrderStatus(OrderStatus.CANCEL);
+
+        List<OrderItem> orderItems = new ArrayList<>(order.getOrderItems());
+        for(OrderItem orderItem : orderItems){
+            stockService.addStock(orderItem.getItem().getId(), orderItem.getCount());
+        }
     }
 
     /**
      * 새로운 주문을 생성합니다.
+     * 재고는 {@link StockService#removeStock(Long, int)}의 조건부 UPDATE로 먼저 차감되며,
+     * 차감에 성공한 경우에만 주문이 생성됩니다.
      *
      * @param orderDto 주문 생성에 필요한 데이터를 담고 있는 DTO 객체입니다.
      * @param email 주문을 생성하는 사용자의 이메일 주소입니다.
@@ -76,17 +101,57 @@ public class OrderService {
      * @throws OutofStockException 주문하려는 상품의 재고가 부족할 때 발생합니다.
      */
     public Long order(OrderDto orderDto, String email){
+        stockService.removeStock(orderDto.getItemId(), orderDto.getCount());
+
         Item item = itemRepository.findById(orderDto.getItemId())
                 .orElseThrow(EntityNotFoundException::new);
         Member member = memberRepository.findByEmail(email);
 
-        if (item.getStockNumber() < orderDto.getCount()) {
-            throw new OutofStockException("Out of stock");
+        List<OrderItem> orderItemList = new ArrayList<>();
+        OrderItem orderItem = OrderItem.createStockReservedOrderItem(item, orderDto.getCount());
+        orderItemList.add(orderItem);
+
+        Order order = Order.createOrder(member, orderItemList);
+        orderRepository.save(order);
+
+        return order.getId();
+    }
+
+    /**
+     * 여러 상품을 하나의 주문으로 생성합니다. 모든 주문 항목은 하나의 트랜잭션에서 처리되며,
+     * 하나라도 재고가 부족하면 전체 주문이 롤백됩니다.
+     *
+     * <p>같은 상품이 여러 번 포함되면 수량을 합산한 뒤, 상품 ID 오름차순으로 재고를 차감합니다.
+     * 모든 주문이 같은 순서로 상품 행의 잠금을 획득하므로, 겹치는 상품을 가진 주문끼리 교착 상태가 발생하지 않습니다.
+     * 상품은 IN 쿼리 한 번으로 조회하고, 주문 항목은 JDBC 배치(hibernate.jdbc.batch_size)로 한꺼번에 저장됩니다.</p>
+     *
+     * @param orderDtoList 주문할 상품과 수량의 목록입니다.
+     * @param email 주문을 생성하는 사용자의 이메일 주소입니다.
+     * @return 생성된 주문의 식별자를 반환합니다.
+     * @throws EntityNotFoundException 주어진 식별자로 상품을 찾을 수 없을 때 발생합니다.
+     * @throws OutofStockException 주문하려는 상품 중 하나라도 재고가 부족할 때 발생합니다.
+     */
+    public Long orders(List<OrderDto> orderDtoList, String email){
+        Map<Long, Integer> countByItemId = new TreeMap<>();
+        for(OrderDto orderDto : orderDtoList){
+            countByItemId.merge(orderDto.getItemId(), orderDto.getCount(), Integer::sum);
         }
 
+        for(Map.Entry<Long, Integer> entry : countByItemId.entrySet()){
+            stockService.removeStock(entry.getKey(), entry.getValue());
+        }
+
+        Map<Long, Item> itemMap = new HashMap<>();
+        for(Item item : itemRepository.findAllById(countByItemId.keySet())){
+            itemMap.put(item.getId(), item);
+        }
+        Member member = memberRepository.findByEmail(email);
+
         List<OrderItem> orderItemList = new ArrayList<>();
-        OrderItem orderItem = OrderItem.createOrderItem(item, orderDto.getCount());
-        orderItemList.add(orderItem);
+        for(OrderDto orderDto : orderDtoList){
+            Item item = itemMap.get(orderDto.getItemId());
+            orderItemList.add(OrderItem.createStockReservedOrderItem(item, orderDto.getCount()));
+        }
 
         Order order = Order.createOrder(member, orderItemList);
         orderRepository.save(order);
@@ -96,6 +161,10 @@ public class OrderService {
 
     /**
      * 사용자의 주문 내역을 페이지 단위로 조회합니다.
+     * 주문 ID 목록, 주문 개수, 주문 내역 프로젝션을 각각 한 번의 쿼리로 조회하므로,
+     * 페이지에 포함된 주문 항목의 수와 관계없이 실행되는 쿼리의 수가 일정합니다.
+     * 주문 내역은 {@link OrderRepository#getOrderHistDtos(List)}로 화면에 필요한 컬럼만 조회하여 만들어지며,
+     * 대표 이미지 URL은 {@link RepImgUrlCache}에서 채워집니다.
      *
      * @param email 주문 내역을 조회할 사용자의 이메일 주소입니다.
      * @param pageable 페이징 처리 정보를 담고 있는 Pageable 객체입니다.
@@ -103,22 +172,90 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public Page<OrderHistDto> getOrderList(String email, Pageable pageable){
-        List<Order> orders = orderRepository.findOrders(email, pageable);
+        List<Long> orderIds = orderRepository.findOrderIds(email, pageable);
         Long totalCount = orderRepository.countOrder(email);
 
-        List<OrderHistDto> orderHistDtos = new ArrayList<>();
+        return new PageImpl<OrderHistDto>(getOrderHistDtos(orderIds), pageable, totalCount);
+    }
+
+    /**
+     * 사용자의 주문 내역을 커서 기반으로 조회합니다.
+     * 이전 페이지의 마지막 주문의 (주문 날짜, 주문 ID) 바로 다음 위치부터 조회하므로, 앞 페이지의 행을 건너뛰며 읽지 않고
+     * 전체 개수도 세지 않습니다. 따라서 주문이 많은 사용자도 페이지 깊이와 관계없이 일정한 시간에 조회됩니다.
+     *
+     * @param email 주문 내역을 조회할 사용자의 이메일 주소입니다.
+     * @param cursor 이전 조회에서 받은 다음 페이지 커서입니다. 첫 페이지를 조회할 때는 null을 전달합니다.
+     * @param size 한 번에 조회할 주문의 수입니다.
+     * @return 주문 내역과 다음 페이지 커서를 담은 {@link OrderHistSliceDto}를 반환합니다.
+     * @throws IllegalArgumentException 커서의 형식이 올바르지 않을 때 발생합니다.
+     */
+    @Transactional(readOnly = true)
+    public OrderHistSliceDto getOrderSlice(String email, String cursor, int size){
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Order> orders;
+        if(cursor == null || cursor.isBlank()){
+            orders = orderRepository.findFirstOrders(email, limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            orders = orderRepository.findOrdersBefore(email, orderCursor.orderDate(), orderCursor.orderId(), limit);
+        }
+
+        boolean hasNext = orders.size() > size;
+        if(hasNext){
+            orders = orders.subList(0, size);
+        }
+        String nextCursor = hasNext ? OrderCursor.encode(orders.get(orders.size() - 1)) : null;
 
+        List<Long> orderIds = new ArrayList<>(orders.size());
         for(Order order : orders){
-            OrderHistDto orderHistDto = new OrderHistDto(order);
-            List<OrderItem> orderItems = order.getOrderItems();
-            for(OrderItem orderItem : orderItems){
-                ItemImg itemImg = itemImgRepository.findByItemIdAndRepimgYn(orderItem.getItem().getId(), "Y");
-                OrderItemDto orderItemDto = new OrderItemDto(orderItem, itemImg.getImgUrl());
-                orderHistDto.addOrderItemDto(orderItemDto);
+            orderIds.add(order.getId());
+        }
+        return new OrderHistSliceDto(getOrderHistDtos(orderIds), nextCursor);
+    }
+
+    /**
+     * 주문 내역 프로젝션을 조회하고, 주문 항목의 이미지 URL을 대표 이미지 URL 캐시에서 채웁니다.
+     * 주문 내역용 썸네일이 만들어져 있으면 원본 대신 썸네일 URL을 사용합니다.
+     */
+    private List<OrderHistDto> getOrderHistDtos(List<Long> orderIds){
+        List<OrderHistDto> orderHistDtos = orderRepository.getOrderHistDtos(orderIds);
+
+        Set<Long> itemIds = new HashSet<>();
+        for(OrderHistDto orderHistDto : orderHistDtos){
+            for(OrderItemDto orderItemDto : orderHistDto.getOrderItemDtoList()){
+                itemIds.add(orderItemDto.getItemId());
             }
+        }
+
+        Map<Long, String> repImgUrls = repImgUrlCache.getRepImgUrls(itemIds);
+        for(OrderHistDto orderHistDto : orderHistDtos){
+            for(OrderItemDto orderItemDto : orderHistDto.getOrderItemDtoList()){
+                orderItemDto.setImgUrl(itemThumbnailService.variantUrl(repImgUrls.get(orderItemDto.getItemId()), ItemThumbnailService.ORDER));
+            }
+        }
+        return orderHistDtos;
+    }
 
-            orderHistDtos.add(orderHistDto);
+    /**
+     * 주문 내역 커서입니다. (주문 날짜, 주문 ID)를 URL에 안전한 Base64 문자열로 인코딩하여,
+     * 클라이언트가 커서의 내부 구조에 의존하지 않도록 합니다.
+     */
+    private record OrderCursor(LocalDateTime orderDate, Long orderId) {
+
+        private static String encode(Order order){
+            String raw = order.getOrderDate() + "|" + order.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static OrderCursor decode(String cursor){
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.valueOf(raw.substring(separator + 1)));
+            } catch (RuntimeException e){
+                throw new IllegalArgumentException("올바르지 않은 주문 내역 커서입니다: " + cursor);
+            }
         }
-        return new PageImpl<OrderHistDto>(orderHistDtos, pageable, totalCount);
     }
 }
@@ -0,0 +1,176 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.repository.ItemImgRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 상품 ID별 대표 이미지 URL을 메모리에 보관하는 크기 제한 캐시입니다.
+ * <p>
+ * 캐시에 없는 상품은 IN 쿼리 한 번으로 한꺼번에 조회하여 채우며, 대표 이미지가 없는 상품도 기록하여
+ * 같은 상품을 반복해서 조회하지 않습니다. 캐시가 가득 차면 가장 오래 사용되지 않은 항목부터 제거됩니다.
+ * <p>
+ * 대표 이미지가 저장되거나 변경되면 {@link #invalidate(Long)}로 해당 상품의 버전을 올리고 항목을 제거합니다.
+ * 조회하는 쪽은 쿼리를 실행하기 전의 버전을 기억하며, 조회하는 동안 버전이 바뀐 상품의 결과는 캐시에 넣지 않습니다.
+ * 변경 전의 값을 읽은 다른 요청이 트랜잭션 커밋 전에 다시 채운 경우를 대비해, 트랜잭션이 끝난 뒤 한 번 더 무효화합니다.
+ */
+@Component
+public class RepImgUrlCache {
+
+    /**
+     * 대표 이미지가 없는 상품을 나타내는 값입니다.
+     */
+    private static final String NO_IMAGE = "";
+
+    /**
+     * 상품 버전을 나누어 보관하는 칸의 수입니다. {@link ItemDetailCache}와 같은 방식으로, 같은 칸의 다른 상품이 변경되면
+     * 불필요하게 다시 조회될 뿐 오래된 값이 보관되지는 않습니다.
+     */
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ItemImgRepository itemImgRepository;
+    private final Map<Long, String> entries;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public RepImgUrlCache(
+            ItemImgRepository itemImgRepository,
+            MeterRegistry meterRegistry,
+            @Value("${rep-img-cache.max-size:10000}") int maxSize
+    ){
+        this.itemImgRepository = itemImgRepository;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                if(size() > maxSize){
+                    evictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hitCounter = Counter.builder("rep.img.cache.hits")
+                .description("캐시에서 찾은 대표 이미지 URL 수").register(meterRegistry);
+        this.missCounter = Counter.builder("rep.img.cache.misses")
+                .description("캐시에 없어 데이터베이스에서 조회한 대표 이미지 URL 수").register(meterRegistry);
+        this.evictionCounter = Counter.builder("rep.img.cache.evictions")
+                .description("캐시 크기 제한으로 제거된 항목 수").register(meterRegistry);
+        Gauge.builder("rep.img.cache.size", this, RepImgUrlCache::size)
+                .description("캐시에 적재된 상품 수").register(meterRegistry);
+    }
+
+    /**
+     * 주어진 상품들의 대표 이미지 URL을 반환합니다. 캐시에 없는 상품은 한 번의 쿼리로 함께 조회하여 캐시에 채웁니다.
+     *
+     * @param itemIds 대표 이미지 URL을 조회할 상품 ID 목록입니다.
+     * @return 상품 ID를 키로, 대표 이미지 URL을 값으로 하는 맵을 반환합니다. 대표 이미지가 없는 상품은 포함되지 않습니다.
+     */
+    public Map<Long, String> getRepImgUrls(Collection<Long> itemIds){
+        Map<Long, String> repImgUrls = new HashMap<>();
+        List<Long> missingItemIds = new ArrayList<>();
+        synchronized (entries){
+            for(Long itemId : itemIds){
+                String imgUrl = entries.get(itemId);
+                if(imgUrl == null){
+                    missingItemIds.add(itemId);
+                } else if(!imgUrl.equals(NO_IMAGE)){
+                    repImgUrls.put(itemId, imgUrl);
+                }
+            }
+        }
+        hitCounter.increment(itemIds.size() - missingItemIds.size());
+        if(missingItemIds.isEmpty()){
+            return repImgUrls;
+        }
+
+        missCounter.increment(missingItemIds.size());
+        long[] loadVersions = new long[missingItemIds.size()];
+        for(int i = 0; i < loadVersions.length; i++){
+            loadVersions[i] = versions.get(stripe(missingItemIds.get(i)));
+        }
+        Map<Long, String> loaded = new HashMap<>();
+        for(Object[] row : itemImgRepository.findRepImgUrlsByItemIdIn(missingItemIds)){
+            loaded.put((Long) row[0], (String) row[1]);
+        }
+        synchronized (entries){
+            for(int i = 0; i < loadVersions.length; i++){
+                Long itemId = missingItemIds.get(i);
+                if(versions.get(stripe(itemId)) == loadVersions[i]){
+                    entries.put(itemId, loaded.getOrDefault(itemId, NO_IMAGE));
+                }
+            }
+        }
+        repImgUrls.putAll(loaded);
+        return repImgUrls;
+    }
+
+    /**
+     * 상품 하나의 대표 이미지 URL을 반환합니다.
+     *
+     * @param itemId 대표 이미지 URL을 조회할 상품의 ID입니다.
+     * @return 대표 이미지 URL을 반환합니다. 대표 이미지가 없으면 null을 반환합니다.
+     */
+    public String getRepImgUrl(Long itemId){
+        return getRepImgUrls(List.of(itemId)).get(itemId);
+    }
+
+    /**
+     * 대표 이미지가 변경된 상품의 버전을 올리고 항목을 캐시에서 제거합니다.
+     * 즉시 무효화하고, 현재 트랜잭션이 끝난 뒤(커밋 또는 롤백)에 한 번 더 무효화합니다.
+     *
+     * @param itemId 대표 이미지가 변경된 상품의 ID입니다.
+     */
+    public void invalidate(Long itemId){
+        evict(itemId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(itemId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시에 적재된 상품 수를 반환합니다.
+     *
+     * @return 캐시 항목 수를 반환합니다.
+     */
+    public int size(){
+        synchronized (entries){
+            return entries.size();
+        }
+    }
+
+    /**
+     * 버전을 올려 조회 중인 결과가 캐시에 들어가지 않도록 하고 항목을 제거합니다.
+     */
+    private void evict(Long itemId){
+        synchronized (entries){
+            versions.incrementAndGet(stripe(itemId));
+            entries.remove(itemId);
+        }
+    }
+
+    private static int stripe(Long itemId){
+        return (Long.hashCode(itemId) & 0x7fffffff) % VERSION_STRIPES;
+    }
+}
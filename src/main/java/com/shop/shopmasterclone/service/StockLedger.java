@@ -0,0 +1,308 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.exception.OutofStockException;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.ItemStockShardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 상품 ID별 판매 가능 재고를 메모리의 원자적 카운터로 보관하는 재고 예약 원장입니다.
+ * <p>
+ * 주문은 데이터베이스에 접근하기 전에 이 원장에서 재고를 예약하며, 재고가 없는 주문은 잠금 없이
+ * CAS 연산만으로 즉시 거절됩니다. 예약은 주문 트랜잭션 안에서 {@link StockService}의 조건부 UPDATE로 확정되고,
+ * 트랜잭션이 롤백되면 예약했던 수량이 원장으로 반환됩니다. 데이터베이스가 항상 최종 기준이므로,
+ * 원장이 실제 재고와 어긋나더라도 초과 판매는 발생하지 않고 대사를 통해 다시 맞춰집니다.
+ * <p>
+ * 원장은 애플리케이션 시작 시 데이터베이스에서 재구성되며, 이후 주기적으로 대사됩니다.
+ * 원장에 없는 상품은 처음 예약할 때 데이터베이스의 재고로 채워집니다.
+ * <p>
+ * 원장의 거절은 최종 판단이 아닙니다. 재입고 등으로 원장이 실제 재고보다 적게 기록되어 있을 수 있으므로,
+ * 예약이 거절되면 데이터베이스의 재고를 다시 읽어 항목을 대사한 뒤 한 번 더 예약을 시도합니다.
+ * 품절 상품에 주문이 몰릴 때 거절마다 데이터베이스를 읽지 않도록, 재확인은 항목마다 일정 간격에 한 번만 수행합니다.
+ */
+@Log4j2
+@Component
+public class StockLedger {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ItemRepository itemRepository;
+    private final ItemStockShardRepository itemStockShardRepository;
+    private final boolean enabled;
+    private final long recheckIntervalNanos;
+
+    private final Counter reservationCounter;
+    private final Counter confirmationCounter;
+    private final Counter rejectionCounter;
+    private final Counter releaseCounter;
+    private final Counter driftCounter;
+
+    public StockLedger(
+            ItemRepository itemRepository,
+            ItemStockShardRepository itemStockShardRepository,
+            MeterRegistry meterRegistry,
+            @Value("${stock.ledger.enabled:true}") boolean enabled,
+            @Value("${stock.ledger.recheck-interval-ms:1000}") long recheckIntervalMs
+    ){
+        this.itemRepository = itemRepository;
+        this.itemStockShardRepository = itemStockShardRepository;
+        this.enabled = enabled;
+        this.recheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(recheckIntervalMs);
+
+        this.reservationCounter = Counter.builder("stock.ledger.reservations")
+                .description("원장에서 성공한 재고 예약 수").register(meterRegistry);
+        this.confirmationCounter = Counter.builder("stock.ledger.confirmations")
+                .description("데이터베이스에 커밋되어 확정된 재고 예약 수").register(meterRegistry);
+        this.rejectionCounter = Counter.builder("stock.ledger.rejections")
+                .description("원장에서 재고 부족으로 거절된 예약 수").register(meterRegistry);
+        this.releaseCounter = Counter.builder("stock.ledger.releases")
+                .description("롤백 또는 주문 취소로 원장에 반환된 예약 수").register(meterRegistry);
+        this.driftCounter = Counter.builder("stock.ledger.drifts")
+                .description("원장과 데이터베이스의 재고가 어긋나 대사한 횟수").register(meterRegistry);
+        Gauge.builder("stock.ledger.items", entries, ConcurrentHashMap::size)
+                .description("원장에 적재된 상품 수").register(meterRegistry);
+    }
+
+    /**
+     * 상품 하나의 원장 항목입니다. 판매 가능 재고와, 예약되었지만 아직 트랜잭션이 끝나지 않은 수량을 함께 관리합니다.
+     */
+    private static final class Entry {
+        private final AtomicInteger available;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong verifiedAt = new AtomicLong(System.nanoTime());
+
+        private Entry(int available){
+            this.available = new AtomicInteger(available);
+        }
+
+        /**
+         * 판매 가능 재고에서 주어진 수량을 CAS 연산으로 차감합니다.
+         *
+         * @return 차감에 성공하면 true, 판매 가능 재고가 부족하면 false를 반환합니다.
+         */
+        private boolean tryReserve(int count){
+            int current;
+            do {
+                current = available.get();
+                if(current < count){
+                    return false;
+                }
+            } while(!available.compareAndSet(current, current - count));
+            return true;
+        }
+
+        /**
+         * 데이터베이스의 재고를 기준으로 판매 가능 재고를 다시 설정합니다.
+         * 아직 커밋되지 않은 예약은 데이터베이스 재고에 반영되지 않았으므로 그만큼을 제외합니다.
+         *
+         * @return 판매 가능 재고가 바뀌었으면 true를 반환합니다.
+         */
+        private boolean reconcile(int databaseStock){
+            verifiedAt.set(System.nanoTime());
+            int reconciled = Math.max(0, databaseStock - inFlight.get());
+            return available.getAndSet(reconciled) != reconciled;
+        }
+    }
+
+    /**
+     * 원장에서 재고를 예약합니다. 예약은 현재 트랜잭션이 커밋되면 확정되고, 롤백되면 원장으로 반환됩니다.
+     * 원장의 재고가 부족하면, 마지막 확인 후 재확인 간격이 지난 경우에 한해 데이터베이스의 재고로 항목을 대사한 뒤 다시 시도합니다.
+     *
+     * @param itemId 재고를 예약할 상품의 ID입니다.
+     * @param count 예약할 수량입니다.
+     * @param databaseStock 원장에 상품이 없을 때의 초기값과, 예약이 거절될 때 대사할 값으로 사용할 데이터베이스 재고를 조회하는 함수입니다.
+     * @throws OutofStockException 대사한 뒤에도 판매 가능 재고가 예약 수량보다 적을 때 발생합니다.
+     */
+    public void reserve(Long itemId, int count, IntSupplier databaseStock){
+        if(!enabled){
+            return;
+        }
+
+        Entry entry = entries.get(itemId);
+        if(entry == null){
+            int stock = databaseStock.getAsInt();
+            entry = entries.computeIfAbsent(itemId, id -> new Entry(stock));
+        }
+
+        if(!entry.tryReserve(count) && !(recheck(itemId, entry, databaseStock) && entry.tryReserve(count))){
+            rejectionCounter.increment();
+            throw new OutofStockException("상품의 재고가 부족합니다. (현재 재고 수량: " + entry.available.get() + ")");
+        }
+
+        entry.inFlight.addAndGet(count);
+        reservationCounter.increment();
+        afterCompletion(entry, count);
+    }
+
+    /**
+     * 주문 취소 등으로 데이터베이스에 복구된 재고를 원장에도 반환합니다.
+     * 현재 트랜잭션이 커밋된 뒤에 반영됩니다.
+     *
+     * @param itemId 재고를 반환할 상품의 ID입니다.
+     * @param count 반환할 수량입니다.
+     */
+    public void release(Long itemId, int count){
+        if(!enabled){
+            return;
+        }
+        afterCommit(() -> {
+            Entry entry = entries.get(itemId);
+            if(entry != null){
+                entry.available.addAndGet(count);
+                releaseCounter.increment();
+            }
+        });
+    }
+
+    /**
+     * 원장과 데이터베이스의 재고가 어긋났을 때 호출되어, 해당 상품의 원장 값을 데이터베이스 재고로 다시 맞춥니다.
+     *
+     * @param itemId 대사할 상품의 ID입니다.
+     * @param databaseStock 현재 트랜잭션에서 조회한 데이터베이스의 재고입니다.
+     */
+    public void reconcile(Long itemId, int databaseStock){
+        if(!enabled){
+            return;
+        }
+        Entry entry = entries.get(itemId);
+        if(entry != null){
+            driftCounter.increment();
+            entry.reconcile(databaseStock);
+            log.warn("재고 원장 불일치를 대사했습니다. itemId={}, databaseStock={}", itemId, databaseStock);
+        }
+    }
+
+    /**
+     * 관리자에 의해 재고가 재설정된 상품을 원장에서 제거합니다. 현재 트랜잭션이 커밋된 뒤에 반영되며,
+     * 다음 예약 시 데이터베이스의 재고로 다시 채워집니다.
+     *
+     * @param itemId 원장에서 제거할 상품의 ID입니다.
+     */
+    public void invalidate(Long itemId){
+        if(!enabled){
+            return;
+        }
+        afterCommit(() -> entries.remove(itemId));
+    }
+
+    /**
+     * 데이터베이스의 재고로 원장 전체를 재구성합니다. 애플리케이션 시작 시 실행됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild(){
+        if(!enabled){
+            return;
+        }
+        entries.clear();
+        loadDatabaseStock((itemId, stock) -> entries.put(itemId, new Entry(stock)));
+        log.info("재고 원장을 재구성했습니다. 상품 수: {}", entries.size());
+    }
+
+    /**
+     * 원장에 적재된 모든 상품을 데이터베이스의 재고와 주기적으로 대사합니다.
+     */
+    @Scheduled(fixedDelayString = "${stock.ledger.reconcile-interval-ms:60000}",
+            initialDelayString = "${stock.ledger.reconcile-interval-ms:60000}")
+    public void reconcileAll(){
+        if(!enabled){
+            return;
+        }
+        loadDatabaseStock((itemId, stock) -> {
+            Entry entry = entries.get(itemId);
+            if(entry != null && entry.available.get() != Math.max(0, stock - entry.inFlight.get())){
+                driftCounter.increment();
+                entry.reconcile(stock);
+            }
+        });
+    }
+
+    /**
+     * 원장에 기록된 상품의 판매 가능 재고를 반환합니다.
+     *
+     * @param itemId 조회할 상품의 ID입니다.
+     * @return 판매 가능 재고를 반환합니다. 원장에 없는 상품이면 -1을 반환합니다.
+     */
+    public int getAvailable(Long itemId){
+        Entry entry = entries.get(itemId);
+        return entry == null ? -1 : entry.available.get();
+    }
+
+    /**
+     * 예약이 거절된 항목을 데이터베이스의 재고로 대사합니다. 마지막 확인 후 재확인 간격이 지나지 않았거나,
+     * 다른 스레드가 같은 항목을 먼저 재확인하기로 한 경우에는 데이터베이스를 조회하지 않습니다.
+     *
+     * @return 데이터베이스를 다시 읽어 대사했으면 true를 반환합니다.
+     */
+    private boolean recheck(Long itemId, Entry entry, IntSupplier databaseStock){
+        long verifiedAt = entry.verifiedAt.get();
+        long now = System.nanoTime();
+        if(now - verifiedAt < recheckIntervalNanos || !entry.verifiedAt.compareAndSet(verifiedAt, now)){
+            return false;
+        }
+        if(entry.reconcile(databaseStock.getAsInt())){
+            driftCounter.increment();
+            log.info("거절된 예약의 재고를 데이터베이스로 대사했습니다. itemId={}, available={}", itemId, entry.available.get());
+        }
+        return true;
+    }
+
+    private void loadDatabaseStock(ObjIntConsumer<Long> consumer){
+        List<Object[]> rows = new ArrayList<>(itemRepository.findUnshardedStockNumbers());
+        rows.addAll(itemStockShardRepository.sumStockNumbersGroupByItemId());
+        for(Object[] row : rows){
+            consumer.accept((Long) row[0], ((Number) row[1]).intValue());
+        }
+    }
+
+    private void afterCompletion(Entry entry, int count){
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            entry.inFlight.addAndGet(-count);
+            confirmationCounter.increment();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                entry.inFlight.addAndGet(-count);
+                if(status == STATUS_COMMITTED){
+                    confirmationCounter.increment();
+                } else {
+                    entry.available.addAndGet(count);
+                    releaseCounter.increment();
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action){
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
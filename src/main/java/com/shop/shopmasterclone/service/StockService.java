@@ -0,0 +1,234 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.ItemStockShard;
+import com.shop.shopmasterclone.exception.OutofStockException;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.ItemStockShardRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 재고의 차감과 복구를 담당하는 서비스 클래스입니다.
+ * 엔티티를 읽고 값을 바꾼 뒤 변경 감지로 반영하는 방식은 동시 주문 시 갱신 손실이 발생할 수 있으므로,
+ * 이 클래스는 데이터베이스의 조건부 UPDATE 한 번으로 재고를 변경하고 변경된 행의 수로 성공 여부를 판단합니다.
+ *
+ * <p>데이터베이스에 접근하기 전에 {@link StockLedger}에서 재고를 먼저 예약하므로, 재고가 소진된 상품의 주문은
+ * 데이터베이스 잠금 없이 거절됩니다.</p>
+ *
+ * <p>재고 샤딩이 활성화된 상품({@link Item#isStockSharded()})은 item 행 대신
+ * {@link ItemStockShard} 행 중 하나를 갱신하여, 한 상품에 주문이 몰려도 잠금 경합이 샤드 수만큼 분산됩니다.
+ * 샤딩된 상품의 재고는 샤드에만 기록되며, item 행의 stockNumber는 0으로 유지되어 읽지 않습니다.</p>
+ *
+ * <p>여러 행을 함께 바꾸는 작업(여러 샤드에 걸친 차감, 샤드 개수 변경, 재고 재설정)은 상품 행을 먼저 잠근 뒤
+ * 샤드를 샤드 번호 순서로 잠가, 같은 순서로 잠금을 얻도록 합니다.</p>
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockService {
+
+    /**
+     * 허용되는 최대 재고 샤드 개수입니다.
+     */
+    public static final int MAX_SHARD_COUNT = 64;
+
+    private final ItemRepository itemRepository;
+    private final ItemStockShardRepository itemStockShardRepository;
+    private final StockLedger stockLedger;
+
+    /**
+     * 상품의 재고를 주문 수량만큼 차감합니다.
+     * "stock_number >= count" 조건을 만족하는 경우에만 UPDATE가 적용되며,
+     * 변경된 행이 없으면 상품 존재 여부를 확인하여 알맞은 예외를 발생시킵니다.
+     *
+     * <p>샤딩된 상품은 임의의 샤드부터 시작하여 재고가 남은 샤드를 찾을 때까지 차례로 차감을 시도합니다.
+     * 주문 수량을 채울 수 있는 샤드가 없으면 상품 행과 모든 샤드를 잠근 뒤, 샤드 재고의 합계가 충분한 경우
+     * 여러 샤드에 나누어 차감합니다. 재고를 읽은 뒤 다른 트랜잭션이 샤드 개수를 바꾼 경우에도 같은 잠금 경로에서 다시 차감합니다.</p>
+     *
+     * <p>차감 후 영속성 컨텍스트가 비워지므로, 호출 이후에 필요한 엔티티는 다시 조회해야 합니다.</p>
+     *
+     * @param itemId 재고를 차감할 상품의 ID입니다.
+     * @param count 차감할 수량입니다.
+     * @throws EntityNotFoundException 주어진 ID의 상품이 존재하지 않을 때 발생합니다.
+     * @throws OutofStockException 상품의 재고가 차감할 수량보다 적을 때 발생합니다.
+     */
+    public void removeStock(Long itemId, int count){
+        if(count <= 0){
+            throw new IllegalArgumentException("차감할 재고 수량은 양수여야 합니다. 입력된 수량: " + count);
+        }
+
+        int shardCount = itemRepository.findStockShardCountById(itemId).orElseThrow(EntityNotFoundException::new);
+        stockLedger.reserve(itemId, count, () -> getDatabaseStock(itemId, shardCount));
+
+        boolean removed = shardCount > 0
+                ? removeShardedStock(itemId, shardCount, count) || removeStockWithLock(itemId, count)
+                : itemRepository.decreaseStock(itemId, count) > 0
+                        || (itemRepository.findStockShardCountById(itemId).orElse(0) > 0 && removeStockWithLock(itemId, count));
+
+        if(!removed){
+            int currentShardCount = itemRepository.findStockShardCountById(itemId).orElseThrow(EntityNotFoundException::new);
+            int databaseStock = getDatabaseStock(itemId, currentShardCount);
+            stockLedger.reconcile(itemId, databaseStock);
+            throw new OutofStockException("상품의 재고가 부족합니다. (현재 재고 수량: " + databaseStock + ")");
+        }
+    }
+
+    /**
+     * 상품의 재고를 주어진 수량만큼 증가시킵니다. 주문 취소 시 재고를 복구하는 데 사용됩니다.
+     * 샤딩된 상품은 임의의 샤드 하나에 재고를 되돌립니다.
+     *
+     * @param itemId 재고를 증가시킬 상품의 ID입니다.
+     * @param count 증가시킬 수량입니다.
+     * @throws EntityNotFoundException 주어진 ID의 상품이 존재하지 않을 때 발생합니다.
+     * @throws IllegalArgumentException 증가시킬 수량으로 음수가 전달될 때 발생합니다.
+     */
+    public void addStock(Long itemId, int count){
+        if(count < 0){
+            throw new IllegalArgumentException("재고를 증가시키기 위한 수량은 양수여야 합니다. 입력된 수량: " + count);
+        }
+
+        int shardCount = itemRepository.findStockShardCountById(itemId).orElseThrow(EntityNotFoundException::new);
+        int updated = shardCount > 0
+                ? itemStockShardRepository.increaseStock(itemId, ThreadLocalRandom.current().nextInt(shardCount), count)
+                : itemRepository.increaseStock(itemId, count);
+
+        if(updated == 0){
+            throw new EntityNotFoundException("Item not found with id: " + itemId);
+        }
+        stockLedger.release(itemId, count);
+    }
+
+    /**
+     * 화면에 표시할 상품의 현재 재고를 반환합니다. 샤딩된 상품은 모든 샤드의 재고를 합산합니다.
+     *
+     * @param item 재고를 조회할 상품입니다.
+     * @return 상품의 현재 재고 수량을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public int getStockNumber(Item item){
+        if(!item.isStockSharded()){
+            return item.getStockNumber();
+        }
+        return itemStockShardRepository.sumStockNumberByItemId(item.getId()).intValue();
+    }
+
+    /**
+     * 화면에 표시할 상품의 현재 재고를 상품 엔티티 없이 조회합니다. 캐시된 상품 정보와 함께 표시할 재고를 매번 새로 읽기 위해 사용됩니다.
+     *
+     * @param itemId 재고를 조회할 상품의 ID입니다.
+     * @param stockSharded 상품의 재고가 샤딩되어 있는지 여부입니다.
+     * @return 상품의 현재 재고 수량을 반환합니다.
+     * @throws EntityNotFoundException 샤딩되지 않은 상품이 존재하지 않을 때 발생합니다.
+     */
+    @Transactional(readOnly = true)
+    public int getStockNumber(Long itemId, boolean stockSharded){
+        if(!stockSharded){
+            return itemRepository.findStockNumberById(itemId).orElseThrow(EntityNotFoundException::new);
+        }
+        return itemStockShardRepository.sumStockNumberByItemId(itemId).intValue();
+    }
+
+    /**
+     * 상품의 재고 샤딩 개수를 변경합니다. 현재 재고 합계를 새 샤드 개수에 맞게 다시 분배하며,
+     * 샤드 개수로 0을 전달하면 샤딩을 해제하고 재고를 item 행으로 되돌립니다.
+     * 상품 행과 기존 샤드를 잠근 뒤 재고 합계를 읽으므로, 재분배하는 동안 진행 중인 주문의 차감이 사라지지 않습니다.
+     *
+     * @param itemId 재고 샤딩을 변경할 상품의 ID입니다.
+     * @param shardCount 새 샤드 개수입니다. 0 이상 {@link #MAX_SHARD_COUNT} 이하여야 합니다.
+     * @throws EntityNotFoundException 주어진 ID의 상품이 존재하지 않을 때 발생합니다.
+     * @throws IllegalArgumentException 샤드 개수가 허용 범위를 벗어날 때 발생합니다.
+     */
+    public void changeStockShardCount(Long itemId, int shardCount){
+        if(shardCount < 0 || shardCount > MAX_SHARD_COUNT){
+            throw new IllegalArgumentException("재고 샤드 개수는 0 이상 " + MAX_SHARD_COUNT + " 이하여야 합니다. 입력된 개수: " + shardCount);
+        }
+
+        Item item = itemRepository.findByIdForUpdate(itemId).orElseThrow(EntityNotFoundException::new);
+        int totalStock = item.isStockSharded()
+                ? itemStockShardRepository.findByItemIdForUpdate(itemId).stream().mapToInt(ItemStockShard::getStockNumber).sum()
+                : item.getStockNumber();
+        item.setStockShardCount(shardCount);
+        resetStock(item, totalStock);
+    }
+
+    /**
+     * 상품의 전체 재고를 주어진 값으로 다시 설정합니다. 관리자가 상품 정보를 수정하여 재고를 바꿀 때 사용됩니다.
+     * 샤딩된 상품은 기존 샤드를 삭제하고 재고를 샤드 개수만큼 고르게 나누어 새로 저장하며, item 행의 재고는 0으로 둡니다.
+     * 재고 원장의 해당 상품 항목은 커밋 후 제거되어 다음 주문 시 새 재고로 채워집니다.
+     *
+     * @param item 재고를 설정할 상품입니다. {@link ItemRepository#findByIdForUpdate(Long)}로 잠근 영속 상태여야 합니다.
+     * @param totalStock 설정할 전체 재고 수량입니다.
+     */
+    public void resetStock(Item item, int totalStock){
+        stockLedger.invalidate(item.getId());
+        int shardCount = item.getStockShardCount();
+        item.setStockNumber(shardCount > 0 ? 0 : totalStock);
+        itemStockShardRepository.deleteByItemId(item.getId());
+
+        for(int shardNo = 0; shardNo < shardCount; shardNo++){
+            int shardStock = totalStock / shardCount + (shardNo < totalStock % shardCount ? 1 : 0);
+            itemStockShardRepository.save(ItemStockShard.createItemStockShard(item, shardNo, shardStock));
+        }
+    }
+
+    /**
+     * 샤딩된 상품의 재고를 하나의 샤드에서 차감합니다.
+     * 임의의 샤드에서 시작하여 차감에 성공할 때까지 나머지 샤드를 순서대로 시도합니다.
+     *
+     * @return 차감에 성공하면 true, 주문 수량을 한 번에 채울 수 있는 샤드가 없으면 false를 반환합니다.
+     */
+    private boolean removeShardedStock(Long itemId, int shardCount, int count){
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for(int i = 0; i < shardCount; i++){
+            int shardNo = (start + i) % shardCount;
+            if(itemStockShardRepository.decreaseStock(itemId, shardNo, count) > 0){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 상품 행과 모든 샤드를 잠근 뒤 재고를 차감합니다.
+     * 샤딩된 상품은 샤드 재고의 합계가 충분하면 샤드 번호 순서대로 남은 재고를 채워 가며 여러 샤드에서 나누어 차감하고,
+     * 그 사이 샤딩이 해제된 상품은 item 행에서 차감합니다.
+     *
+     * @return 차감에 성공하면 true, 전체 재고가 부족하면 false를 반환합니다.
+     */
+    private boolean removeStockWithLock(Long itemId, int count){
+        Item item = itemRepository.findByIdForUpdate(itemId).orElseThrow(EntityNotFoundException::new);
+        if(!item.isStockSharded()){
+            return itemRepository.decreaseStock(itemId, count) > 0;
+        }
+
+        List<ItemStockShard> shards = itemStockShardRepository.findByItemIdForUpdate(itemId);
+        if(shards.stream().mapToInt(ItemStockShard::getStockNumber).sum() < count){
+            return false;
+        }
+        int remaining = count;
+        for(ItemStockShard shard : shards){
+            int taken = Math.min(shard.getStockNumber(), remaining);
+            if(taken > 0){
+                itemStockShardRepository.decreaseStock(itemId, shard.getShardNo(), taken);
+                remaining -= taken;
+            }
+            if(remaining == 0){
+                break;
+            }
+        }
+        return true;
+    }
+
+    private int getDatabaseStock(Long itemId, int shardCount){
+        if(shardCount > 0){
+            return itemStockShardRepository.sumStockNumberByItemId(itemId).intValue();
+        }
+        return itemRepository.findStockNumberById(itemId).orElseThrow(EntityNotFoundException::new);
+    }
+}
@@ -0,0 +1,16 @@
+-- 메인 페이지 상품 목록 읽기 모델을 위한 스키마 변경입니다.
+-- 운영 데이터베이스는 ddl-auto=validate로 실행되므로, 이 변경을 배포하기 전에 한 번 실행합니다.
+-- CatalogEntry 엔티티의 매핑과 같은 스키마입니다. 가격순 인덱스는 item_price_indexes.sql에서 만듭니다.
+
+-- 상품 ID를 그대로 기본 키로 사용하므로 ID 생성 테이블이 없습니다.
+-- 최신순 목록은 기본 키 순서로 읽으므로 별도의 인덱스가 필요하지 않습니다.
+CREATE TABLE catalog_entry (
+    item_id BIGINT NOT NULL,
+    item_nm VARCHAR(50) NOT NULL,
+    item_snippet VARCHAR(100) NOT NULL,
+    price INT NOT NULL,
+    item_sell_status VARCHAR(255),
+    img_url VARCHAR(255),
+    reg_time DATETIME(6),
+    PRIMARY KEY (item_id)
+);
@@ -0,0 +1,7 @@
+-- 가격 범위 검색과 가격순 정렬을 위한 인덱스입니다.
+-- 운영 데이터베이스는 ddl-auto=validate로 실행되므로, 이 변경을 배포하기 전에 한 번 실행합니다.
+-- Item, CatalogEntry 엔티티의 @Index 선언과 같은 인덱스입니다.
+
+CREATE INDEX idx_item_price ON item (price, item_id);
+CREATE INDEX idx_item_sell_status_price ON item (item_sell_status, price, item_id);
+CREATE INDEX idx_catalog_entry_price ON catalog_entry (price, item_id);
@@ -0,0 +1,22 @@
+-- 인기 상품의 재고 샤딩을 위한 스키마 변경입니다.
+-- 운영 데이터베이스는 ddl-auto=validate로 실행되므로, 이 변경을 배포하기 전에 한 번 실행합니다.
+-- Item.stockShardCount, ItemStockShard 엔티티의 매핑과 같은 스키마입니다.
+
+-- 기존 상품은 모두 샤딩되지 않은 상태(0)로 시작합니다.
+ALTER TABLE item ADD COLUMN stock_shard_count INT NOT NULL DEFAULT 0;
+
+CREATE TABLE item_stock_shard (
+    item_stock_shard_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    stock_number INT NOT NULL,
+    PRIMARY KEY (item_stock_shard_id),
+    CONSTRAINT uk_item_stock_shard_item_shard_no UNIQUE (item_id, shard_no),
+    CONSTRAINT fk_item_stock_shard_item FOREIGN KEY (item_id) REFERENCES item (item_id)
+);
+
+-- GenerationType.AUTO는 MySQL에서 <테이블명>_seq 테이블로 ID를 생성합니다.
+CREATE TABLE item_stock_shard_seq (
+    next_val BIGINT
+);
+INSERT INTO item_stock_shard_seq VALUES (1);
@@ -0,0 +1,6 @@
+-- 상품 목록에 표시할 상품 요약 컬럼을 추가하는 스키마 변경입니다.
+-- 운영 데이터베이스는 ddl-auto=validate로 실행되므로, 이 변경을 배포하기 전에 한 번 실행합니다.
+-- Item.itemSummary의 매핑과 같은 스키마입니다.
+
+-- 기존 상품의 요약은 null로 시작하며, 애플리케이션이 시작될 때 상세 설명의 앞부분으로 채워집니다.
+ALTER TABLE item ADD COLUMN item_summary VARCHAR(100);
@@ -0,0 +1,5 @@
+-- 회원별 주문 내역을 주문일 역순으로 조회하기 위한 인덱스입니다.
+-- 운영 데이터베이스는 ddl-auto=validate로 실행되므로, 이 변경을 배포하기 전에 한 번 실행합니다.
+-- Order 엔티티의 @Index 선언과 같은 인덱스입니다.
+
+CREATE INDEX idx_orders_member_order_date ON orders (member_id, order_date, id);
@@ -2,6 +2,7 @@ package com.shop.shopmasterclone.controller;
 
 import com.shop.shopmasterclone.dto.ItemSearchDto;
 import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.service.ItemNameSuggester;
 import com.shop.shopmasterclone.service.ItemService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +43,9 @@ class MainControllerTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private ItemNameSuggester itemNameSuggester;
+
     @Autowired
     private WebApplicationContext webApplicationContext;
 
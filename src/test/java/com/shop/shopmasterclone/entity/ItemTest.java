@@ -53,4 +53,24 @@ class ItemTest {
                 "재고가 부족할 때는 OutofStockException이 발생해야 합니다.");
         assertTrue(exception.getMessage().contains("재고가 부족합니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상세 설명이 변경되면, 상품 요약은 상세 설명의 앞부분으로 다시 계산되어야 한다")
+    void givenLongItemDetail_whenSettingItemDetail_thenItemSummaryIsTruncated() {
+        // Given: 요약 길이보다 긴 상세 설명과, 요약 길이 경계에 걸친 서로게이트 쌍을 준비한다
+        Item item = new Item();
+        String longDetail = "가".repeat(Item.SUMMARY_LENGTH + 20);
+        String surrogateDetail = "a".repeat(Item.SUMMARY_LENGTH - 1) + "😀" + "b";
+
+        // When & Then
+        item.setItemDetail(longDetail);
+        assertEquals("가".repeat(Item.SUMMARY_LENGTH), item.getItemSummary());
+        assertEquals(longDetail, item.getItemDetail(), "상세 설명 전체는 그대로 유지되어야 한다");
+
+        item.setItemDetail(surrogateDetail);
+        assertEquals("a".repeat(Item.SUMMARY_LENGTH - 1), item.getItemSummary(), "서로게이트 쌍의 중간에서 자르지 않아야 한다");
+
+        item.setItemDetail("짧은 설명");
+        assertEquals("짧은 설명", item.getItemSummary());
+    }
+}
@@ -0,0 +1,128 @@
+package com.shop.shopmasterclone.repository;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.QItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 상품 검색 쿼리를 요청마다 Querydsl로 만드는 이전 방식과 형태별로 보관된 JPQL 템플릿에 값만 바인딩하는 현재 방식의
+ * 호출당 소요 시간을 비교하는 벤치마크입니다. 쿼리 준비(생성과 파라미터 바인딩)만 한 경우와 실행까지 한 경우를 각각 측정합니다.
+ * 검색 조건은 등록일, 판매 상태, 상품명 검색어를 모두 사용하는 형태입니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class AdminItemQueryBenchmark {
+
+    private static final int ITEMS = 200;
+    private static final int ROUNDS = 20_000;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private final AdminItemQueryTemplates templates = new AdminItemQueryTemplates();
+
+    private ItemSearchDto itemSearchDto;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        for(int i = 0; i < ITEMS; i++){
+            Item item = new Item();
+            item.setItemNm("벤치마크 상품" + i);
+            item.setPrice(10000 + i);
+            item.setItemDetail("벤치마크 상품 상세 설명" + i);
+            item.setItemSellStatus(i % 2 == 0 ? ItemSellStatus.SELL : ItemSellStatus.SOLD_OUT);
+            item.setStockNumber(100);
+            itemRepository.save(item);
+        }
+
+        itemSearchDto = new ItemSearchDto();
+        itemSearchDto.setSearchDateType("1w");
+        itemSearchDto.setSearchSellStatus(ItemSellStatus.SELL);
+        itemSearchDto.setSearchBy("itemNm");
+        itemSearchDto.setSearchQuery("상품1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("관리자 상품 검색의 Querydsl 쿼리 생성과 JPQL 템플릿 재사용의 호출당 소요 시간 비교")
+    void compareQuerydslWithTemplates() {
+        report("querydsl  prepare ", () -> querydslQuery().createQuery());
+        report("template  prepare ", this::templateQuery);
+        report("querydsl  execute ", () -> querydslQuery().fetch());
+        report("template  execute ", () -> templateQuery().getResultList());
+    }
+
+    private void report(String name, Supplier<Object> call) {
+        for(int i = 0; i < ROUNDS / 4; i++){
+            readOnlyTransaction.execute(status -> call.get());
+        }
+
+        long start = System.nanoTime();
+        readOnlyTransaction.execute(status -> {
+            for(int i = 0; i < ROUNDS; i++){
+                call.get();
+            }
+            return null;
+        });
+        double micros = (System.nanoTime() - start) / 1_000.0 / ROUNDS;
+
+        System.out.printf("%s : %10.2f us/call%n", name, micros);
+    }
+
+    /**
+     * 템플릿 도입 전의 조회 방식입니다. 요청마다 Querydsl 쿼리 객체를 만듭니다.
+     */
+    private JPAQuery<Item> querydslQuery() {
+        QItem item = QItem.item;
+        return new JPAQueryFactory(entityManager)
+                .selectFrom(item)
+                .where(item.regTime.after(LocalDateTime.now().minusWeeks(1)),
+                        item.itemSellStatus.eq(itemSearchDto.getSearchSellStatus()),
+                        item.itemNm.like("%" + itemSearchDto.getSearchQuery() + "%"))
+                .orderBy(item.id.desc())
+                .offset(0)
+                .limit(10);
+    }
+
+    private Query templateQuery() {
+        AdminItemQueryTemplates.Shape shape = AdminItemQueryTemplates.Shape.of(itemSearchDto, false);
+        return AdminItemQueryTemplates.bind(
+                        entityManager.createQuery(templates.get(shape).contentJpql(), Item.class),
+                        shape, itemSearchDto, LocalDateTime.now().minusWeeks(1), null)
+                .setFirstResult(0)
+                .setMaxResults(10);
+    }
+}
@@ -0,0 +1,74 @@
+package com.shop.shopmasterclone.repository;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link AdminItemQueryTemplates}가 검색 조건의 형태마다 JPQL을 한 번만 만들고 값이 달라도 재사용하는지 검증하는 테스트 클래스입니다.
+ */
+class AdminItemQueryTemplatesTest {
+
+    @Test
+    @DisplayName("조건 값만 다른 검색은 같은 템플릿을 재사용해야 한다")
+    void givenSameShapeWithDifferentValues_whenGettingTemplate_thenShouldReuseTemplate() {
+        // Given
+        AdminItemQueryTemplates templates = new AdminItemQueryTemplates();
+        ItemSearchDto first = searchDto("1w", ItemSellStatus.SELL, "itemNm", "셔츠");
+        ItemSearchDto second = searchDto("6m", ItemSellStatus.SOLD_OUT, "itemNm", "바지");
+
+        // When
+        AdminItemQueryTemplates.Template firstTemplate = templates.get(AdminItemQueryTemplates.Shape.of(first, false));
+        AdminItemQueryTemplates.Template secondTemplate = templates.get(AdminItemQueryTemplates.Shape.of(second, false));
+
+        // Then
+        assertAll(
+                () -> assertSame(firstTemplate, secondTemplate),
+                () -> assertEquals(1, templates.size()),
+                () -> assertEquals("select i from Item i where i.regTime > :regTimeAfter and i.itemSellStatus = :sellStatus "
+                        + "and i.itemNm like :searchQuery order by i.id desc", firstTemplate.contentJpql())
+        );
+    }
+
+    @Test
+    @DisplayName("사용하는 조건이 다르면 다른 템플릿을 만들고, 알 수 없는 정렬 기준과 검색 필드는 형태를 늘리지 않아야 한다")
+    void givenDifferentShapes_whenGettingTemplate_thenShouldCompileEachShapeOnce() {
+        // Given
+        AdminItemQueryTemplates templates = new AdminItemQueryTemplates();
+        ItemSearchDto all = searchDto("all", null, null, "");
+        ItemSearchDto unknown = searchDto(null, null, "unknown", "");
+        unknown.setSortBy("unknown");
+        ItemSearchDto priced = searchDto("all", null, "createdBy", "admin");
+        priced.setMinPrice(1000);
+        priced.setSortBy("priceDesc");
+
+        // When
+        AdminItemQueryTemplates.Template allTemplate = templates.get(AdminItemQueryTemplates.Shape.of(all, false));
+        AdminItemQueryTemplates.Template unknownTemplate = templates.get(AdminItemQueryTemplates.Shape.of(unknown, false));
+        AdminItemQueryTemplates.Template pricedTemplate = templates.get(AdminItemQueryTemplates.Shape.of(priced, false));
+        AdminItemQueryTemplates.Template idTemplate = templates.get(AdminItemQueryTemplates.Shape.of(priced, true));
+
+        // Then
+        assertAll(
+                () -> assertSame(allTemplate, unknownTemplate),
+                () -> assertEquals("select count(i) from Item i", allTemplate.countJpql()),
+                () -> assertEquals("select i from Item i where i.createdBy like :searchQuery and i.price >= :minPrice "
+                        + "order by i.price desc, i.id desc", pricedTemplate.contentJpql()),
+                () -> assertEquals("select i.id from Item i where i.id in :itemIds and i.price >= :minPrice", idTemplate.idJpql(),
+                        "상품 ID 목록으로 검색하면 검색어 조건을 사용하지 않아야 합니다."),
+                () -> assertEquals(3, templates.size())
+        );
+    }
+
+    private static ItemSearchDto searchDto(String searchDateType, ItemSellStatus sellStatus, String searchBy, String searchQuery) {
+        ItemSearchDto itemSearchDto = new ItemSearchDto();
+        itemSearchDto.setSearchDateType(searchDateType);
+        itemSearchDto.setSearchSellStatus(sellStatus);
+        itemSearchDto.setSearchBy(searchBy);
+        itemSearchDto.setSearchQuery(searchQuery);
+        return itemSearchDto;
+    }
+}
@@ -0,0 +1,86 @@
+package com.shop.shopmasterclone.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ItemCountCache}의 개수 재사용과 무효화 동작을 검증하는 테스트 클래스입니다.
+ * 개수 쿼리는 호출될 때마다 1씩 증가하는 값을 반환하는 함수로 대체합니다.
+ */
+class ItemCountCacheTest {
+
+    private final AtomicLong queryCount = new AtomicLong();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 검색 조건의 개수는 유효 시간 동안 개수 쿼리 없이 재사용해야 한다")
+    void givenCachedCount_whenGettingSameKey_thenShouldNotQueryAgain() {
+        // Given
+        ItemCountCache itemCountCache = new ItemCountCache(60_000, "exact", 10_000);
+
+        // When
+        long first = itemCountCache.getCount("main|", queryCount::incrementAndGet);
+        long second = itemCountCache.getCount("main|", queryCount::incrementAndGet);
+        long other = itemCountCache.getCount("main|shirt", queryCount::incrementAndGet);
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, first),
+                () -> assertEquals(first, second, "같은 키는 캐시된 개수를 반환해야 합니다."),
+                () -> assertEquals(2, other, "다른 키는 개수 쿼리를 실행해야 합니다."),
+                () -> assertEquals(2, queryCount.get())
+        );
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 캐시를 무효화하면 커밋된 뒤에만 개수를 다시 조회해야 한다")
+    void givenCachedCount_whenInvalidatedInTransaction_thenShouldQueryAgainOnlyAfterCommit() {
+        // Given
+        ItemCountCache itemCountCache = new ItemCountCache(60_000, "exact", 10_000);
+        itemCountCache.getCount("main|", queryCount::incrementAndGet);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        itemCountCache.invalidateAll();
+        long beforeCommit = itemCountCache.getCount("main|", queryCount::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        long afterCommit = itemCountCache.getCount("main|", queryCount::incrementAndGet);
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, beforeCommit, "커밋 전에는 캐시된 개수를 유지해야 합니다."),
+                () -> assertEquals(2, afterCommit, "커밋된 뒤에는 개수를 다시 조회해야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("유효 시간이 0이면 매번 개수 쿼리를 실행해야 한다")
+    void givenZeroTtl_whenGettingCount_thenShouldAlwaysQuery() {
+        // Given
+        ItemCountCache itemCountCache = new ItemCountCache(0, "approximate", 100);
+
+        // When
+        itemCountCache.getCount("main|", queryCount::incrementAndGet);
+        itemCountCache.getCount("main|", queryCount::incrementAndGet);
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, queryCount.get()),
+                () -> assertTrue(itemCountCache.isApproximate()),
+                () -> assertEquals(100, itemCountCache.getApproximateLimit())
+        );
+    }
+}
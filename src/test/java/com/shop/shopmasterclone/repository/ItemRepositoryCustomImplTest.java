@@ -2,9 +2,12 @@ package com.shop.shopmasterclone.repository;
 
 import com.shop.shopmasterclone.constant.ItemSellStatus;
 import com.shop.shopmasterclone.dto.ItemSearchDto;
+import com.shop.shopmasterclone.entity.CatalogEntry;
 import com.shop.shopmasterclone.entity.Item;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +16,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.TestPropertySource;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
-@TestPropertySource(locations="classpath:application-test.properties")
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.shop.shopmasterclone.repository.ItemRepositoryCustomImplTest$SqlCapture"
+)
 public class ItemRepositoryCustomImplTest {
 
     @PersistenceContext
@@ -28,8 +41,12 @@ public class ItemRepositoryCustomImplTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private CatalogEntryRepository catalogEntryRepository;
+
     @BeforeEach
     void setUp() {
+        catalogEntryRepository.deleteAll();
         itemRepository.deleteAll();
     }
 
@@ -57,4 +74,148 @@ public class ItemRepositoryCustomImplTest {
         assertThat(resultPage.getContent()).hasSize(1);
         assertThat(resultPage.getContent().get(0).getItemNm()).isEqualTo("Test Item");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Given 페이지 크기보다 많은 상품 When 관리자 페이지의 첫 페이지를 조회 Then 전체 상품 수와 페이지 수가 실제 값이어야 함")
+    public void given_MoreItemsThanPageSize_when_AdminSearchesFirstPage_then_TotalShouldBeActualCount() {
+        // Given: 검색 조건에 맞는 상품 7개를 저장
+        for (int i = 1; i <= 7; i++) {
+            Item item = new Item();
+            item.setItemNm("Count Item " + i);
+            item.setPrice(10000);
+            item.setItemDetail("Count Item Detail " + i);
+            item.setItemSellStatus(ItemSellStatus.SELL);
+            item.setStockNumber(100);
+            itemRepository.save(item);
+        }
+
+        ItemSearchDto itemSearchDto = new ItemSearchDto();
+        itemSearchDto.setSearchDateType("all");
+        itemSearchDto.setSearchSellStatus(ItemSellStatus.SELL);
+        itemSearchDto.setSearchBy("itemNm");
+        itemSearchDto.setSearchQuery("Count");
+
+        // When: 한 페이지에 3개씩 첫 페이지를 조회
+        Page<Item> resultPage = itemRepository.getAdminItemPage(itemSearchDto, PageRequest.of(0, 3));
+
+        // Then: 조회된 상품 수가 아니라 실제 전체 상품 수가 반환되어야 함
+        assertThat(resultPage.getContent()).hasSize(3);
+        assertThat(resultPage.getTotalElements()).isEqualTo(7);
+        assertThat(resultPage.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Given 가격이 다른 상품들 When 가격 범위와 가격순 정렬로 조회 Then 범위 안의 상품만 가격순으로 표시되어야 함")
+    public void given_ItemsWithPrices_when_AdminSearchesByPriceRange_then_OnlyItemsInRangeSortedByPrice() {
+        // Given: 가격이 다른 상품 5개를 저장
+        int[] prices = {30000, 10000, 50000, 20000, 40000};
+        for (int price : prices) {
+            Item item = new Item();
+            item.setItemNm("Price Item " + price);
+            item.setPrice(price);
+            item.setItemDetail("Price Item Detail " + price);
+            item.setItemSellStatus(ItemSellStatus.SELL);
+            item.setStockNumber(100);
+            itemRepository.save(item);
+        }
+
+        ItemSearchDto itemSearchDto = new ItemSearchDto();
+        itemSearchDto.setSearchDateType("all");
+        itemSearchDto.setMinPrice(20000);
+        itemSearchDto.setMaxPrice(40000);
+
+        // When: 낮은 가격순과 높은 가격순으로 조회
+        itemSearchDto.setSortBy("priceAsc");
+        Page<Item> ascPage = itemRepository.getAdminItemPage(itemSearchDto, PageRequest.of(0, 10));
+        itemSearchDto.setSortBy("priceDesc");
+        Page<Item> descPage = itemRepository.getAdminItemPage(itemSearchDto, PageRequest.of(0, 10));
+
+        // Then: 최소 가격과 최대 가격을 포함한 범위의 상품만 가격순으로 표시되어야 함
+        assertThat(ascPage.getContent()).extracting(Item::getPrice).containsExactly(20000, 30000, 40000);
+        assertThat(descPage.getContent()).extracting(Item::getPrice).containsExactly(40000, 30000, 20000);
+        assertThat(ascPage.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Given 가격 인덱스 When 가격 범위와 가격순 정렬로 조회 Then Hibernate가 실행한 쿼리가 가격 인덱스로 범위 검색되어야 함")
+    public void given_PriceIndexes_when_SearchingByPriceRange_then_ExecutedQueriesShouldUsePriceIndexes() {
+        // Given: 실행 계획이 비어 있는 테이블 기준으로 만들어지지 않도록 상품을 저장
+        for (int i = 1; i <= 20; i++) {
+            Item item = new Item();
+            item.setItemNm("Plan Item " + i);
+            item.setPrice(i * 1000);
+            item.setItemDetail("Plan Item Detail " + i);
+            item.setItemSellStatus(i % 2 == 0 ? ItemSellStatus.SELL : ItemSellStatus.SOLD_OUT);
+            item.setStockNumber(100);
+            itemRepository.save(item);
+
+            CatalogEntry catalogEntry = CatalogEntry.createCatalogEntry(item);
+            catalogEntry.updateImgUrl("/images/item/plan" + i + ".jpg");
+            catalogEntryRepository.save(catalogEntry);
+        }
+
+        ItemSearchDto itemSearchDto = new ItemSearchDto();
+        itemSearchDto.setSearchDateType("all");
+        itemSearchDto.setMinPrice(5000);
+        itemSearchDto.setMaxPrice(15000);
+        itemSearchDto.setSortBy("priceAsc");
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        // When: 관리자 페이지와 메인 페이지를 조회하고, Hibernate가 실행한 첫 번째 쿼리(목록 쿼리)를 기록
+        String priceSql = executedSql(() -> itemRepository.getAdminItemPage(itemSearchDto, pageable));
+        String catalogPriceSql = executedSql(() -> catalogEntryRepository.getMainItemPage(itemSearchDto, pageable));
+        itemSearchDto.setSearchSellStatus(ItemSellStatus.SELL);
+        String sellStatusPriceSql = executedSql(() -> itemRepository.getAdminItemPage(itemSearchDto, pageable));
+
+        // Then: 기록된 쿼리를 같은 값으로 실행 계획을 조회하면 각 쿼리는 해당하는 가격 인덱스를 사용해야 함
+        assertThat(explain(priceSql, pageable, 5000, 15000)).contains("IDX_ITEM_PRICE");
+        assertThat(explain(catalogPriceSql, pageable, 5000, 15000)).contains("IDX_CATALOG_ENTRY_PRICE");
+        assertThat(explain(sellStatusPriceSql, pageable, "SELL", 5000, 15000)).contains("IDX_ITEM_SELL_STATUS_PRICE");
+    }
+
+    /**
+     * 조회를 실행하고, 그 동안 Hibernate가 실행한 첫 번째 SQL 문을 반환합니다.
+     */
+    private String executedSql(Runnable query) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        assertThat(SqlCapture.STATEMENTS).isNotEmpty();
+        return SqlCapture.STATEMENTS.get(0);
+    }
+
+    /**
+     * Hibernate가 실행한 SQL 문에 검색 조건 값을 같은 순서로 바인딩하여 H2의 실행 계획을 조회합니다.
+     * 페이징 값은 쿼리에 offset과 fetch first 자리표시자가 있는 경우에만 그 순서대로 뒤에 붙입니다.
+     * 첫 페이지라도 쿼리 방식에 따라 offset 자리표시자가 생기기도 하고 생략되기도 하기 때문입니다.
+     */
+    private String explain(String sql, Pageable pageable, Object... conditions) {
+        List<Object> parameters = new ArrayList<>(Arrays.asList(conditions));
+        String lowerSql = sql.toLowerCase();
+        if (lowerSql.contains("offset ?")) {
+            parameters.add(pageable.getOffset());
+        }
+        if (lowerSql.contains("fetch first ?") || lowerSql.contains("limit ?")) {
+            parameters.add(pageable.getPageSize());
+        }
+        assertEquals(parameters.size(), sql.chars().filter(c -> c == '?').count(), "바인딩할 값의 수가 쿼리와 다릅니다: " + sql);
+        Query query = entityManager.createNativeQuery("explain " + sql);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        return String.valueOf(query.getSingleResult()).toUpperCase();
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 문을 기록하는 {@link StatementInspector}입니다. 이 테스트 클래스의 설정에서만 등록됩니다.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -6,11 +6,13 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.shop.shopmasterclone.constant.ItemSellStatus;
 import com.shop.shopmasterclone.dto.ItemSearchDto;
 import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.entity.CatalogEntry;
 import com.shop.shopmasterclone.entity.Item;
 import com.shop.shopmasterclone.entity.ItemImg;
 import com.shop.shopmasterclone.entity.QItem;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.util.StringUtils;
 
 import java.time.LocalDateTime;
@@ -38,6 +41,9 @@ class ItemRepositoryTest {
     @Autowired
     ItemRepository itemRepository;
 
+    @Autowired
+    CatalogEntryRepository catalogEntryRepository;
+
     @PersistenceContext
     EntityManager em;
 
@@ -62,6 +68,11 @@ class ItemRepositoryTest {
             itemImg.setImgUrl("/images/item" + i + ".jpg"); // 가상의 이미지 URL 설정
             itemImg.setRepimgYn("Y"); // 대표 이미지로 설정
             itemImgRepository.save(itemImg); // ItemImg 엔티티 저장
+
+            // 메인 페이지 목록을 조회하는 읽기 모델 항목 저장
+            CatalogEntry catalogEntry = CatalogEntry.createCatalogEntry(savedItem);
+            catalogEntry.updateImgUrl(itemImg.getImgUrl());
+            catalogEntryRepository.save(catalogEntry);
         }
     }
 
@@ -83,7 +94,7 @@ class ItemRepositoryTest {
         Pageable pageable = PageRequest.of(0, 5); // 첫 번째 페이지, 페이지 당 5개 항목
 
         // 테스트 실행
-        Page<MainItemDto> resultPage = itemRepository.getMainItemPage(itemSearchDto, pageable);
+        Page<MainItemDto> resultPage = catalogEntryRepository.getMainItemPage(itemSearchDto, pageable);
 
         // 검증
         // 조회된 상품 목록이 비어있지 않고, 설정한 페이지 크기와 일치하는지 확인
@@ -272,4 +283,51 @@ class ItemRepositoryTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @Transactional
+    @DisplayName("상품을 조회할 때 상세 설명은 처음 접근할 때까지 로딩되지 않아야 한다")
+    public void givenSavedItem_whenFindingById_thenItemDetailShouldBeLazilyLoaded(){
+        // Given
+        Item item = new Item();
+        item.setItemNm("지연 로딩 상품");
+        item.setPrice(10000);
+        item.setItemDetail("지연 로딩 상세 설명".repeat(100));
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(100);
+        Long itemId = itemRepository.saveAndFlush(item).getId();
+        em.clear();
+
+        // When
+        Item foundItem = itemRepository.findById(itemId).orElseThrow();
+
+        // Then
+        assertFalse(Hibernate.isPropertyInitialized(foundItem, "itemDetail"), "상세 설명은 조회 시점에 로딩되지 않아야 합니다.");
+        assertEquals("지연 로딩 상품", foundItem.getItemNm());
+        assertEquals("지연 로딩 상세 설명".repeat(100), foundItem.getItemDetail(), "접근하면 상세 설명이 로딩되어야 합니다.");
+        assertTrue(Hibernate.isPropertyInitialized(foundItem, "itemDetail"));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("상품 요약이 없는 상품은 상세 설명의 앞부분으로 요약이 채워져야 한다")
+    public void givenItemWithoutSummary_whenFillingMissingSummaries_thenSummaryShouldBeDetailPrefix(){
+        // Given
+        Item item = new Item();
+        item.setItemNm("요약 없는 상품");
+        item.setPrice(10000);
+        item.setItemDetail("가".repeat(Item.SUMMARY_LENGTH + 20));
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(100);
+        Long itemId = itemRepository.saveAndFlush(item).getId();
+        em.createNativeQuery("update item set item_summary = null where item_id = :itemId")
+                .setParameter("itemId", itemId)
+                .executeUpdate();
+
+        // When
+        int updated = itemRepository.fillMissingItemSummaries(Item.SUMMARY_LENGTH);
+
+        // Then
+        assertEquals(1, updated);
+        assertEquals("가".repeat(Item.SUMMARY_LENGTH), itemRepository.findById(itemId).orElseThrow().getItemSummary());
+    }
+}
@@ -0,0 +1,152 @@
+package com.shop.shopmasterclone.repository;
+
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.dto.QMainItemDto;
+import com.shop.shopmasterclone.entity.CatalogEntry;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.ItemImg;
+import com.shop.shopmasterclone.entity.QItem;
+import com.shop.shopmasterclone.entity.QItemImg;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 메인 페이지 상품 목록 한 페이지를 만들 때, 상세 설명 전체(LOB)를 조회하는 방식과 미리 계산된 상품 요약을 조회하는 방식의
+ * 페이지당 전송 바이트와 소요 시간을 비교하는 벤치마크입니다. 전송 바이트는 조회된 행의 문자열 값을 UTF-8로 인코딩한 크기와
+ * 숫자 값의 크기를 더하여 계산합니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class MainItemPageBytesBenchmark {
+
+    private static final int ITEMS = 60;
+    private static final int ROUNDS = 2000;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemImgRepository itemImgRepository;
+
+    @Autowired
+    private CatalogEntryRepository catalogEntryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        for(int i = 0; i < ITEMS; i++){
+            Item item = new Item();
+            item.setItemNm("벤치마크 상품" + i);
+            item.setPrice(10000);
+            item.setItemDetail("상품 상세 설명입니다. ".repeat(400));
+            item.setItemSellStatus(ItemSellStatus.SELL);
+            item.setStockNumber(100);
+            itemRepository.save(item);
+
+            ItemImg itemImg = new ItemImg();
+            itemImg.setItem(item);
+            itemImg.setRepimgYn("Y");
+            itemImg.setImgUrl("/images/item/benchmark" + i + ".jpg");
+            itemImgRepository.save(itemImg);
+
+            CatalogEntry catalogEntry = CatalogEntry.createCatalogEntry(item);
+            catalogEntry.updateImgUrl(itemImg.getImgUrl());
+            catalogEntryRepository.save(catalogEntry);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogEntryRepository.deleteAll();
+        itemImgRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("상세 설명 전체 조회와 상품 요약 조회의 메인 페이지 전송 바이트 비교")
+    void compareDetailLobWithSummary() {
+        Pageable pageable = PageRequest.of(0, 6);
+        ItemSearchDto itemSearchDto = new ItemSearchDto();
+
+        report("itemDetail (LOB)  ", () -> loadWithItemImg(QItem.item.itemDetail, pageable));
+        report("itemSummary       ", () -> loadWithItemImg(QItem.item.itemSummary, pageable));
+        report("catalog_entry     ", () -> catalogEntryRepository.getMainItemPage(itemSearchDto, pageable).getContent());
+    }
+
+    private void report(String name, Supplier<List<MainItemDto>> page) {
+        for(int i = 0; i < ROUNDS / 4; i++){
+            readOnlyTransaction.execute(status -> page.get());
+        }
+
+        long bytes = readOnlyTransaction.execute(status -> bytesOf(page.get()));
+        long start = System.nanoTime();
+        for(int i = 0; i < ROUNDS; i++){
+            readOnlyTransaction.execute(status -> page.get());
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / ROUNDS;
+
+        System.out.printf("%s : %10.1f us/page %10d bytes/page%n", name, micros, bytes);
+    }
+
+    /**
+     * 읽기 모델 도입 전의 조회 방식입니다. 상품과 대표 이미지를 조인하여 카드마다 주어진 설명 컬럼을 조회합니다.
+     * 상세 설명 전체를 전달하면 상품 요약 도입 전의 조회 방식이 됩니다.
+     */
+    private List<MainItemDto> loadWithItemImg(StringPath description, Pageable pageable) {
+        QItem item = QItem.item;
+        QItemImg itemImg = QItemImg.itemImg;
+        return new JPAQueryFactory(entityManager)
+                .select(new QMainItemDto(item.id, item.itemNm, description, itemImg.imgUrl, item.price))
+                .from(itemImg)
+                .join(itemImg.item, item)
+                .where(itemImg.repimgYn.eq("Y"))
+                .orderBy(item.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    private static long bytesOf(List<MainItemDto> mainItemDtos) {
+        long bytes = 0;
+        for(MainItemDto mainItemDto : mainItemDtos){
+            bytes += Long.BYTES + Integer.BYTES;
+            bytes += utf8Length(mainItemDto.getItemNm());
+            bytes += utf8Length(mainItemDto.getItemDetail());
+            bytes += utf8Length(mainItemDto.getImgUrl());
+        }
+        return bytes;
+    }
+
+    private static int utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
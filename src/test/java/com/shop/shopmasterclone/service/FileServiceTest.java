@@ -62,7 +62,7 @@ class FileServiceTest {
     }
 
     /**
-     * {@link FileService#uploadFile(String, String, byte[])} 메소드의 정확성을 검증하는 테스트입니다.
+     * {@link FileService#uploadFile(String, String, MultipartFile)} 메소드의 정확성을 검증하는 테스트입니다.
      * 이 테스트는 {@link MockMultipartFile}을 사용하여 파일 업로드 기능을 시뮬레이션하고,
      * 업로드된 파일이 지정된 위치에 성공적으로 생성되었는지 확인합니다.
      *
@@ -78,13 +78,36 @@ class FileServiceTest {
         MultipartFile multipartFile = new MockMultipartFile("user-file", originalFileName, contentType, content);
 
         // When
-        String savedFileName = fileService.uploadFile(tempDir.toString(), multipartFile.getOriginalFilename(), multipartFile.getBytes());
+        String savedFileName = fileService.uploadFile(tempDir.toString(), multipartFile.getOriginalFilename(), multipartFile);
 
         // Then
         File savedFile = new File(tempDir.toString(), savedFileName);
         assertTrue(savedFile.exists(), "파일이 성공적으로 업로드되어야 합니다.");
     }
 
+    /**
+     * {@link FileService#uploadFile(String, String, MultipartFile)} 메소드가 멀티파트 파일의 내용을 그대로 저장하는지 검증하는 테스트입니다.
+     *
+     * @throws Exception 파일 업로드 중 발생할 수 있는 예외
+     */
+    @Test
+    @DisplayName("멀티파트 파일을 byte 배열로 읽지 않고 저장할 수 있어야 한다")
+    void testUploadMultipartFile() throws Exception {
+        // Given
+        byte[] content = "multipart content".getBytes();
+        MultipartFile multipartFile = new MockMultipartFile("user-file", "test.png", "image/png", content);
+
+        // When
+        String savedFileName = fileService.uploadFile(tempDir.toString(), multipartFile.getOriginalFilename(), multipartFile);
+
+        // Then
+        Path savedFile = tempDir.resolve(savedFileName);
+        assertAll(
+                () -> assertTrue(savedFileName.endsWith(".png"), "원본 파일의 확장자가 유지되어야 합니다."),
+                () -> assertArrayEquals(content, Files.readAllBytes(savedFile))
+        );
+    }
+
     /**
      * {@link FileService#deleteFile(String)} 메소드의 정확성을 검증하는 테스트입니다.
      * 이 테스트는 임시 파일을 생성한 후, 해당 파일을 삭제하는 기능을 시험하고,
@@ -0,0 +1,161 @@
+package com.shop.shopmasterclone.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 20MB 이미지 업로드를 byte 배열로 저장할 때와 멀티파트 임시 파일을 옮겨 저장할 때의 힙 할당량과 소요 시간을 비교하는 벤치마크입니다.
+ * 멀티파트 파일은 서블릿 컨테이너처럼 임시 디렉토리에 미리 기록된 파일로 대체하며, 힙 할당량은 현재 스레드가 할당한 바이트 수로 측정합니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+class FileUploadBenchmark {
+
+    private static final int FILE_SIZE = 20 * 1024 * 1024;
+    private static final int ROUNDS = 10;
+
+    private final FileService fileService = new FileService();
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Path spoolDir;
+    private Path uploadDir;
+    private Path source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        spoolDir = Files.createTempDirectory("upload_spool");
+        uploadDir = Files.createTempDirectory("upload_target");
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        source = Files.write(spoolDir.resolve("source.jpg"), content);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Path dir : new Path[]{spoolDir, uploadDir}) {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("20MB 이미지 업로드의 byte 배열 저장과 임시 파일 이동 저장의 힙 할당량 비교")
+    void measureUploadAllocation() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            uploadWithBytes();
+            uploadWithTransfer();
+        }
+
+        long bytesAllocated = 0, bytesNanos = 0, transferAllocated = 0, transferNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long[] bytes = uploadWithBytes();
+            bytesAllocated += bytes[0];
+            bytesNanos += bytes[1];
+            long[] transfer = uploadWithTransfer();
+            transferAllocated += transfer[0];
+            transferNanos += transfer[1];
+        }
+
+        System.out.printf("file size             : %10.1f MB%n", FILE_SIZE / 1024.0 / 1024.0);
+        System.out.printf("byte[] allocated      : %10.1f KB/upload%n", bytesAllocated / 1024.0 / ROUNDS);
+        System.out.printf("byte[] time           : %10.2f ms/upload%n", bytesNanos / 1_000_000.0 / ROUNDS);
+        System.out.printf("transfer allocated    : %10.1f KB/upload%n", transferAllocated / 1024.0 / ROUNDS);
+        System.out.printf("transfer time         : %10.2f ms/upload%n", transferNanos / 1_000_000.0 / ROUNDS);
+    }
+
+    /**
+     * 임시 파일 이동 저장 도입 전의 저장 방식입니다. 업로드 파일 전체를 byte 배열로 읽은 뒤 기록합니다.
+     */
+    private long[] uploadWithBytes() throws Exception {
+        MultipartFile file = spool();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        Files.write(uploadDir.resolve(UUID.randomUUID() + ".jpg"), file.getBytes());
+        long nanos = System.nanoTime() - start;
+        return new long[]{threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore, nanos};
+    }
+
+    private long[] uploadWithTransfer() throws Exception {
+        MultipartFile file = spool();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        fileService.uploadFile(uploadDir.toString(), file.getOriginalFilename(), file);
+        long nanos = System.nanoTime() - start;
+        return new long[]{threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore, nanos};
+    }
+
+    private MultipartFile spool() throws IOException {
+        Path spooled = Files.createTempFile(spoolDir, "part", ".tmp");
+        Files.copy(source, spooled, StandardCopyOption.REPLACE_EXISTING);
+        return new SpooledMultipartFile(spooled);
+    }
+
+    /**
+     * 서블릿 컨테이너가 임시 디렉토리에 기록해 둔 업로드 파일을 흉내 내는 멀티파트 파일입니다.
+     * {@link #transferTo(File)}는 컨테이너처럼 임시 파일을 저장 위치로 옮깁니다.
+     */
+    private record SpooledMultipartFile(Path spooled) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "itemImgFile";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "image.jpg";
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(spooled);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(spooled);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(spooled);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.move(spooled, dest.toPath());
+        }
+    }
+}
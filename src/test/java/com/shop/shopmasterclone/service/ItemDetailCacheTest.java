@@ -0,0 +1,205 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.ItemDetailSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ItemDetailCache}의 재사용, 트랜잭션 중 무효화, 동시 조회 병합, 크기 제한 동작을 검증하는 테스트 클래스입니다.
+ * 상품 상세 조회는 호출 횟수를 세고 상품명에 호출 순번을 담은 스냅샷을 반환하는 함수로 대체합니다.
+ */
+class ItemDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Supplier<ItemDetailSnapshot> loader(Long itemId) {
+        return () -> snapshot(itemId, "상품 " + loadCount.incrementAndGet());
+    }
+
+    private static ItemDetailSnapshot snapshot(Long itemId, String itemNm) {
+        return new ItemDetailSnapshot(itemId, itemNm, 10000, "상세 설명", ItemSellStatus.SELL, false,
+                List.of(new ItemDetailSnapshot.ImgSnapshot(1L, "a.jpg", "원본.jpg", "/images/item/a.jpg", "Y")));
+    }
+
+    @Test
+    @DisplayName("캐시된 상품 상세는 다시 조회하지 않고 재사용해야 한다")
+    void givenCachedDetail_whenGettingAgain_thenShouldNotLoadAgain() {
+        // Given
+        ItemDetailCache itemDetailCache = new ItemDetailCache(meterRegistry, true, 1_000_000);
+
+        // When
+        ItemDetailSnapshot first = itemDetailCache.get(1L, loader(1L));
+        ItemDetailSnapshot second = itemDetailCache.get(1L, loader(1L));
+
+        // Then
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals(1, loadCount.get()),
+                () -> assertEquals(1, itemDetailCache.size()),
+                () -> assertEquals(first.estimatedBytes(), itemDetailCache.bytes()),
+                () -> assertEquals(1.0, meterRegistry.get("item.detail.cache.hits").counter().count()),
+                () -> assertEquals(1.0, meterRegistry.get("item.detail.cache.misses").counter().count())
+        );
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되어 있으면 매번 새로 조회해야 한다")
+    void givenDisabledCache_whenGettingTwice_thenShouldLoadEveryTime() {
+        // Given
+        ItemDetailCache itemDetailCache = new ItemDetailCache(meterRegistry, false, 1_000_000);
+
+        // When
+        itemDetailCache.get(1L, loader(1L));
+        itemDetailCache.get(1L, loader(1L));
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, loadCount.get()),
+                () -> assertEquals(0, itemDetailCache.size())
+        );
+    }
+
+    @Test
+    @DisplayName("상품을 변경한 트랜잭션 안에서는 캐시를 사용하지 않고, 트랜잭션이 끝나면 변경된 값이 다시 조회되어야 한다")
+    void givenInvalidatedInTransaction_whenGetting_thenShouldBypassUntilCompletion() {
+        // Given
+        ItemDetailCache itemDetailCache = new ItemDetailCache(meterRegistry, true, 1_000_000);
+        itemDetailCache.get(1L, loader(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        itemDetailCache.invalidate(1L);
+        ItemDetailSnapshot insideFirst = itemDetailCache.get(1L, loader(1L));
+        ItemDetailSnapshot insideSecond = itemDetailCache.get(1L, loader(1L));
+        int sizeInside = itemDetailCache.size();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        ItemDetailSnapshot afterCommit = itemDetailCache.get(1L, loader(1L));
+
+        // Then
+        assertAll(
+                () -> assertEquals("상품 2", insideFirst.itemNm()),
+                () -> assertEquals("상품 3", insideSecond.itemNm(), "트랜잭션 안에서는 캐시를 거치지 않아야 합니다."),
+                () -> assertEquals(0, sizeInside, "트랜잭션 안에서 조회한 값은 캐시에 들어가지 않아야 합니다."),
+                () -> assertEquals("상품 4", afterCommit.itemNm()),
+                () -> assertSame(afterCommit, itemDetailCache.get(1L, loader(1L))),
+                () -> assertEquals(4, loadCount.get())
+        );
+    }
+
+    @Test
+    @DisplayName("조회 중에 상품이 변경되면 조회 결과를 캐시에 넣지 않아야 한다")
+    void givenInvalidatedWhileLoading_whenLoadFinishes_thenShouldNotCacheResult() {
+        // Given
+        ItemDetailCache itemDetailCache = new ItemDetailCache(meterRegistry, true, 1_000_000);
+
+        // When
+        ItemDetailSnapshot stale = itemDetailCache.get(1L, () -> {
+            itemDetailCache.invalidate(1L);
+            return snapshot(1L, "변경 전 상품");
+        });
+        ItemDetailSnapshot fresh = itemDetailCache.get(1L, loader(1L));
+
+        // Then
+        assertAll(
+                () -> assertEquals("변경 전 상품", stale.itemNm()),
+                () -> assertEquals("상품 1", fresh.itemNm()),
+                () -> assertEquals(1, itemDetailCache.size())
+        );
+    }
+
+    @Test
+    @DisplayName("같은 상품을 동시에 조회하면 로더는 한 번만 실행되어야 한다")
+    void givenConcurrentMisses_whenGettingSameItem_thenShouldLoadOnce() throws Exception {
+        // Given
+        ItemDetailCache itemDetailCache = new ItemDetailCache(meterRegistry, true, 1_000_000);
+        int threadCount = 8;
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        Supplier<ItemDetailSnapshot> slowLoader = () -> {
+            loadCount.incrementAndGet();
+            loaderStarted.countDown();
+            try {
+                releaseLoader.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return snapshot(1L, "상품 1");
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        List<Future<ItemDetailSnapshot>> futures = new ArrayList<>();
+        futures.add(executorService.submit(() -> itemDetailCache.get(1L, slowLoader)));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> itemDetailCache.get(1L, slowLoader)));
+        }
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        List<ItemDetailSnapshot> results = new ArrayList<>();
+        for (Future<ItemDetailSnapshot> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, loadCount.get()),
+                () -> assertTrue(results.stream().allMatch(result -> result == results.get(0)),
+                        "모든 요청이 같은 스냅샷을 받아야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("캐시 크기 제한을 넘으면 가장 오래 사용되지 않은 상품부터 제거되어야 한다")
+    void givenByteLimit_whenExceeded_thenShouldEvictLeastRecentlyUsed() {
+        // Given
+        long entryBytes = snapshot(1L, "상품 1").estimatedBytes();
+        ItemDetailCache itemDetailCache = new ItemDetailCache(meterRegistry, true, entryBytes * 2 + entryBytes / 2);
+        itemDetailCache.get(1L, loader(1L));
+        itemDetailCache.get(2L, loader(2L));
+
+        // When
+        itemDetailCache.get(1L, loader(1L));
+        itemDetailCache.get(3L, loader(3L));
+        itemDetailCache.get(1L, loader(1L));
+        itemDetailCache.get(2L, loader(2L));
+
+        // Then
+        assertAll(
+                () -> assertEquals(4, loadCount.get(), "최근에 사용한 1번 상품은 남고 2번 상품만 제거되어야 합니다."),
+                () -> assertEquals(2, itemDetailCache.size()),
+                () -> assertTrue(itemDetailCache.bytes() <= entryBytes * 2 + entryBytes / 2),
+                () -> assertEquals(2.0, meterRegistry.get("item.detail.cache.evictions").counter().count())
+        );
+    }
+}
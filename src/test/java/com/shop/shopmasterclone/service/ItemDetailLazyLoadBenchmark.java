@@ -0,0 +1,139 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 상세 설명이 긴 상품을 주문할 때, 상세 설명을 지연 로딩하는 현재 방식과 상품을 읽을 때마다 상세 설명까지 읽던
+ * 이전 방식의 주문당 소요 시간과 힙 할당량을 비교하는 벤치마크입니다.
+ * 이전 방식은 주문 전에 상품과 상세 설명을 한 쿼리로 함께 조회하여 영속성 컨텍스트에 올려 두는 것으로 재현하므로,
+ * 주문 처리는 즉시 로딩 매핑일 때와 같이 상세 설명이 채워진 상품을 사용합니다.
+ * <p>
+ * 지연 로딩은 hibernate-enhance-maven-plugin이 엔티티를 향상한 빌드에서만 동작합니다. IDE나 다른 빌드 도구로 컴파일하면
+ * 경고 없이 즉시 로딩되어 두 결과가 같아지므로, 측정 전에 상세 설명이 실제로 지연 로딩되는지 확인합니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ItemDetailLazyLoadBenchmark {
+
+    private static final String EMAIL = "item-detail-benchmark@example.com";
+    private static final int DETAIL_LENGTH = 64 * 1024;
+    private static final int ROUNDS = 1000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        MemberFormDto memberFormDto = new MemberFormDto();
+        memberFormDto.setName("벤치마크");
+        memberFormDto.setEmail(EMAIL);
+        memberFormDto.setPassword("testPassword");
+        memberFormDto.setAddress("testAddress");
+        memberRepository.save(Member.createMember(memberFormDto, new BCryptPasswordEncoder(4)));
+
+        Item item = new Item();
+        item.setItemNm("벤치마크 상품");
+        item.setPrice(10000);
+        item.setItemDetail("x".repeat(DETAIL_LENGTH));
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(ROUNDS * 10);
+        itemId = itemRepository.save(item).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        memberRepository.delete(memberRepository.findByEmail(EMAIL));
+    }
+
+    @Test
+    @DisplayName("상세 설명 지연 로딩과 즉시 로딩의 주문 처리 비교")
+    void compareLazyItemDetailWithEagerItemDetail() {
+        OrderDto orderDto = new OrderDto();
+        orderDto.setItemId(itemId);
+        orderDto.setCount(1);
+
+        transactionTemplate.executeWithoutResult(status -> assertFalse(
+                Hibernate.isPropertyInitialized(itemRepository.findById(itemId).orElseThrow(), "itemDetail"),
+                "상세 설명이 즉시 로딩되었습니다. hibernate-enhance-maven-plugin이 실행되는 Maven 빌드로 실행해야 합니다."));
+
+        report("itemDetail lazy  ", () -> orderService.order(orderDto, EMAIL));
+        report("itemDetail eager ", () -> {
+            loadWithItemDetail(itemId);
+            orderService.order(orderDto, EMAIL);
+        });
+    }
+
+    /**
+     * 상품과 상세 설명을 한 쿼리로 함께 조회합니다. 상세 설명이 즉시 로딩되던 매핑에서 상품을 읽을 때와 같은 쿼리입니다.
+     */
+    private void loadWithItemDetail(Long itemId) {
+        entityManager.createQuery("select i, i.itemDetail from Item i where i.id = :itemId", Object[].class)
+                .setParameter("itemId", itemId)
+                .getSingleResult();
+    }
+
+    private void report(String name, Runnable order) {
+        for(int i = 0; i < ROUNDS / 4; i++){
+            transactionTemplate.executeWithoutResult(status -> order.run());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for(int i = 0; i < ROUNDS; i++){
+            transactionTemplate.executeWithoutResult(status -> order.run());
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / ROUNDS;
+        double kilobytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / 1024.0 / ROUNDS;
+
+        System.out.printf("%s : %10.1f us/order %10.1f KB/order%n", name, micros, kilobytes);
+    }
+}
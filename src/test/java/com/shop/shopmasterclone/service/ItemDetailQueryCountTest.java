@@ -0,0 +1,132 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.ItemFormDto;
+import com.shop.shopmasterclone.dto.ItemImgDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.ItemImg;
+import com.shop.shopmasterclone.repository.ItemImgRepository;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ItemService#getItemDtl}이 상품 정보와 이미지 목록을 한 번의 쿼리로 조회하는지 검증하는 테스트 클래스입니다.
+ * Hibernate 통계를 활성화하여 실행된 SQL 문의 수를 측정합니다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class ItemDetailQueryCountTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemImgRepository itemImgRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 상품 상세 조회가 상품과 이미지를 함께 조회하는 쿼리와 재고 조회 쿼리만 실행하는지 검증합니다.
+     *
+     * <p>Given: 이미지가 3개인 상품이 주어졌을 때,
+     * <p>When: 영속성 컨텍스트를 비운 뒤 상품 상세를 조회하면,
+     * <p>Then: SQL 문은 2개만 실행되어야 하며, 상세 설명과 이미지 목록이 이미지 ID 순서대로 채워져야 한다.
+     */
+    @Test
+    @DisplayName("상품 상세 조회는 상품과 이미지를 한 번의 쿼리로 조회해야 한다")
+    void givenItemWithImages_whenGettingItemDetail_thenItemAndImagesShouldBeFetchedTogether() {
+        // Given
+        Item item = createItem("상세 조회 상품", 3);
+        em.flush();
+        em.clear();
+
+        // When
+        statistics.clear();
+        ItemFormDto itemFormDto = itemService.getItemDtl(item.getId());
+        long statements = statistics.getPrepareStatementCount();
+
+        // Then
+        List<Long> imgIds = itemFormDto.getItemImgDtoList().stream().map(ItemImgDto::getId).toList();
+        assertAll(
+                () -> assertEquals(2, statements, "상품과 이미지 조회, 재고 조회 외의 쿼리가 실행되면 안 됩니다."),
+                () -> assertEquals("상세 조회 상품 상세 설명", itemFormDto.getItemDetail()),
+                () -> assertEquals(100, itemFormDto.getStockNumber()),
+                () -> assertEquals(3, imgIds.size()),
+                () -> assertEquals(imgIds.stream().sorted().toList(), imgIds, "이미지는 ID 오름차순이어야 합니다."),
+                () -> assertEquals("Y", itemFormDto.getItemImgDtoList().get(0).getRepimgYn())
+        );
+    }
+
+    @Test
+    @DisplayName("이미지가 없는 상품도 상세 정보가 조회되어야 한다")
+    void givenItemWithoutImages_whenGettingItemDetail_thenImageListShouldBeEmpty() {
+        // Given
+        Item item = createItem("이미지 없는 상품", 0);
+        em.flush();
+        em.clear();
+
+        // When
+        ItemFormDto itemFormDto = itemService.getItemDtl(item.getId());
+
+        // Then
+        assertAll(
+                () -> assertEquals("이미지 없는 상품", itemFormDto.getItemNm()),
+                () -> assertTrue(itemFormDto.getItemImgDtoList().isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품의 상세를 조회하면 예외가 발생해야 한다")
+    void givenUnknownItemId_whenGettingItemDetail_thenShouldThrow() {
+        assertThrows(EntityNotFoundException.class, () -> itemService.getItemDtl(-1L));
+    }
+
+    private Item createItem(String itemName, int imgCount) {
+        Item item = new Item();
+        item.setItemNm(itemName);
+        item.setPrice(10000);
+        item.setItemDetail(itemName + " 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(100);
+        itemRepository.save(item);
+
+        for(int i = 0; i < imgCount; i++){
+            ItemImg itemImg = new ItemImg();
+            itemImg.setItem(item);
+            itemImg.setRepimgYn(i == 0 ? "Y" : "N");
+            itemImg.setImgUrl("/images/item/" + itemName + i + ".jpg");
+            itemImgRepository.save(itemImg);
+        }
+        return item;
+    }
+}
@@ -0,0 +1,133 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.ItemFacetDto;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ItemFacetIndex}의 패싯별 상품 수 계산과 증분 갱신 동작을 검증하는 테스트 클래스입니다.
+ * 데이터베이스 없이 리포지토리를 모의 객체로 대체합니다.
+ */
+class ItemFacetIndexTest {
+
+    private ItemRepository itemRepository;
+
+    private ItemFacetIndex itemFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        itemRepository = mock(ItemRepository.class);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, ItemSellStatus.SELL, 5000, now.minusHours(1), "/images/item/1.jpg", "admin@example.com"});
+        rows.add(new Object[]{2L, ItemSellStatus.SELL, 10000, now.minusDays(3), "/images/item/2.jpg", "admin@example.com"});
+        rows.add(new Object[]{3L, ItemSellStatus.SOLD_OUT, 20000, now.minusDays(3), null, "Manager@example.com"});
+        rows.add(new Object[]{4L, ItemSellStatus.SOLD_OUT, 40000, now.minusMonths(2), "/images/item/4.jpg", null});
+        when(itemRepository.findFacetRows()).thenReturn(rows);
+
+        itemFacetIndex = new ItemFacetIndex(itemRepository, true, new int[]{10000, 30000});
+        itemFacetIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("선택한 판매 상태는 다른 패싯의 상품 수에만 적용되고, 판매 상태별 상품 수에는 적용되지 않아야 한다")
+    void givenSelectedSellStatus_whenCounting_thenOtherFacetsShouldBeFiltered() {
+        // When
+        ItemFacetDto facets = itemFacetIndex.count(null, false, ItemSellStatus.SELL, "1w", null, null);
+
+        // Then
+        assertAll(
+                () -> assertEquals(Map.of(ItemSellStatus.SELL, 2, ItemSellStatus.SOLD_OUT, 1), facets.getSellStatusCounts(),
+                        "판매 상태별 상품 수는 등록 기간 조건만 적용해야 합니다."),
+                () -> assertEquals(List.of("0-10000", "10000-30000", "30000-"), List.copyOf(facets.getPriceBandCounts().keySet())),
+                () -> assertEquals(List.of(1, 1, 0), List.copyOf(facets.getPriceBandCounts().values())),
+                () -> assertEquals(List.of(1, 2, 2, 2), List.copyOf(facets.getRegWindowCounts().values()),
+                        "등록 기간별 상품 수는 판매 상태 조건만 적용해야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("가격 범위는 가격대별 상품 수를 제외한 나머지 패싯의 상품 수에만 적용되어야 한다")
+    void givenPriceRange_whenCounting_thenPriceBandsShouldNotBeFiltered() {
+        // When
+        ItemFacetDto facets = itemFacetIndex.count(null, false, null, null, 10000, 40000);
+
+        // Then
+        assertAll(
+                () -> assertEquals(Map.of(ItemSellStatus.SELL, 1, ItemSellStatus.SOLD_OUT, 2), facets.getSellStatusCounts()),
+                () -> assertEquals(List.of(1, 2, 1), List.copyOf(facets.getPriceBandCounts().values()))
+        );
+    }
+
+    @Test
+    @DisplayName("검색 결과와 메인 페이지 표시 여부로 세는 상품을 제한해야 한다")
+    void givenMatchedIdsAndListedOnly_whenCounting_thenShouldCountOnlyMatchedListedItems() {
+        // When
+        ItemFacetDto facets = itemFacetIndex.count(Set.of(2L, 3L, 99L), true, null, null, null, null);
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, facets.getSellStatusCounts().get(ItemSellStatus.SELL)),
+                () -> assertEquals(0, facets.getSellStatusCounts().get(ItemSellStatus.SOLD_OUT),
+                        "대표 이미지가 없는 상품은 세지 않아야 합니다."),
+                () -> assertEquals(1, facets.getPriceBandCounts().get("10000-30000"))
+        );
+    }
+
+    @Test
+    @DisplayName("등록자 검색어는 대소문자를 구분하지 않고 등록자에 검색어가 포함된 상품만 세야 한다")
+    void givenCreatedByQuery_whenCounting_thenShouldCountOnlyMatchingCreators() {
+        // When
+        ItemFacetDto managerFacets = itemFacetIndex.countByCreatedBy("manager", false, null, null, null, null);
+        ItemFacetDto exampleFacets = itemFacetIndex.countByCreatedBy("EXAMPLE", false, null, null, null, null);
+        ItemFacetDto unknownFacets = itemFacetIndex.countByCreatedBy("unknown", false, null, null, null, null);
+
+        // Then
+        assertAll(
+                () -> assertEquals(Map.of(ItemSellStatus.SELL, 0, ItemSellStatus.SOLD_OUT, 1), managerFacets.getSellStatusCounts()),
+                () -> assertEquals(Map.of(ItemSellStatus.SELL, 2, ItemSellStatus.SOLD_OUT, 1), exampleFacets.getSellStatusCounts(),
+                        "등록자가 없는 상품은 세지 않아야 합니다."),
+                () -> assertEquals(List.of(0, 0, 0), List.copyOf(unknownFacets.getPriceBandCounts().values()))
+        );
+    }
+
+    @Test
+    @DisplayName("변경된 상품은 기존 패싯 값이 지워지고 새 값으로 반영되어야 한다")
+    void givenChangedItem_whenItemChangedEventReceived_thenShouldReplaceFacetValues() {
+        // Given
+        List<Object[]> changed = new ArrayList<>();
+        changed.add(new Object[]{1L, ItemSellStatus.SOLD_OUT, 50000, LocalDateTime.now().minusHours(1), "/images/item/1.jpg", "manager@example.com"});
+        List<Object[]> added = new ArrayList<>();
+        added.add(new Object[]{5L, ItemSellStatus.SELL, 1000, LocalDateTime.now(), "/images/item/5.jpg", "admin@example.com"});
+        when(itemRepository.findFacetRowsByItemId(1L)).thenReturn(changed);
+        when(itemRepository.findFacetRowsByItemId(5L)).thenReturn(added);
+
+        // When
+        itemFacetIndex.onItemChanged(new ItemChangedEvent(1L));
+        itemFacetIndex.onItemChanged(new ItemChangedEvent(5L));
+        ItemFacetDto facets = itemFacetIndex.count(null, false, null, null, null, null);
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, facets.getSellStatusCounts().get(ItemSellStatus.SELL)),
+                () -> assertEquals(3, facets.getSellStatusCounts().get(ItemSellStatus.SOLD_OUT)),
+                () -> assertEquals(1, facets.getPriceBandCounts().get("0-10000")),
+                () -> assertEquals(2, facets.getPriceBandCounts().get("30000-")),
+                () -> assertEquals(2, itemFacetIndex.countByCreatedBy("manager", false, null, null, null, null)
+                        .getSellStatusCounts().get(ItemSellStatus.SOLD_OUT), "변경된 등록자로 세어야 합니다.")
+        );
+    }
+}
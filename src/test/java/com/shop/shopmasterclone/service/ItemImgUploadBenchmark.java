@@ -0,0 +1,95 @@
+package com.shop.shopmasterclone.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * 상품 등록 시 20MB 이미지 5장을 저장하는 데 걸리는 시간을 한 스레드로 순서대로 저장할 때와
+ * {@link ItemImgUploader}로 동시에 저장할 때 비교하는 벤치마크입니다.
+ * 이미지 저장 시간은 상품 등록 중 데이터베이스 커넥션을 점유하던 시간에 해당합니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+class ItemImgUploadBenchmark {
+
+    private static final int FILE_SIZE = 20 * 1024 * 1024;
+    private static final int IMAGES = 5;
+    private static final int ROUNDS = 10;
+
+    private Path uploadDir;
+    private List<MultipartFile> itemImgFileList;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("item_img_upload_benchmark");
+        Random random = new Random(42);
+        itemImgFileList = new ArrayList<>();
+        for (int i = 0; i < IMAGES; i++) {
+            byte[] content = new byte[FILE_SIZE];
+            random.nextBytes(content);
+            itemImgFileList.add(new MockMultipartFile("itemImgFile", "image" + i + ".jpg", "image/jpeg", content));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("20MB 이미지 5장의 순차 저장과 병렬 저장 소요 시간 비교")
+    void measureUploadLatency() {
+        ItemThumbnailService thumbnailService = new ItemThumbnailService(uploadDir.toString(), false, "card:400", 1, 10);
+        ItemImgUploader serial = new ItemImgUploader(new FileService(), thumbnailService, uploadDir.toString(), 1, 100);
+        ItemImgUploader parallel = new ItemImgUploader(new FileService(), thumbnailService, uploadDir.toString(), IMAGES, 100);
+        try {
+            for (int i = 0; i < 2; i++) {
+                measure(serial);
+                measure(parallel);
+            }
+
+            long[] serialNanos = new long[ROUNDS];
+            long[] parallelNanos = new long[ROUNDS];
+            for (int i = 0; i < ROUNDS; i++) {
+                serialNanos[i] = measure(serial);
+                parallelNanos[i] = measure(parallel);
+            }
+            Arrays.sort(serialNanos);
+            Arrays.sort(parallelNanos);
+
+            System.out.printf("images              : %10d x %.0f MB%n", IMAGES, FILE_SIZE / 1024.0 / 1024.0);
+            System.out.printf("serial   p50        : %10.1f ms%n", serialNanos[ROUNDS / 2] / 1_000_000.0);
+            System.out.printf("serial   max        : %10.1f ms%n", serialNanos[ROUNDS - 1] / 1_000_000.0);
+            System.out.printf("parallel p50        : %10.1f ms%n", parallelNanos[ROUNDS / 2] / 1_000_000.0);
+            System.out.printf("parallel max        : %10.1f ms%n", parallelNanos[ROUNDS - 1] / 1_000_000.0);
+        } finally {
+            serial.shutdown();
+            parallel.shutdown();
+            thumbnailService.shutdown();
+        }
+    }
+
+    private long measure(ItemImgUploader itemImgUploader) {
+        long start = System.nanoTime();
+        List<String> imgNames = itemImgUploader.upload(itemImgFileList);
+        long nanos = System.nanoTime() - start;
+        itemImgUploader.delete(imgNames);
+        return nanos;
+    }
+}
@@ -0,0 +1,91 @@
+package com.shop.shopmasterclone.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ItemImgUploader}의 병렬 저장과 실패 시 정리 동작을 검증하는 테스트 클래스입니다.
+ * 이미지 파일은 임시 디렉토리에 저장합니다.
+ */
+class ItemImgUploaderTest {
+
+    private Path tempDir;
+    private ItemThumbnailService thumbnailService;
+    private ItemImgUploader itemImgUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("item_img_upload_test");
+        thumbnailService = new ItemThumbnailService(tempDir.toString(), false, "card:400", 1, 10);
+        itemImgUploader = new ItemImgUploader(new FileService(), thumbnailService, tempDir.toString(), 4, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        itemImgUploader.shutdown();
+        thumbnailService.shutdown();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 이미지 파일이 저장되고, 파일 이름이 입력과 같은 순서로 반환되어야 한다")
+    void givenImageFiles_whenUploading_thenAllFilesShouldBeSavedInOrder() throws IOException {
+        // Given
+        List<MultipartFile> itemImgFileList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            itemImgFileList.add(new MockMultipartFile("itemImgFile", "image" + i + ".jpg", "image/jpeg", ("image " + i).getBytes()));
+        }
+        itemImgFileList.set(2, null);
+
+        // When
+        List<String> imgNames = itemImgUploader.upload(itemImgFileList);
+
+        // Then
+        assertEquals(5, imgNames.size());
+        assertNull(imgNames.get(2), "저장하지 않은 항목의 파일 이름은 null이어야 합니다.");
+        for (int i : new int[]{0, 1, 3, 4}) {
+            assertEquals("image " + i, Files.readString(tempDir.resolve(imgNames.get(i))));
+        }
+    }
+
+    @Test
+    @DisplayName("한 이미지 파일이라도 저장에 실패하면 저장된 파일을 모두 삭제하고 예외가 발생해야 한다")
+    void givenFailingFile_whenUploading_thenSavedFilesShouldBeDeleted() throws IOException {
+        // Given
+        MultipartFile failingFile = new MockMultipartFile("itemImgFile", "broken.jpg", "image/jpeg", new byte[]{1}) {
+            @Override
+            public void transferTo(File dest) throws IOException {
+                throw new IOException("디스크 쓰기 실패");
+            }
+        };
+        List<MultipartFile> itemImgFileList = Arrays.asList(
+                new MockMultipartFile("itemImgFile", "first.jpg", "image/jpeg", new byte[]{1, 2, 3}),
+                failingFile,
+                new MockMultipartFile("itemImgFile", "third.jpg", "image/jpeg", new byte[]{4, 5, 6})
+        );
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> itemImgUploader.upload(itemImgFileList));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count(), "저장된 이미지 파일이 남아 있으면 안 됩니다.");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.repository.ItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품 10만 개를 색인한 자동 완성 색인의 추천 지연 시간(p50, p99)과 색인의 힙 사용량을 측정하는 벤치마크입니다.
+ * 상품명은 형용사, 브랜드, 상품 종류를 무작위로 조합하여 만들고, 검색어는 상품명 단어의 앞 한두 글자를 사용합니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+class ItemNameSuggesterBenchmark {
+
+    private static final int ITEMS = 100_000;
+    private static final int QUERIES = 200_000;
+
+    private static final String[] ADJECTIVES = {"무선", "유선", "휴대용", "초경량", "프리미엄", "가정용", "대용량", "미니", "스마트", "클래식"};
+    private static final String[] BRANDS = {"블루웨이브", "하늘정원", "스톤브릿지", "라이트온", "그린필드", "오렌지랩", "모닝스타", "실버라인"};
+    private static final String[] KINDS = {"이어폰", "스피커", "키보드", "마우스", "텀블러", "백팩", "운동화", "선풍기", "가습기", "모니터"};
+
+    @Test
+    @DisplayName("상품 10만 개 자동 완성 색인의 추천 지연 시간과 메모리 사용량")
+    void measureSuggestLatency() {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        for(long i = 1; i <= ITEMS; i++){
+            String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            String kind = KINDS[random.nextInt(KINDS.length)];
+            rows.add(new Object[]{i, adjective + " " + brand + " " + kind + " " + i, (long) random.nextInt(10_000)});
+            prefixes.add(brand.substring(0, 1 + random.nextInt(2)));
+            prefixes.add(kind.substring(0, 1 + random.nextInt(2)));
+        }
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findSuggestRows()).thenReturn(rows);
+
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memoryMXBean.getHeapMemoryUsage().getUsed();
+        long buildStart = System.nanoTime();
+        ItemNameSuggester itemNameSuggester = new ItemNameSuggester(itemRepository, true, 10);
+        itemNameSuggester.rebuild();
+        double buildMillis = (System.nanoTime() - buildStart) / 1_000_000.0;
+        rows = null;
+        System.gc();
+        long heapAfter = memoryMXBean.getHeapMemoryUsage().getUsed();
+
+        for(int i = 0; i < QUERIES / 4; i++){
+            itemNameSuggester.suggest(prefixes.get(i % prefixes.size()), 10);
+        }
+
+        long[] nanos = new long[QUERIES];
+        for(int i = 0; i < QUERIES; i++){
+            String prefix = prefixes.get(random.nextInt(prefixes.size()));
+            long start = System.nanoTime();
+            itemNameSuggester.suggest(prefix, 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        System.out.printf("build             : %10.1f ms%n", buildMillis);
+        System.out.printf("heap (approx.)    : %10.1f bytes/item%n", (double) (heapAfter - heapBefore) / ITEMS);
+        System.out.printf("suggest p50       : %10.2f us%n", nanos[QUERIES / 2] / 1_000.0);
+        System.out.printf("suggest p99       : %10.2f us%n", nanos[QUERIES * 99 / 100] / 1_000.0);
+        System.out.printf("suggest max       : %10.2f us%n", nanos[QUERIES - 1] / 1_000.0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ItemNameSuggester}의 접두어 추천, 인기순 정렬, 증분 갱신 동작을 검증하는 테스트 클래스입니다.
+ * 데이터베이스 없이 리포지토리를 모의 객체로 대체합니다.
+ */
+class ItemNameSuggesterTest {
+
+    private ItemRepository itemRepository;
+
+    private ItemNameSuggester itemNameSuggester;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "무선 블루투스 이어폰", 30L});
+        rows.add(new Object[]{2L, "블루투스 스피커", 50L});
+        rows.add(new Object[]{3L, "블루베리 잼", 10L});
+        rows.add(new Object[]{4L, "유선 이어폰", 0L});
+        rows.add(new Object[]{5L, "Bluetooth Keyboard", 20L});
+        when(itemRepository.findSuggestRows()).thenReturn(rows);
+
+        itemNameSuggester = new ItemNameSuggester(itemRepository, true, 10);
+        itemNameSuggester.rebuild();
+    }
+
+    @Test
+    @DisplayName("검색어로 시작하는 상품명을 인기순으로 추천해야 한다")
+    void givenPrefix_whenSuggesting_thenShouldReturnNamesByPopularity() {
+        assertAll(
+                () -> assertEquals(List.of("블루투스 스피커", "무선 블루투스 이어폰", "블루베리 잼"), itemNameSuggester.suggest("블루", 10),
+                        "단어의 시작 위치부터도 추천되어야 합니다."),
+                () -> assertEquals(List.of("블루투스 스피커", "무선 블루투스 이어폰"), itemNameSuggester.suggest("블루투", 10),
+                        "간선 중간에서 끝나는 검색어도 추천되어야 합니다."),
+                () -> assertEquals(List.of("블루투스 스피커"), itemNameSuggester.suggest("블루", 1)),
+                () -> assertEquals(List.of("무선 블루투스 이어폰", "유선 이어폰"), itemNameSuggester.suggest("이어", 10)),
+                () -> assertEquals(List.of("Bluetooth Keyboard"), itemNameSuggester.suggest("BLUE", 10), "영문은 대소문자를 구분하지 않아야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("일치하는 상품명이 없거나 검색어가 비어 있으면 빈 목록을 반환해야 한다")
+    void givenUnknownOrBlankPrefix_whenSuggesting_thenShouldReturnEmptyList() {
+        assertAll(
+                () -> assertEquals(List.of(), itemNameSuggester.suggest("블루투스 키보드", 10)),
+                () -> assertEquals(List.of(), itemNameSuggester.suggest("스피커폰", 10)),
+                () -> assertEquals(List.of(), itemNameSuggester.suggest("  ", 10))
+        );
+    }
+
+    @Test
+    @DisplayName("상품명이 수정되면 기존 이름으로는 추천되지 않고 새 이름으로 추천되어야 한다")
+    void givenRenamedItem_whenItemChangedEventReceived_thenShouldSuggestNewName() {
+        // Given
+        when(itemRepository.findItemNmById(2L)).thenReturn(Optional.of("휴대용 스피커"));
+        when(itemRepository.findItemNmById(6L)).thenReturn(Optional.of("블루투스 마우스"));
+
+        // When
+        itemNameSuggester.onItemChanged(new ItemChangedEvent(2L));
+        itemNameSuggester.onItemChanged(new ItemChangedEvent(6L));
+
+        // Then
+        assertAll(
+                () -> assertEquals(List.of("무선 블루투스 이어폰", "블루베리 잼", "블루투스 마우스"), itemNameSuggester.suggest("블루", 10)),
+                () -> assertEquals(List.of("휴대용 스피커"), itemNameSuggester.suggest("스피", 10), "인기도는 기존 값을 유지해야 합니다."),
+                () -> assertEquals(List.of("블루투스 마우스"), itemNameSuggester.suggest("블루투스 마", 10))
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ItemSearchIndex}의 한글 부분 문자열 검색과 증분 갱신 동작을 검증하는 테스트 클래스입니다.
+ * 데이터베이스 없이 리포지토리를 모의 객체로 대체하고, 트랜잭션 동기화를 직접 초기화하여 커밋을 흉내 냅니다.
+ */
+class ItemSearchIndexTest {
+
+    private ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, "무선 블루투스 이어폰", "노이즈 캔슬링을 지원하는 이어폰"});
+        rows.add(new Object[]{2L, "유선 이어폰", "가벼운 Wired Earphone"});
+        rows.add(new Object[]{3L, "블루투스 스피커", "휴대용 스피커"});
+        when(itemRepository.findSearchTexts()).thenReturn(rows);
+
+        itemSearchIndex = new ItemSearchIndex(itemRepository, true, 2);
+        itemSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한글 검색어는 상품명과 상세 설명의 어느 위치에 있어도 부분 문자열로 검색되어야 한다")
+    void givenHangulQuery_whenSearching_thenShouldMatchSubstrings() {
+        assertAll(
+                () -> assertEquals(Set.of(1L, 3L), itemSearchIndex.search("블루투스", false)),
+                () -> assertEquals(Set.of(1L, 2L), itemSearchIndex.search("이어폰", false)),
+                () -> assertEquals(Set.of(1L), itemSearchIndex.search("캔슬링", true)),
+                () -> assertEquals(Set.of(), itemSearchIndex.search("캔슬링", false), "상품명만 검색할 때는 상세 설명을 검색하지 않아야 합니다."),
+                () -> assertEquals(Set.of(2L), itemSearchIndex.search("유", false), "한 글자 검색어도 검색되어야 합니다."),
+                () -> assertEquals(Set.of(2L), itemSearchIndex.search("earphone", true), "영문은 대소문자를 구분하지 않아야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("검색어의 글자가 모두 있어도 연속된 문자열이 아니면 검색되지 않아야 한다")
+    void givenScatteredCharacters_whenSearching_thenShouldNotMatch() {
+        assertEquals(Set.of(), itemSearchIndex.search("블스", true));
+    }
+
+    @Test
+    @DisplayName("수정된 상품은 커밋 후에 새 이름으로만 검색되고, 커밋 전에는 같은 트랜잭션에서만 보여야 한다")
+    void givenUpdatedItem_whenCommitted_thenIndexShouldReflectNewName() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        itemSearchIndex.index(3L, "블루투스 헤드폰", "휴대용 헤드폰");
+
+        // Then: 같은 트랜잭션에서는 변경된 이름으로 검색된다.
+        assertEquals(Set.of(3L), itemSearchIndex.search("헤드폰", false));
+        assertEquals(Set.of(), itemSearchIndex.search("스피커", true));
+
+        // When: 커밋
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then: 커밋 후에는 트랜잭션 밖에서도 새 이름으로만 검색된다.
+        assertEquals(Set.of(3L), itemSearchIndex.search("헤드폰", false));
+        assertEquals(Set.of(), itemSearchIndex.search("스피커", true));
+        assertEquals(Set.of(1L, 3L), itemSearchIndex.search("블루투스", false));
+    }
+
+    @Test
+    @DisplayName("목록 조회용 검색 결과는 ID가 큰 상품부터 최대 개수까지만 반환되어야 한다")
+    void givenManyMatches_whenSearchingLatest_thenShouldReturnNewestIdsUpToLimit() {
+        assertAll(
+                () -> assertEquals(List.of(2L, 1L), itemSearchIndex.searchLatest("이어폰", false)),
+                () -> assertEquals(List.of(3L, 2L), itemSearchIndex.searchLatest("", true), "최대 개수를 넘는 오래된 상품은 제외되어야 합니다.")
+        );
+    }
+}
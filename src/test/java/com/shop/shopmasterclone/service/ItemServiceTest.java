@@ -4,14 +4,18 @@ import com.shop.shopmasterclone.constant.ItemSellStatus;
 import com.shop.shopmasterclone.dto.ItemFormDto;
 import com.shop.shopmasterclone.dto.ItemSearchDto;
 import com.shop.shopmasterclone.dto.MainItemDto;
+import com.shop.shopmasterclone.dto.MainItemSliceDto;
+import com.shop.shopmasterclone.entity.CatalogEntry;
 import com.shop.shopmasterclone.entity.Item;
 import com.shop.shopmasterclone.entity.ItemImg;
+import com.shop.shopmasterclone.repository.CatalogEntryRepository;
 import com.shop.shopmasterclone.repository.ItemImgRepository;
 import com.shop.shopmasterclone.repository.ItemRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,10 +23,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +48,12 @@ class ItemServiceTest {
     @Autowired
     ItemImgRepository itemImgRepository;
 
+    @Autowired
+    CatalogEntryRepository catalogEntryRepository;
+
+    @Value("${itemImgLocation}")
+    String itemImgLocation;
+
     /**
      * 메인 페이지 상품 조회 기능에 대한 테스트 메서드입니다.
      * 상품 검색 조건을 주어 관리자 상품 페이지에서 조회할 때 조건에 맞는 상품 페이지가 반환되는지 검증합니다.
@@ -77,6 +91,54 @@ class ItemServiceTest {
         });
     }
 
+    /**
+     * 메인 페이지 상품 목록을 커서 기반으로 끝까지 조회할 때, 검색 조건에 맞는 상품이 중복이나 누락 없이
+     * 최신순으로 반환되는지 검증합니다.
+     *
+     * @throws Exception 상품 정보 및 이미지 파일의 저장 과정에서 발생할 수 있는 예외를 처리합니다.
+     */
+    @Test
+    @DisplayName("메인 페이지 상품을 커서로 조회하면 검색 조건에 맞는 상품이 모두 한 번씩 최신순으로 조회되어야 한다")
+    @WithMockUser(username = "user", roles = "USER")
+    void givenItems_whenPagingMainItemsWithCursor_thenAllMatchingItemsShouldBeReturnedOnceInDescendingOrder() throws Exception {
+        // Given
+        List<Long> itemIds = new ArrayList<>();
+        for(int i = 1; i <= 5; i++){
+            itemIds.add(createTestItemsWithImages("슬라이스 상품 " + i, ItemSellStatus.SELL, 10));
+        }
+        createTestItemsWithImages("다른 상품", ItemSellStatus.SELL, 10);
+
+        ItemSearchDto itemSearchDto = new ItemSearchDto();
+        itemSearchDto.setSearchQuery("슬라이스");
+
+        // When
+        List<Long> pagedItemIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            MainItemSliceDto slice = itemService.getMainItemSlice(itemSearchDto, cursor, 2);
+            slice.getMainItemDtoList().forEach(mainItemDto -> pagedItemIds.add(mainItemDto.getId()));
+            pageSizes.add(slice.getMainItemDtoList().size());
+            cursor = slice.getNextCursor();
+        } while(cursor != null);
+
+        // Then
+        itemIds.sort(Comparator.reverseOrder());
+        assertAll(
+                () -> assertEquals(itemIds, pagedItemIds, "검색 조건에 맞는 상품이 중복 없이 최신순으로 조회되어야 합니다."),
+                () -> assertEquals(List.of(2, 2, 1), pageSizes, "각 페이지는 요청한 크기만큼 조회되어야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서로 메인 페이지 상품을 조회하면 예외가 발생해야 한다")
+    void givenInvalidCursor_whenGettingMainItemSlice_thenShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.getMainItemSlice(new ItemSearchDto(), "not-a-cursor", 2),
+                "올바르지 않은 커서는 IllegalArgumentException이 발생해야 합니다."
+        );
+    }
+
     /**
      * 테스트를 위한 상품 및 상품 이미지 데이터를 생성하고 저장하는 보조 메서드입니다.
      * 이 메서드는 상품명, 판매 상태, 수량 등의 정보를 받아 상품과 해당 상품의 이미지를 데이터베이스에 저장합니다.
@@ -87,9 +149,10 @@ class ItemServiceTest {
      * @param itemName 상품명입니다. 생성할 상품의 이름을 지정합니다.
      * @param sellStatus 상품의 판매 상태입니다. {@link ItemSellStatus}의 값 중 하나를 사용합니다.
      * @param quantity 상품의 수량입니다. 생성할 상품의 재고 수량을 지정합니다.
+     * @return 저장된 상품의 ID입니다.
      * @throws Exception 상품 정보 및 이미지 파일의 저장 과정에서 발생할 수 있는 예외를 처리합니다.
      */
-    private void createTestItemsWithImages(String itemName, ItemSellStatus sellStatus, int quantity) throws Exception {
+    private Long createTestItemsWithImages(String itemName, ItemSellStatus sellStatus, int quantity) throws Exception {
         ItemFormDto itemFormDto = new ItemFormDto();
         itemFormDto.setItemNm(itemName);
         itemFormDto.setItemDetail(itemName + " 상세 설명");
@@ -100,7 +163,7 @@ class ItemServiceTest {
         List<MultipartFile> itemImgFileList = new ArrayList<>();
         itemImgFileList.add(new MockMultipartFile("file", "test.jpg", "image/jpeg", "test image content".getBytes()));
 
-        itemService.saveItem(itemFormDto, itemImgFileList);
+        return itemService.saveItem(itemFormDto, itemImgFileList);
     }
 
     @Test
@@ -203,4 +266,59 @@ class ItemServiceTest {
         assertEquals(itemFormDto.getStockNumber(), item.getStockNumber());
         assertEquals(multipartFileList.get(0).getOriginalFilename(), itemImgList.get(0).getOriImgName());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상품 등록 시 상품 목록 읽기 모델이 상세 설명 발췌와 대표 이미지 URL로 생성되어야 한다")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void givenItemInfoAndImg_whenRegisteringItem_thenCatalogEntryShouldBeCreated() throws Exception {
+        // Given
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setItemNm("읽기 모델 상품");
+        itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+        itemFormDto.setItemDetail("가".repeat(Item.SUMMARY_LENGTH + 50));
+        itemFormDto.setPrice(1000);
+        itemFormDto.setStockNumber(100);
+
+        // When
+        Long itemId = itemService.saveItem(itemFormDto, createMultipartFiles());
+
+        // Then
+        CatalogEntry catalogEntry = catalogEntryRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
+        ItemImg repImg = itemImgRepository.findByItemIdOrderByIdAsc(itemId).get(0);
+        assertAll(
+                () -> assertEquals(itemFormDto.getItemNm(), catalogEntry.getItemNm()),
+                () -> assertEquals("가".repeat(Item.SUMMARY_LENGTH), catalogEntry.getItemSnippet(),
+                        "상세 설명은 발췌 길이만큼만 저장되어야 합니다."),
+                () -> assertEquals(itemFormDto.getPrice(), catalogEntry.getPrice()),
+                () -> assertEquals(ItemSellStatus.SELL, catalogEntry.getItemSellStatus()),
+                () -> assertEquals(repImg.getImgUrl(), catalogEntry.getImgUrl(), "대표 이미지 URL이 저장되어야 합니다."),
+                () -> assertNotNull(catalogEntry.getRegTime())
+        );
+    }
+
+    @Test
+    @DisplayName("상품 등록이 참여한 바깥 트랜잭션이 롤백되면 저장한 이미지 파일을 삭제해야 한다")
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void givenOuterTransaction_whenRolledBack_thenSavedImageFilesShouldBeDeleted() throws Exception {
+        // Given: 테스트 트랜잭션 안에서 상품을 등록
+        Files.createDirectories(Path.of(itemImgLocation));
+        ItemFormDto itemFormDto = new ItemFormDto();
+        itemFormDto.setItemNm("롤백 상품");
+        itemFormDto.setItemSellStatus(ItemSellStatus.SELL);
+        itemFormDto.setItemDetail("롤백 상품입니다.");
+        itemFormDto.setPrice(1000);
+        itemFormDto.setStockNumber(100);
+        Long itemId = itemService.saveItem(itemFormDto, createMultipartFiles());
+        List<Path> savedFiles = itemImgRepository.findByItemIdOrderByIdAsc(itemId).stream()
+                .map(itemImg -> Path.of(itemImgLocation, itemImg.getImgName()))
+                .toList();
+        assertTrue(savedFiles.stream().allMatch(Files::exists), "커밋 전에는 이미지 파일이 있어야 합니다.");
+
+        // When: 상품 등록이 참여한 테스트 트랜잭션을 롤백
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        // Then
+        assertTrue(savedFiles.stream().noneMatch(Files::exists), "롤백된 상품의 이미지 파일이 남아 있으면 안 됩니다.");
+    }
+}
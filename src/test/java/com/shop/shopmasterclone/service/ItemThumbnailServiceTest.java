@@ -0,0 +1,172 @@
+package com.shop.shopmasterclone.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link ItemThumbnailService}의 크기별 썸네일 생성, 썸네일 URL 선택, 삭제 동작을 검증하는 테스트 클래스입니다.
+ * 원본 이미지는 임시 디렉토리에 ImageIO로 만들어 저장합니다.
+ */
+class ItemThumbnailServiceTest {
+
+    private Path tempDir;
+    private ItemThumbnailService itemThumbnailService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("item_thumbnail_test");
+        itemThumbnailService = new ItemThumbnailService(tempDir.toString(), true, "card:400,order:150", 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        itemThumbnailService.shutdown();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private void createImage(String imgName, int width, int height, String format) throws IOException {
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, tempDir.resolve(imgName).toFile());
+    }
+
+    @Test
+    @DisplayName("썸네일이 만들어지기 전에는 원본 URL을, 만들어진 뒤에는 썸네일 URL을 반환해야 한다")
+    void givenImage_whenGeneratingThumbnails_thenVariantUrlShouldSwitchToThumbnail() throws IOException {
+        // Given
+        createImage("photo.jpg", 1600, 800, "jpg");
+
+        // When
+        String before = itemThumbnailService.variantUrl("/images/item/photo.jpg", ItemThumbnailService.CARD);
+        itemThumbnailService.generate("photo.jpg");
+        String after = itemThumbnailService.variantUrl("/images/item/photo.jpg", ItemThumbnailService.CARD);
+
+        // Then
+        BufferedImage card = ImageIO.read(tempDir.resolve("photo_card.jpg").toFile());
+        BufferedImage order = ImageIO.read(tempDir.resolve("photo_order.jpg").toFile());
+        assertAll(
+                () -> assertEquals("/images/item/photo.jpg", before),
+                () -> assertEquals("/images/item/photo_card.jpg", after),
+                () -> assertEquals(400, card.getWidth()),
+                () -> assertEquals(200, card.getHeight(), "가로세로 비율이 유지되어야 합니다."),
+                () -> assertEquals(150, order.getWidth())
+        );
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 썸네일은 만들지 않고 원본 크기를 유지해야 한다")
+    void givenSmallImage_whenGeneratingThumbnails_thenShouldNotUpscale() throws IOException {
+        // Given
+        createImage("small.png", 120, 60, "png");
+
+        // When
+        itemThumbnailService.generate("small.png");
+
+        // Then
+        BufferedImage card = ImageIO.read(tempDir.resolve("small_card.png").toFile());
+        assertAll(
+                () -> assertEquals(120, card.getWidth()),
+                () -> assertEquals(60, card.getHeight())
+        );
+    }
+
+    @Test
+    @DisplayName("이미지가 아니거나 설정되지 않은 크기 이름이면 원본 URL을 그대로 반환해야 한다")
+    void givenUnreadableFileOrUnknownVariant_whenResolving_thenShouldFallBackToOriginal() throws IOException {
+        // Given
+        Files.writeString(tempDir.resolve("broken.jpg"), "not an image");
+        createImage("photo.jpg", 800, 800, "jpg");
+        itemThumbnailService.generate("photo.jpg");
+
+        // When
+        itemThumbnailService.generate("broken.jpg");
+
+        // Then
+        assertAll(
+                () -> assertEquals("/images/item/broken.jpg", itemThumbnailService.variantUrl("/images/item/broken.jpg", ItemThumbnailService.CARD)),
+                () -> assertEquals("/images/item/photo.jpg", itemThumbnailService.variantUrl("/images/item/photo.jpg", ItemThumbnailService.DETAIL)),
+                () -> assertNull(itemThumbnailService.variantUrl(null, ItemThumbnailService.CARD))
+        );
+    }
+
+    @Test
+    @DisplayName("비동기로 요청한 썸네일이 만들어지면 썸네일 URL을 반환해야 한다")
+    void givenImage_whenGeneratingAsync_thenThumbnailShouldBecomeAvailable() throws Exception {
+        // Given
+        createImage("async.jpg", 1000, 1000, "jpg");
+
+        // When
+        itemThumbnailService.generateAsync("async.jpg");
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (itemThumbnailService.variantUrl("/images/item/async.jpg", ItemThumbnailService.ORDER).equals("/images/item/async.jpg")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals("/images/item/async_order.jpg", itemThumbnailService.variantUrl("/images/item/async.jpg", ItemThumbnailService.ORDER));
+    }
+
+    @Test
+    @DisplayName("원본 이미지의 썸네일을 모두 삭제해야 한다")
+    void givenThumbnails_whenDeleting_thenAllVariantsShouldBeRemoved() throws IOException {
+        // Given
+        createImage("photo.jpg", 800, 600, "jpg");
+        itemThumbnailService.generate("photo.jpg");
+
+        // When
+        itemThumbnailService.delete("photo.jpg");
+
+        // Then
+        assertAll(
+                () -> assertFalse(Files.exists(tempDir.resolve("photo_card.jpg"))),
+                () -> assertFalse(Files.exists(tempDir.resolve("photo_order.jpg"))),
+                () -> assertTrue(Files.exists(tempDir.resolve("photo.jpg")), "원본 이미지는 삭제되지 않아야 합니다."),
+                () -> assertEquals("/images/item/photo.jpg", itemThumbnailService.variantUrl("/images/item/photo.jpg", ItemThumbnailService.CARD),
+                        "삭제된 썸네일의 URL은 반환하지 않아야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("파일 시스템을 확인하지 않고, 시작 시 디렉토리에서 읽은 썸네일과 새로 만든 썸네일만 사용해야 한다")
+    void givenThumbnailFiles_whenResolving_thenShouldUseRecordedThumbnailsOnly() throws IOException {
+        // Given: 이전 실행에서 만들어진 썸네일과, 기록된 뒤 외부에서 추가된 썸네일 파일
+        createImage("old.jpg", 800, 800, "jpg");
+        createImage("old_card.jpg", 400, 400, "jpg");
+        itemThumbnailService.loadThumbnailNames();
+        createImage("late.jpg", 800, 800, "jpg");
+        createImage("late_card.jpg", 400, 400, "jpg");
+
+        // When
+        String old = itemThumbnailService.variantUrl("/images/item/old.jpg", ItemThumbnailService.CARD);
+        String late = itemThumbnailService.variantUrl("/images/item/late.jpg", ItemThumbnailService.CARD);
+
+        // Then
+        assertAll(
+                () -> assertEquals("/images/item/old_card.jpg", old, "시작 시 디렉토리에 있던 썸네일은 사용되어야 합니다."),
+                () -> assertEquals("/images/item/late.jpg", late, "기록되지 않은 썸네일 파일은 확인하지 않아야 합니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("썸네일 크기 설정 형식이 올바르지 않으면 예외가 발생해야 한다")
+    void givenInvalidSizes_whenCreating_thenShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ItemThumbnailService(tempDir.toString(), true, "card", 1, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ItemThumbnailService(tempDir.toString(), true, "card:0", 1, 10));
+    }
+}
@@ -0,0 +1,169 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.dto.ItemSearchDto;
+import com.shop.shopmasterclone.dto.MainItemDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link MainItemPageCache}의 재사용, 백그라운드 갱신, 무효화 동작을 검증하는 테스트 클래스입니다.
+ * 상품 목록 조회는 호출될 때마다 상품 ID가 1씩 증가하는 상품 하나를 담은 페이지를 반환하는 함수로 대체합니다.
+ */
+class MainItemPageCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Pageable pageable = PageRequest.of(0, 6);
+    private MainItemPageCache mainItemPageCache;
+
+    private final Supplier<Page<MainItemDto>> loader = () -> {
+        long itemId = loadCount.incrementAndGet();
+        return new PageImpl<>(List.of(new MainItemDto(itemId, "상품 " + itemId, "상세 설명", "/images/item/" + itemId + ".jpg", 10000)));
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (mainItemPageCache != null) {
+            mainItemPageCache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("유효 시간 안에는 같은 검색 조건의 상품 목록을 다시 조회하지 않아야 한다")
+    void givenFreshEntry_whenGettingSamePage_thenShouldNotLoadAgain() {
+        // Given
+        mainItemPageCache = new MainItemPageCache(meterRegistry, true, 10, 60_000, 60_000);
+
+        // When
+        Page<MainItemDto> first = mainItemPageCache.get(new ItemSearchDto(), pageable, loader);
+        ItemSearchDto emptyQuery = new ItemSearchDto();
+        emptyQuery.setSearchQuery("");
+        Page<MainItemDto> second = mainItemPageCache.get(emptyQuery, pageable, loader);
+
+        // Then
+        assertAll(
+                () -> assertSame(first, second, "검색어가 없는 경우와 빈 검색어는 같은 항목을 사용해야 합니다."),
+                () -> assertEquals(1, loadCount.get()),
+                () -> assertEquals(1, meterRegistry.get("main.page.cache.hits").counter().count())
+        );
+    }
+
+    @Test
+    @DisplayName("상품이 변경되면 이전 목록을 즉시 반환하고 백그라운드에서 새 목록으로 갱신해야 한다")
+    void givenItemChanged_whenGettingPage_thenShouldServeStaleAndRefreshInBackground() throws InterruptedException {
+        // Given
+        mainItemPageCache = new MainItemPageCache(meterRegistry, true, 10, 60_000, 60_000);
+        mainItemPageCache.get(new ItemSearchDto(), pageable, loader);
+        mainItemPageCache.onItemChanged(new ItemChangedEvent(1L));
+
+        CountDownLatch refreshed = new CountDownLatch(1);
+        Supplier<Page<MainItemDto>> countingLoader = () -> {
+            Page<MainItemDto> page = loader.get();
+            refreshed.countDown();
+            return page;
+        };
+
+        // When
+        Page<MainItemDto> stale = mainItemPageCache.get(new ItemSearchDto(), pageable, countingLoader);
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS), "백그라운드에서 상품 목록이 갱신되어야 합니다.");
+        Page<MainItemDto> fresh = waitForItemId(2L);
+
+        // Then
+        assertAll(
+                () -> assertEquals(1L, stale.getContent().get(0).getId(), "갱신을 기다리지 않고 이전 목록을 반환해야 합니다."),
+                () -> assertEquals(2L, fresh.getContent().get(0).getId(), "갱신된 목록이 반환되어야 합니다."),
+                () -> assertEquals(2, loadCount.get(), "갱신은 한 번만 실행되어야 합니다."),
+                () -> assertTrue(meterRegistry.get("main.page.cache.stale.hits").counter().count() >= 1)
+        );
+    }
+
+    @Test
+    @DisplayName("캐시를 사용하지 않도록 설정하면 매번 상품 목록을 조회해야 한다")
+    void givenDisabled_whenGettingPage_thenShouldAlwaysLoad() {
+        // Given
+        mainItemPageCache = new MainItemPageCache(meterRegistry, false, 10, 60_000, 60_000);
+
+        // When
+        mainItemPageCache.get(new ItemSearchDto(), pageable, loader);
+        mainItemPageCache.get(new ItemSearchDto(), pageable, loader);
+
+        // Then
+        assertEquals(2, loadCount.get());
+        assertEquals(0, mainItemPageCache.size());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 같은 목록을 동시에 조회하면 로더는 한 번만 실행되어야 한다")
+    void givenConcurrentMisses_whenGettingSamePage_thenShouldLoadOnce() throws Exception {
+        // Given
+        mainItemPageCache = new MainItemPageCache(meterRegistry, true, 10, 60_000, 60_000);
+        int threadCount = 8;
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        Supplier<Page<MainItemDto>> slowLoader = () -> {
+            loaderStarted.countDown();
+            try {
+                releaseLoader.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader.get();
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        List<Future<Page<MainItemDto>>> futures = new ArrayList<>();
+        futures.add(executorService.submit(() -> mainItemPageCache.get(new ItemSearchDto(), pageable, slowLoader)));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> mainItemPageCache.get(new ItemSearchDto(), pageable, slowLoader)));
+        }
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        List<Page<MainItemDto>> results = new ArrayList<>();
+        for (Future<Page<MainItemDto>> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // Then
+        assertAll(
+                () -> assertEquals(1, loadCount.get()),
+                () -> assertTrue(results.stream().allMatch(result -> result == results.get(0)),
+                        "모든 요청이 같은 목록을 받아야 합니다."),
+                () -> assertEquals(threadCount - 1, meterRegistry.get("main.page.cache.coalesced").counter().count())
+        );
+    }
+
+    private Page<MainItemDto> waitForItemId(Long itemId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Page<MainItemDto> page;
+        do {
+            page = mainItemPageCache.get(new ItemSearchDto(), pageable, loader);
+            if (itemId.equals(page.getContent().get(0).getId())) {
+                return page;
+            }
+            Thread.sleep(10);
+        } while (System.nanoTime() < deadline);
+        return page;
+    }
+}
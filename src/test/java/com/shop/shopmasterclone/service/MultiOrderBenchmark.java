@@ -0,0 +1,109 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 20개 상품의 장바구니를 주문할 때, 단건 주문 20번과 여러 상품 주문 1번의 소요 시간을 비교하는 벤치마크입니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class MultiOrderBenchmark {
+
+    private static final String EMAIL = "multi-order-benchmark@example.com";
+    private static final int LINES = 20;
+    private static final int ROUNDS = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final List<OrderDto> cart = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MemberFormDto memberFormDto = new MemberFormDto();
+        memberFormDto.setName("벤치마크");
+        memberFormDto.setEmail(EMAIL);
+        memberFormDto.setPassword("testPassword");
+        memberFormDto.setAddress("testAddress");
+        memberRepository.save(Member.createMember(memberFormDto, new BCryptPasswordEncoder(4)));
+
+        for(int i = 0; i < LINES; i++){
+            Item item = new Item();
+            item.setItemNm("벤치마크 상품" + i);
+            item.setPrice(10000);
+            item.setItemDetail("벤치마크 상품 상세 설명");
+            item.setItemSellStatus(ItemSellStatus.SELL);
+            item.setStockNumber(ROUNDS * 10);
+            OrderDto orderDto = new OrderDto();
+            orderDto.setItemId(itemRepository.save(item).getId());
+            orderDto.setCount(1);
+            cart.add(orderDto);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        itemRepository.deleteAll();
+        memberRepository.delete(memberRepository.findByEmail(EMAIL));
+    }
+
+    @Test
+    @DisplayName("단건 주문 N번과 여러 상품 주문 1번의 소요 시간 비교")
+    void compareSingleOrdersWithMultiOrder() {
+        // 워밍업
+        for(int i = 0; i < ROUNDS / 4; i++){
+            orderSingly();
+            orderService.orders(cart, EMAIL);
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < ROUNDS; i++){
+            orderSingly();
+        }
+        double singleMillis = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+
+        start = System.nanoTime();
+        for(int i = 0; i < ROUNDS; i++){
+            orderService.orders(cart, EMAIL);
+        }
+        double multiMillis = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+
+        System.out.printf("%d lines x single order : %8.3f ms/cart%n", LINES, singleMillis);
+        System.out.printf("%d lines x multi order  : %8.3f ms/cart%n", LINES, multiMillis);
+    }
+
+    private void orderSingly(){
+        for(OrderDto orderDto : cart){
+            orderService.order(orderDto, EMAIL);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderHistDto;
+import com.shop.shopmasterclone.dto.OrderItemDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.ItemImg;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.entity.Order;
+import com.shop.shopmasterclone.entity.OrderItem;
+import com.shop.shopmasterclone.repository.ItemImgRepository;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 주문 내역 한 페이지를 만들 때, 엔티티를 로딩하여 DTO로 복사하는 방식과 QueryDSL 프로젝션 방식의
+ * 페이지당 소요 시간과 힙 할당량을 비교하는 벤치마크입니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class OrderHistoryBenchmark {
+
+    private static final String EMAIL = "order-history-benchmark@example.com";
+    private static final int ORDERS = 40;
+    private static final int LINES = 10;
+    private static final int ROUNDS = 2000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemImgRepository itemImgRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        MemberFormDto memberFormDto = new MemberFormDto();
+        memberFormDto.setName("벤치마크");
+        memberFormDto.setEmail(EMAIL);
+        memberFormDto.setPassword("testPassword");
+        memberFormDto.setAddress("testAddress");
+        Member member = memberRepository.save(Member.createMember(memberFormDto, new BCryptPasswordEncoder(4)));
+
+        List<Item> items = new ArrayList<>();
+        for(int i = 0; i < LINES; i++){
+            Item item = new Item();
+            item.setItemNm("벤치마크 상품" + i);
+            item.setPrice(10000);
+            item.setItemDetail("상세 설명 ".repeat(500));
+            item.setItemSellStatus(ItemSellStatus.SELL);
+            item.setStockNumber(100);
+            items.add(itemRepository.save(item));
+
+            ItemImg itemImg = new ItemImg();
+            itemImg.setItem(item);
+            itemImg.setRepimgYn("Y");
+            itemImg.setImgUrl("/images/item/benchmark" + i + ".jpg");
+            itemImgRepository.save(itemImg);
+        }
+
+        for(int i = 0; i < ORDERS; i++){
+            List<OrderItem> orderItemList = new ArrayList<>();
+            for(Item item : items){
+                orderItemList.add(OrderItem.createStockReservedOrderItem(item, 1));
+            }
+            orderRepository.save(Order.createOrder(member, orderItemList));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        itemImgRepository.deleteAll();
+        itemRepository.deleteAll();
+        memberRepository.delete(memberRepository.findByEmail(EMAIL));
+    }
+
+    @Test
+    @DisplayName("엔티티 로딩 방식과 프로젝션 방식의 주문 내역 페이지 조회 비교")
+    void compareEntityHydrationWithProjection() {
+        Pageable pageable = PageRequest.of(0, 4);
+
+        report("entity hydration", () -> loadWithEntities(pageable));
+        report("dto projection  ", () -> orderService.getOrderList(EMAIL, pageable).getContent());
+    }
+
+    private void report(String name, Supplier<List<OrderHistDto>> page) {
+        for(int i = 0; i < ROUNDS / 4; i++){
+            readOnlyTransaction.execute(status -> page.get());
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for(int i = 0; i < ROUNDS; i++){
+            readOnlyTransaction.execute(status -> page.get());
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / ROUNDS;
+        double kilobytes = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / 1024.0 / ROUNDS;
+
+        System.out.printf("%s : %10.1f us/page %10.1f KB/page%n", name, micros, kilobytes);
+    }
+
+    /**
+     * 프로젝션 도입 전의 조회 방식입니다. 주문, 주문 항목, 상품 엔티티를 영속성 컨텍스트에 올린 뒤 DTO로 복사합니다.
+     * 운영 코드에서는 더 이상 사용하지 않으므로 비교용 쿼리를 이 벤치마크 안에 둡니다.
+     */
+    private List<OrderHistDto> loadWithEntities(Pageable pageable) {
+        List<Order> orders = entityManager.createQuery(
+                        "select o from Order o where o.member.email = :email order by o.orderDate desc, o.id desc", Order.class)
+                .setParameter("email", EMAIL)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        orderRepository.countOrder(EMAIL);
+
+        List<OrderHistDto> orderHistDtos = new ArrayList<>();
+        Map<Long, OrderHistDto> orderHistDtoMap = new HashMap<>();
+        for(Order order : orders){
+            OrderHistDto orderHistDto = new OrderHistDto(order);
+            orderHistDtoMap.put(order.getId(), orderHistDto);
+            orderHistDtos.add(orderHistDto);
+        }
+
+        List<OrderItem> orderItems = entityManager.createQuery(
+                        "select oi from OrderItem oi join fetch oi.item where oi.order.id in :orderIds order by oi.id", OrderItem.class)
+                .setParameter("orderIds", orderHistDtoMap.keySet())
+                .getResultList();
+        Set<Long> itemIds = new HashSet<>();
+        for(OrderItem orderItem : orderItems){
+            itemIds.add(orderItem.getItem().getId());
+        }
+        Map<Long, String> repImgUrlMap = new HashMap<>();
+        for(Object[] row : itemImgRepository.findRepImgUrlsByItemIdIn(itemIds)){
+            repImgUrlMap.put((Long) row[0], (String) row[1]);
+        }
+
+        for(OrderItem orderItem : orderItems){
+            OrderItemDto orderItemDto = new OrderItemDto(orderItem, repImgUrlMap.get(orderItem.getItem().getId()));
+            orderHistDtoMap.get(orderItem.getOrder().getId()).addOrderItemDto(orderItemDto);
+        }
+        return orderHistDtos;
+    }
+}
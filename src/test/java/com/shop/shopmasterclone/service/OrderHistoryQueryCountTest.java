@@ -0,0 +1,163 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderHistDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.ItemImg;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.entity.Order;
+import com.shop.shopmasterclone.entity.OrderItem;
+import com.shop.shopmasterclone.repository.ItemImgRepository;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link OrderService#getOrderList}가 주문 항목 수와 관계없이 일정한 수의 쿼리로 주문 내역을 만드는지 검증하는 테스트 클래스입니다.
+ * Hibernate 통계를 활성화하여 실행된 SQL 문의 수를 측정합니다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(
+        locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+class OrderHistoryQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemImgRepository itemImgRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 주문 항목 수가 달라도 주문 내역 조회 쿼리 수가 같은지 검증합니다.
+     *
+     * <p>Given: 주문 항목이 1개인 주문 4건을 가진 회원과, 주문 항목이 10개인 주문 4건을 가진 회원이 주어졌을 때,
+     * <p>When: 각 회원의 주문 내역 첫 페이지를 조회하면,
+     * <p>Then: 두 조회에서 실행된 SQL 문의 수가 같아야 하며, 모든 주문 항목에 대표 이미지 URL이 채워져야 한다.
+     */
+    @Test
+    @DisplayName("주문 내역 조회 쿼리 수는 주문 항목 수와 관계없이 일정해야 한다")
+    void givenOrdersWithManyLines_whenGettingOrderList_thenStatementCountShouldBeConstant() {
+        // Given
+        createOrders("single-line@example.com", 4, 1);
+        createOrders("multi-line@example.com", 4, 10);
+        em.flush();
+        em.clear();
+
+        // When
+        long singleLineStatements = countStatements("single-line@example.com", 4);
+        long multiLineStatements = countStatements("multi-line@example.com", 40);
+
+        // Then
+        assertEquals(singleLineStatements, multiLineStatements,
+                "주문 항목 수가 늘어나도 실행되는 SQL 문의 수는 같아야 합니다.");
+        assertTrue(multiLineStatements <= 4,
+                "주문 ID, 주문 개수, 주문 내역 프로젝션, 대표 이미지 조회 외의 쿼리가 실행되면 안 됩니다. 실행된 쿼리 수: " + multiLineStatements);
+    }
+
+    @Test
+    @DisplayName("주문 항목이 없는 주문도 빈 주문 항목 목록으로 주문 내역에 포함되어야 한다")
+    void givenOrdersWithoutLines_whenGettingOrderList_thenOrdersShouldBeIncluded() {
+        // Given
+        createOrders("no-line@example.com", 2, 0);
+        em.flush();
+        em.clear();
+
+        // When
+        Page<OrderHistDto> page = orderService.getOrderList("no-line@example.com", PageRequest.of(0, 4));
+
+        // Then
+        assertEquals(2, page.getContent().size(), "주문 항목이 없는 주문도 조회되어야 합니다.");
+        assertTrue(page.getContent().stream().allMatch(dto -> dto.getOrderItemDtoList().isEmpty()));
+    }
+
+    private long countStatements(String email, int expectedLines) {
+        statistics.clear();
+        Page<OrderHistDto> page = orderService.getOrderList(email, PageRequest.of(0, 4));
+        long statements = statistics.getPrepareStatementCount();
+
+        int lines = page.getContent().stream().mapToInt(dto -> dto.getOrderItemDtoList().size()).sum();
+        assertEquals(expectedLines, lines, "페이지의 모든 주문 항목이 조회되어야 합니다.");
+        assertTrue(page.getContent().stream()
+                        .flatMap(dto -> dto.getOrderItemDtoList().stream())
+                        .allMatch(orderItemDto -> orderItemDto.getImgUrl() != null),
+                "모든 주문 항목에 대표 이미지 URL이 있어야 합니다.");
+        em.clear();
+        return statements;
+    }
+
+    private void createOrders(String email, int orderCount, int lineCount) {
+        MemberFormDto memberFormDto = new MemberFormDto();
+        memberFormDto.setName("주문 내역 테스트");
+        memberFormDto.setEmail(email);
+        memberFormDto.setPassword("testPassword");
+        memberFormDto.setAddress("testAddress");
+        Member member = memberRepository.save(Member.createMember(memberFormDto, new BCryptPasswordEncoder(4)));
+
+        for(int i = 0; i < orderCount; i++){
+            List<OrderItem> orderItemList = new ArrayList<>();
+            for(int j = 0; j < lineCount; j++){
+                orderItemList.add(OrderItem.createStockReservedOrderItem(createItem("상품" + j), 1));
+            }
+            orderRepository.save(Order.createOrder(member, orderItemList));
+        }
+    }
+
+    private Item createItem(String itemName) {
+        Item item = new Item();
+        item.setItemNm(itemName);
+        item.setPrice(10000);
+        item.setItemDetail(itemName + " 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(100);
+        itemRepository.save(item);
+
+        ItemImg itemImg = new ItemImg();
+        itemImg.setItem(item);
+        itemImg.setRepimgYn("Y");
+        itemImg.setImgUrl("/images/item/" + itemName + ".jpg");
+        itemImgRepository.save(itemImg);
+        return item;
+    }
+}
@@ -0,0 +1,171 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.exception.OutofStockException;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link OrderIntakeService}의 묶음 커밋 동작을 검증하는 테스트 클래스입니다.
+ * 주문은 별도의 접수 스레드에서 커밋되므로 클래스에 {@code @Transactional}을 붙이지 않고,
+ * 테스트가 끝나면 생성한 데이터를 직접 정리합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class OrderIntakeServiceTest {
+
+    private static final String EMAIL = "intake@example.com";
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        MemberFormDto memberFormDto = new MemberFormDto();
+        memberFormDto.setName("주문 접수 테스트");
+        memberFormDto.setEmail(EMAIL);
+        memberFormDto.setPassword("testPassword");
+        memberFormDto.setAddress("testAddress");
+        memberRepository.save(Member.createMember(memberFormDto, new BCryptPasswordEncoder(4)));
+
+        Item item = new Item();
+        item.setItemNm("주문 접수 상품");
+        item.setPrice(10000);
+        item.setItemDetail("주문 접수 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(60);
+        itemId = itemRepository.save(item).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        itemRepository.deleteById(itemId);
+        memberRepository.delete(memberRepository.findByEmail(EMAIL));
+    }
+
+    /**
+     * 재고보다 많은 주문이 한꺼번에 접수되었을 때, 묶음 안에서 실패한 주문이 다른 주문에 영향을 주지 않는지 검증합니다.
+     *
+     * <p>Given: 재고가 60개인 상품이 주어졌을 때,
+     * <p>When: 1개씩 100건의 주문을 접수하면,
+     * <p>Then: 60건은 서로 다른 주문 ID로, 40건은 OutofStockException으로 완료되고, 최종 재고는 0이어야 한다.
+     */
+    @Test
+    @DisplayName("묶음으로 접수된 주문은 각자의 주문 ID 또는 재고 부족 예외를 받아야 한다")
+    void givenMoreOrdersThanStock_whenSubmitting_thenEachCallerShouldGetOwnResult() throws Exception {
+        // Given
+        int orderCount = 100;
+        double recordedBefore = meterRegistry.get("order.intake.batch.size").summary().totalAmount();
+
+        // When
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for(int i = 0; i < orderCount; i++){
+            OrderDto orderDto = new OrderDto();
+            orderDto.setItemId(itemId);
+            orderDto.setCount(1);
+            futures.add(orderIntakeService.submit(orderDto, EMAIL));
+        }
+
+        Set<Long> orderIds = new HashSet<>();
+        int outOfStockCount = 0;
+        for(CompletableFuture<Long> future : futures){
+            try {
+                orderIds.add(future.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e){
+                assertInstanceOf(OutofStockException.class, e.getCause(), "재고 부족 외의 이유로 주문이 실패하면 안 됩니다.");
+                outOfStockCount++;
+            }
+        }
+
+        // Then
+        Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
+        double recorded = meterRegistry.get("order.intake.batch.size").summary().totalAmount() - recordedBefore;
+        int failedCount = outOfStockCount;
+
+        assertAll(
+                () -> assertEquals(60, orderIds.size(), "재고 수량만큼의 주문이 서로 다른 주문 ID로 완료되어야 합니다."),
+                () -> assertEquals(40, failedCount, "재고를 초과한 주문은 OutofStockException으로 완료되어야 합니다."),
+                () -> assertEquals(0, item.getStockNumber(), "최종 재고는 0이어야 합니다."),
+                () -> assertEquals(60, orderRepository.count(), "성공한 주문만 저장되어야 합니다."),
+                () -> assertEquals(orderCount, recorded, "접수된 모든 주문이 묶음 크기 지표에 기록되어야 합니다.")
+        );
+    }
+
+    /**
+     * 같은 상품의 주문 수량 합계가 재고를 넘을 때, 합산 차감이 실패한 상품의 주문이 주문별 차감으로 다시 처리되는지 검증합니다.
+     *
+     * <p>Given: 재고가 60개인 상품이 주어졌을 때,
+     * <p>When: 4개씩 20건의 주문을 접수하면,
+     * <p>Then: 15건은 성공하고 5건은 OutofStockException으로 완료되며, 최종 재고는 0이어야 한다.
+     */
+    @Test
+    @DisplayName("같은 상품의 주문 수량 합계가 재고를 넘으면 재고가 허락하는 주문까지만 성공해야 한다")
+    void givenOrdersExceedingStockInTotal_whenSubmitting_thenOnlyOrdersWithinStockShouldSucceed() throws Exception {
+        // When
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for(int i = 0; i < 20; i++){
+            OrderDto orderDto = new OrderDto();
+            orderDto.setItemId(itemId);
+            orderDto.setCount(4);
+            futures.add(orderIntakeService.submit(orderDto, EMAIL));
+        }
+
+        int successCount = 0;
+        int outOfStockCount = 0;
+        for(CompletableFuture<Long> future : futures){
+            try {
+                future.get(30, TimeUnit.SECONDS);
+                successCount++;
+            } catch (ExecutionException e){
+                assertInstanceOf(OutofStockException.class, e.getCause(), "재고 부족 외의 이유로 주문이 실패하면 안 됩니다.");
+                outOfStockCount++;
+            }
+        }
+
+        // Then
+        Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
+        assertEquals(15, successCount);
+        assertEquals(5, outOfStockCount);
+        assertEquals(0, item.getStockNumber(), "최종 재고는 0이어야 합니다.");
+    }
+}
@@ -0,0 +1,148 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.entity.Order;
+import com.shop.shopmasterclone.entity.OrderItem;
+import com.shop.shopmasterclone.exception.OutofStockException;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderItemRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link OrderService#order}의 동시성 테스트 클래스입니다.
+ * 각 주문이 별도의 트랜잭션에서 커밋되어야 하므로 클래스에 {@code @Transactional}을 붙이지 않고,
+ * 테스트가 끝나면 생성한 데이터를 직접 정리합니다.
+ *
+ * <p>커밋된 데이터가 다른 테스트 클래스의 스프링 컨텍스트와 섞이지 않도록, 이 클래스만 사용하는 별도의 인메모리 데이터베이스에서 실행합니다.</p>
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "spring.datasource.url=jdbc:h2:mem:orderServiceConcurrencyTest")
+class OrderServiceConcurrencyTest {
+
+    private static final String EMAIL = "concurrency@example.com";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    private Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        MemberFormDto memberFormDto = new MemberFormDto();
+        memberFormDto.setName("동시성 테스트");
+        memberFormDto.setEmail(EMAIL);
+        memberFormDto.setPassword("testPassword");
+        memberFormDto.setAddress("testAddress");
+        memberRepository.save(Member.createMember(memberFormDto, new BCryptPasswordEncoder(4)));
+
+        Item item = new Item();
+        item.setItemNm("동시성 상품");
+        item.setPrice(10000);
+        item.setItemDetail("동시성 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(1000);
+        itemId = itemRepository.save(item).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Order> orders = orderRepository.findFirstOrders(EMAIL, Pageable.unpaged());
+        orderRepository.deleteAll(orders);
+        itemRepository.deleteById(itemId);
+        memberRepository.delete(memberRepository.findByEmail(EMAIL));
+    }
+
+    /**
+     * 재고보다 많은 주문이 동시에 들어왔을 때의 재고 정합성을 검증합니다.
+     *
+     * <p>Given: 재고가 1000개인 상품이 주어졌을 때,
+     * <p>When: 32개의 스레드에서 1개씩 2000건의 주문을 동시에 요청하면,
+     * <p>Then: 정확히 1000건만 성공하고 나머지는 OutofStockException으로 실패하며, 최종 재고는 0이어야 한다.
+     */
+    @Test
+    @DisplayName("동시 주문 시 재고가 정확히 차감되고 초과 주문은 거절되어야 한다")
+    void givenConcurrentOrders_whenOrderingSameItem_thenStockAndOrderCountShouldBeExact() throws Exception {
+        // Given
+        int orderCount = 2000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for(int i = 0; i < orderCount; i++){
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                OrderDto orderDto = new OrderDto();
+                orderDto.setItemId(itemId);
+                orderDto.setCount(1);
+                try {
+                    orderService.order(orderDto, EMAIL);
+                    successCount.incrementAndGet();
+                } catch (OutofStockException e){
+                    outOfStockCount.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for(Future<?> future : futures){
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // Then
+        Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
+        long orderedCount = orderItemRepository.findAll().stream()
+                .filter(orderItem -> orderItem.getItem().getId().equals(itemId))
+                .mapToInt(OrderItem::getCount)
+                .sum();
+
+        assertAll(
+                () -> assertEquals(1000, successCount.get(), "재고 수량만큼의 주문만 성공해야 합니다."),
+                () -> assertEquals(1000, outOfStockCount.get(), "재고를 초과한 주문은 모두 거절되어야 합니다."),
+                () -> assertEquals(0, item.getStockNumber(), "최종 재고는 0이어야 합니다."),
+                () -> assertEquals(1000, orderedCount, "저장된 주문 수량은 성공한 주문 수와 일치해야 합니다.")
+        );
+    }
+}
@@ -4,6 +4,7 @@ import com.shop.shopmasterclone.constant.ItemSellStatus;
 import com.shop.shopmasterclone.constant.OrderStatus;
 import com.shop.shopmasterclone.dto.ItemFormDto;
 import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderHistSliceDto;
 import com.shop.shopmasterclone.dto.OrderDto;
 import com.shop.shopmasterclone.entity.Item;
 import com.shop.shopmasterclone.entity.Member;
@@ -28,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -80,6 +82,26 @@ public class OrderServiceTest {
         assertEquals(10, item.getStockNumber(), "주문 취소 후 아이템의 재고 수량은 복구되어야 합니다.");
     }
 
+    @Test
+    @DisplayName("이미 취소된 주문을 다시 취소하면 거절되고 재고는 한 번만 복구되는지 검증")
+    public void shouldRejectCancellingAlreadyCancelledOrder() throws Exception{
+        // Given: 주문 후 한 번 취소된 주문
+        String email = "cancel-twice@example.com";
+        memberService.saveMember(createTestMember(email));
+        Long itemId = createTestItem("두 번 취소 아이템", 10);
+
+        OrderDto orderDto = new OrderDto();
+        orderDto.setCount(4);
+        orderDto.setItemId(itemId);
+        Long orderId = orderService.order(orderDto, email);
+        orderService.cancelOrder(orderId);
+
+        // When & Then: 같은 주문을 다시 취소하면 예외가 발생하고, 재고는 주문 전 수량으로 유지되어야 함
+        assertThrows(IllegalStateException.class, () -> orderService.cancelOrder(orderId));
+        assertEquals(10, itemRepository.findStockNumberById(itemId).orElseThrow(),
+                "재고는 한 번만 복구되어야 합니다.");
+    }
+
     private Member createTestMember(String email) {
         MemberFormDto memberFormDto = new MemberFormDto();
         memberFormDto.setName("테스트 멤버");
@@ -193,4 +215,142 @@ public class OrderServiceTest {
         );
     }
 
+    /**
+     * 여러 상품 주문 생성 테스트 - 모든 주문 항목이 하나의 주문으로 생성될 때.
+     *
+     * <p>Given: 재고가 충분한 여러 상품과 같은 상품이 두 번 포함된 주문 목록이 주어졌을 때,
+     * <p>When: 여러 상품 주문 요청이 들어오면,
+     * <p>Then: 하나의 주문에 모든 주문 항목이 포함되고, 각 상품의 재고가 합산된 수량만큼 감소해야 한다.
+     */
+    @Test
+    @DisplayName("여러 상품 주문 시 하나의 주문으로 생성되고 각 상품의 재고가 감소해야 한다")
+    void givenMultipleItems_whenOrdering_thenSingleOrderShouldContainAllLines() {
+        // Given
+        String email = "multi@example.com";
+        memberService.saveMember(createTestMember(email));
+        Long firstItemId = saveItem("첫 번째 상품", 10);
+        Long secondItemId = saveItem("두 번째 상품", 10);
+
+        List<OrderDto> orderDtoList = new ArrayList<>();
+        orderDtoList.add(createOrderDto(secondItemId, 1));
+        orderDtoList.add(createOrderDto(firstItemId, 1));
+        orderDtoList.add(createOrderDto(secondItemId, 1));
+
+        // When
+        Long orderId = orderService.orders(orderDtoList, email);
+
+        // Then
+        Order order = orderRepository.findById(orderId).orElseThrow(EntityNotFoundException::new);
+        Item firstItem = itemRepository.findById(firstItemId).orElseThrow(EntityNotFoundException::new);
+        Item secondItem = itemRepository.findById(secondItemId).orElseThrow(EntityNotFoundException::new);
+
+        assertAll(
+                () -> assertEquals(3, order.getOrderItems().size(), "주문 목록의 모든 항목이 주문에 포함되어야 합니다."),
+                () -> assertEquals(9, firstItem.getStockNumber(), "첫 번째 상품의 재고가 1개 감소해야 합니다."),
+                () -> assertEquals(8, secondItem.getStockNumber(), "두 번 주문한 상품의 재고는 합산된 수량만큼 감소해야 합니다.")
+        );
+    }
+
+    /**
+     * 여러 상품 주문 시 하나의 상품이라도 재고가 부족하면 예외가 발생하는지 테스트.
+     *
+     * <p>Given: 재고가 충분한 상품과 재고가 없는 상품이 함께 주문 목록에 포함된 상황,
+     * <p>When: 여러 상품 주문 요청을 하면,
+     * <p>Then: OutofStockException 예외가 발생해야 한다.
+     */
+    @Test
+    @DisplayName("여러 상품 주문 시 하나라도 재고가 부족하면 주문 생성 실패")
+    void givenOneItemOutOfStock_whenOrderingMultipleItems_thenShouldThrowOutofStockException() {
+        // Given
+        String email = "multi@example.com";
+        memberService.saveMember(createTestMember(email));
+        Long inStockItemId = saveItem("재고 있는 상품", 10);
+        Long soldOutItemId = saveItem("재고 없는 상품", 0);
+
+        List<OrderDto> orderDtoList = new ArrayList<>();
+        orderDtoList.add(createOrderDto(inStockItemId, 1));
+        orderDtoList.add(createOrderDto(soldOutItemId, 1));
+
+        // When & Then
+        assertThrows(OutofStockException.class,
+                () -> orderService.orders(orderDtoList, email),
+                "재고가 부족한 상품이 포함되면 OutofStockException이 발생해야 합니다."
+        );
+    }
+
+    /**
+     * 커서 기반 주문 내역 조회 테스트 - 모든 주문이 중복 없이 최신순으로 조회되는지 검증.
+     *
+     * <p>Given: 주문 5건을 가진 회원이 주어졌을 때,
+     * <p>When: 크기가 2인 페이지를 다음 페이지 커서로 끝까지 조회하면,
+     * <p>Then: 모든 주문이 중복 없이 최신순으로 조회되고, 마지막 페이지에는 다음 커서가 없어야 한다.
+     */
+    @Test
+    @DisplayName("커서 기반 주문 내역 조회 시 모든 주문이 중복 없이 최신순으로 조회되어야 한다")
+    void givenOrders_whenPagingWithCursor_thenAllOrdersShouldBeReturnedOnceInDescendingOrder() {
+        // Given
+        String email = "cursor@example.com";
+        memberService.saveMember(createTestMember(email));
+        Long itemId = saveItem("커서 상품", 10);
+        List<Long> orderIds = new ArrayList<>();
+        for(int i = 0; i < 5; i++){
+            orderIds.add(orderService.order(createOrderDto(itemId, 1), email));
+        }
+
+        // When
+        List<Long> pagedOrderIds = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            OrderHistSliceDto slice = orderService.getOrderSlice(email, cursor, 2);
+            slice.getOrderHistDtoList().forEach(orderHistDto -> pagedOrderIds.add(orderHistDto.getOrderId()));
+            pageSizes.add(slice.getOrderHistDtoList().size());
+            cursor = slice.getNextCursor();
+        } while(cursor != null);
+
+        // Then
+        List<Long> expectedOrderIds = new ArrayList<>(orderIds);
+        expectedOrderIds.sort(Comparator.comparing((Long orderId) -> orderRepository.findById(orderId).orElseThrow().getOrderDate())
+                .thenComparing(Comparator.naturalOrder())
+                .reversed());
+
+        assertAll(
+                () -> assertEquals(expectedOrderIds, pagedOrderIds, "모든 주문이 중복 없이 최신순으로 조회되어야 합니다."),
+                () -> assertEquals(List.of(2, 2, 1), pageSizes, "각 페이지는 요청한 크기만큼 조회되어야 합니다.")
+        );
+    }
+
+    /**
+     * 커서 기반 주문 내역 조회 시 올바르지 않은 커서가 전달되면 예외가 발생하는지 테스트.
+     *
+     * <p>Given: 형식이 올바르지 않은 커서가 주어졌을 때,
+     * <p>When: 주문 내역을 조회하면,
+     * <p>Then: IllegalArgumentException 예외가 발생해야 한다.
+     */
+    @Test
+    @DisplayName("올바르지 않은 커서로 주문 내역을 조회하면 예외가 발생해야 한다")
+    void givenInvalidCursor_whenGettingOrderSlice_thenShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.getOrderSlice("cursor@example.com", "not-a-cursor", 2),
+                "올바르지 않은 커서는 IllegalArgumentException이 발생해야 합니다."
+        );
+    }
+
+    private Long saveItem(String itemName, int stockNumber) {
+        Item item = new Item();
+        item.setItemNm(itemName);
+        item.setItemDetail(itemName + " 상세 설명");
+        item.setPrice(10000);
+        item.setStockNumber(stockNumber);
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        return itemRepository.save(item).getId();
+    }
+
+    private OrderDto createOrderDto(Long itemId, int count) {
+        OrderDto orderDto = new OrderDto();
+        orderDto.setItemId(itemId);
+        orderDto.setCount(count);
+        return orderDto;
+    }
+
 }
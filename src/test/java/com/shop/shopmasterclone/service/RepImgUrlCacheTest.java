@@ -0,0 +1,115 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.repository.ItemImgRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link RepImgUrlCache}의 일괄 적재, 적중, 제거, 무효화 동작을 검증하는 테스트 클래스입니다.
+ * 데이터베이스 없이 리포지토리를 모의 객체로 대체하여, 상품 ID마다 "/images/item/{상품 ID}.jpg"를 대표 이미지로 반환합니다.
+ */
+class RepImgUrlCacheTest {
+
+    private ItemImgRepository itemImgRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private RepImgUrlCache repImgUrlCache;
+
+    @BeforeEach
+    void setUp() {
+        itemImgRepository = mock(ItemImgRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        repImgUrlCache = new RepImgUrlCache(itemImgRepository, meterRegistry, 2);
+
+        when(itemImgRepository.findRepImgUrlsByItemIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> itemIds = invocation.getArgument(0);
+            List<Object[]> rows = new ArrayList<>();
+            for(Long itemId : itemIds){
+                if(itemId > 0){
+                    rows.add(new Object[]{itemId, "/images/item/" + itemId + ".jpg"});
+                }
+            }
+            return rows;
+        });
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 상품은 한 번에 조회하고, 이후 조회는 데이터베이스 없이 캐시에서 반환해야 한다")
+    void givenMissingItems_whenGettingTwice_thenShouldLoadOnceInBulk() {
+        // When
+        Map<Long, String> first = repImgUrlCache.getRepImgUrls(List.of(1L, -1L));
+        Map<Long, String> second = repImgUrlCache.getRepImgUrls(List.of(1L, -1L));
+
+        // Then
+        verify(itemImgRepository, times(1)).findRepImgUrlsByItemIdIn(anyCollection());
+        assertAll(
+                () -> assertEquals(Map.of(1L, "/images/item/1.jpg"), first, "대표 이미지가 있는 상품만 반환되어야 합니다."),
+                () -> assertEquals(first, second, "캐시에서 같은 결과가 반환되어야 합니다."),
+                () -> assertEquals(2, meterRegistry.get("rep.img.cache.misses").counter().count()),
+                () -> assertEquals(2, meterRegistry.get("rep.img.cache.hits").counter().count())
+        );
+    }
+
+    @Test
+    @DisplayName("캐시 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거되어야 한다")
+    void givenFullCache_whenLoadingNewItem_thenLeastRecentlyUsedShouldBeEvicted() {
+        // Given
+        repImgUrlCache.getRepImgUrl(1L);
+        repImgUrlCache.getRepImgUrl(2L);
+        repImgUrlCache.getRepImgUrl(1L);
+
+        // When
+        repImgUrlCache.getRepImgUrl(3L);
+        repImgUrlCache.getRepImgUrl(1L);
+
+        // Then
+        assertAll(
+                () -> assertEquals(2, repImgUrlCache.size(), "캐시 크기는 제한을 넘지 않아야 합니다."),
+                () -> assertEquals(1, meterRegistry.get("rep.img.cache.evictions").counter().count()),
+                () -> verify(itemImgRepository, times(3)).findRepImgUrlsByItemIdIn(anyCollection())
+        );
+    }
+
+    @Test
+    @DisplayName("무효화된 상품은 다음 조회 시 데이터베이스에서 다시 적재되어야 한다")
+    void givenCachedItem_whenInvalidated_thenShouldReload() {
+        // Given
+        repImgUrlCache.getRepImgUrl(1L);
+
+        // When
+        repImgUrlCache.invalidate(1L);
+        repImgUrlCache.getRepImgUrl(1L);
+
+        // Then
+        verify(itemImgRepository, times(2)).findRepImgUrlsByItemIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 무효화된 상품의 결과는 캐시에 들어가지 않아야 한다")
+    void givenInvalidationDuringLoad_whenLoadCompletes_thenStaleValueShouldNotBeCached() {
+        // Given
+        when(itemImgRepository.findRepImgUrlsByItemIdIn(anyCollection())).thenAnswer(invocation -> {
+            repImgUrlCache.invalidate(1L);
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1L, "/images/item/old.jpg"});
+            return rows;
+        });
+
+        // When
+        String loaded = repImgUrlCache.getRepImgUrl(1L);
+
+        // Then
+        assertEquals("/images/item/old.jpg", loaded, "조회한 요청에는 조회 결과가 반환되어야 합니다.");
+        assertEquals(0, repImgUrlCache.size(), "조회 중 무효화된 결과는 캐시에 남으면 안 됩니다.");
+    }
+}
@@ -0,0 +1,155 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.exception.OutofStockException;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.ItemStockShardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link StockLedger}의 예약, 거절, 반환, 대사 동작을 검증하는 테스트 클래스입니다.
+ * 데이터베이스 없이 리포지토리를 모의 객체로 대체하고, 트랜잭션 동기화를 직접 초기화하여 커밋과 롤백을 흉내 냅니다.
+ */
+class StockLedgerTest {
+
+    private ItemRepository itemRepository;
+    private ItemStockShardRepository itemStockShardRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private StockLedger stockLedger;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        itemStockShardRepository = mock(ItemStockShardRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        stockLedger = new StockLedger(itemRepository, itemStockShardRepository, meterRegistry, true, 60000);
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 3});
+        when(itemRepository.findUnshardedStockNumbers()).thenReturn(rows);
+        stockLedger.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("원장의 재고를 모두 예약하면 이후 예약은 데이터베이스 조회 없이 거절되어야 한다")
+    void givenLedgerStock_whenReservingBeyondStock_thenShouldRejectWithoutDatabase() {
+        // When
+        for(int i = 0; i < 3; i++){
+            stockLedger.reserve(1L, 1, () -> fail("원장에 있는 상품은 데이터베이스를 조회하지 않아야 합니다."));
+        }
+
+        // Then
+        assertThrows(OutofStockException.class, () -> stockLedger.reserve(1L, 1, () -> 0));
+        assertEquals(0, stockLedger.getAvailable(1L));
+        assertEquals(3.0, meterRegistry.counter("stock.ledger.reservations").count());
+        assertEquals(3.0, meterRegistry.counter("stock.ledger.confirmations").count());
+        assertEquals(1.0, meterRegistry.counter("stock.ledger.rejections").count());
+    }
+
+    @Test
+    @DisplayName("원장에서 거절된 예약은 데이터베이스 재고가 늘어 있으면 대사 후 예약되어야 한다")
+    void givenRestockedItem_whenLedgerRejects_thenShouldReconcileAndReserve() {
+        // Given: 재확인 간격 없이 거절마다 데이터베이스를 다시 읽는 원장에서, 재고를 모두 예약한 뒤 데이터베이스에서 재입고된 상품
+        StockLedger recheckingLedger = new StockLedger(itemRepository, itemStockShardRepository, meterRegistry, true, 0);
+        recheckingLedger.rebuild();
+        for(int i = 0; i < 3; i++){
+            recheckingLedger.reserve(1L, 1, () -> 0);
+        }
+
+        // When
+        recheckingLedger.reserve(1L, 2, () -> 5);
+
+        // Then
+        assertEquals(3, recheckingLedger.getAvailable(1L));
+        assertEquals(4.0, meterRegistry.counter("stock.ledger.reservations").count());
+        assertEquals(0.0, meterRegistry.counter("stock.ledger.rejections").count());
+        assertEquals(1.0, meterRegistry.counter("stock.ledger.drifts").count());
+    }
+
+    @Test
+    @DisplayName("재확인 간격이 지나지 않았으면 거절된 예약은 데이터베이스를 다시 읽지 않아야 한다")
+    void givenRecentlyVerifiedEntry_whenLedgerRejects_thenShouldNotReadDatabase() {
+        // When & Then: 재구성 직후의 원장은 재확인 간격 안에 있으므로 데이터베이스를 조회하지 않고 거절해야 함
+        assertThrows(OutofStockException.class,
+                () -> stockLedger.reserve(1L, 4, () -> fail("재확인 간격 안에서는 데이터베이스를 조회하지 않아야 합니다.")));
+        assertEquals(3, stockLedger.getAvailable(1L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 예약한 재고가 원장으로 반환되어야 한다")
+    void givenReservationInTransaction_whenRolledBack_thenStockShouldBeReturned() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        stockLedger.reserve(1L, 2, () -> 0);
+        assertEquals(1, stockLedger.getAvailable(1L));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertEquals(3, stockLedger.getAvailable(1L));
+        assertEquals(1.0, meterRegistry.counter("stock.ledger.releases").count());
+    }
+
+    @Test
+    @DisplayName("원장에 없는 상품은 처음 예약할 때 데이터베이스 재고로 채워져야 한다")
+    void givenUnknownItem_whenReserving_thenShouldLoadDatabaseStock() {
+        // When
+        stockLedger.reserve(2L, 1, () -> 5);
+
+        // Then
+        assertEquals(4, stockLedger.getAvailable(2L));
+    }
+
+    @Test
+    @DisplayName("데이터베이스 재고와 어긋난 원장은 대사 후 데이터베이스 재고와 같아져야 한다")
+    void givenDriftedLedger_whenReconcilingAll_thenShouldMatchDatabaseStock() {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, 1});
+        when(itemRepository.findUnshardedStockNumbers()).thenReturn(rows);
+
+        // When
+        stockLedger.reconcileAll();
+
+        // Then
+        assertEquals(1, stockLedger.getAvailable(1L));
+        assertEquals(1.0, meterRegistry.counter("stock.ledger.drifts").count());
+    }
+
+    @Test
+    @DisplayName("원장이 비활성화되어 있으면 무효화와 대사는 아무 작업도 하지 않아야 한다")
+    void givenDisabledLedger_whenInvalidatingOrReconciling_thenShouldDoNothing() {
+        // Given
+        StockLedger disabledLedger = new StockLedger(itemRepository, mock(ItemStockShardRepository.class), meterRegistry, false, 0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        disabledLedger.invalidate(1L);
+        disabledLedger.reconcile(1L, 0);
+
+        // Then
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty(), "트랜잭션 동기화가 등록되지 않아야 합니다.");
+        assertEquals(0.0, meterRegistry.counter("stock.ledger.drifts").count());
+    }
+}
@@ -0,0 +1,121 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.ItemStockShard;
+import com.shop.shopmasterclone.exception.OutofStockException;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.ItemStockShardRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link StockService}에 대한 테스트 클래스입니다.
+ * 조건부 UPDATE 기반의 재고 차감과 인기 상품의 재고 샤딩 동작을 검증합니다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(locations = "classpath:application-test.properties")
+class StockServiceTest {
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemStockShardRepository itemStockShardRepository;
+
+    private Long createItem(int stockNumber){
+        Item item = new Item();
+        item.setItemNm("재고 테스트 상품");
+        item.setPrice(10000);
+        item.setItemDetail("재고 테스트 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(stockNumber);
+        return itemRepository.save(item).getId();
+    }
+
+    @Test
+    @DisplayName("재고 샤딩을 활성화하면 현재 재고가 샤드에 고르게 분배되어야 한다")
+    void givenItem_whenEnablingStockSharding_thenStockShouldBeSpreadAcrossShards() {
+        // Given
+        Long itemId = createItem(10);
+
+        // When
+        stockService.changeStockShardCount(itemId, 4);
+
+        // Then
+        List<ItemStockShard> shards = itemStockShardRepository.findByItemIdOrderByShardNoAsc(itemId);
+        Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
+        assertEquals(4, shards.size(), "샤드 개수만큼 샤드 행이 생성되어야 합니다.");
+        assertEquals(List.of(3, 3, 2, 2), shards.stream().map(ItemStockShard::getStockNumber).toList());
+        assertEquals(10, stockService.getStockNumber(item), "샤드 재고의 합계는 기존 재고와 같아야 합니다.");
+        assertEquals(0, item.getStockNumber(), "샤딩된 상품의 item 행 재고는 0이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("주문 수량이 한 샤드의 재고보다 크면 여러 샤드에서 나누어 차감해야 한다")
+    void givenShardedItem_whenOrderExceedsSingleShard_thenStockShouldSpillAcrossShards() {
+        // Given
+        Long itemId = createItem(8);
+        stockService.changeStockShardCount(itemId, 4);
+
+        // When
+        stockService.removeStock(itemId, 7);
+
+        // Then
+        List<ItemStockShard> shards = itemStockShardRepository.findByItemIdOrderByShardNoAsc(itemId);
+        assertEquals(1L, itemStockShardRepository.sumStockNumberByItemId(itemId));
+        assertTrue(shards.stream().allMatch(shard -> shard.getStockNumber() >= 0), "샤드 재고는 음수가 되면 안 됩니다.");
+        assertThrows(OutofStockException.class, () -> stockService.removeStock(itemId, 2),
+                "샤드 재고의 합계보다 많이 주문하면 OutofStockException이 발생해야 합니다.");
+        assertEquals(1L, itemStockShardRepository.sumStockNumberByItemId(itemId), "재고 부족 시 샤드 재고가 바뀌면 안 됩니다.");
+    }
+
+    @Test
+    @DisplayName("샤딩된 상품의 재고를 모두 소진하면 OutofStockException이 발생해야 한다")
+    void givenShardedItem_whenStockIsExhausted_thenShouldThrowOutofStockException() {
+        // Given
+        Long itemId = createItem(3);
+        stockService.changeStockShardCount(itemId, 2);
+
+        // When
+        for(int i = 0; i < 3; i++){
+            stockService.removeStock(itemId, 1);
+        }
+
+        // Then
+        assertEquals(0L, itemStockShardRepository.sumStockNumberByItemId(itemId));
+        assertThrows(OutofStockException.class, () -> stockService.removeStock(itemId, 1),
+                "모든 샤드의 재고가 소진되면 OutofStockException이 발생해야 합니다.");
+    }
+
+    @Test
+    @DisplayName("샤딩을 해제하면 샤드 재고가 상품 재고로 합쳐져야 한다")
+    void givenShardedItem_whenDisablingStockSharding_thenStockShouldBeRolledUp() {
+        // Given
+        Long itemId = createItem(8);
+        stockService.changeStockShardCount(itemId, 4);
+        stockService.removeStock(itemId, 1);
+
+        // When
+        stockService.changeStockShardCount(itemId, 0);
+
+        // Then
+        Item item = itemRepository.findById(itemId).orElseThrow(EntityNotFoundException::new);
+        assertFalse(item.isStockSharded());
+        assertEquals(7, item.getStockNumber());
+        assertTrue(itemStockShardRepository.findByItemIdOrderByShardNoAsc(itemId).isEmpty());
+    }
+}
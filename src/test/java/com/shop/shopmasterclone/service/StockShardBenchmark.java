@@ -0,0 +1,118 @@
+package com.shop.shopmasterclone.service;
+
+import com.shop.shopmasterclone.constant.ItemSellStatus;
+import com.shop.shopmasterclone.dto.MemberFormDto;
+import com.shop.shopmasterclone.dto.OrderDto;
+import com.shop.shopmasterclone.entity.Item;
+import com.shop.shopmasterclone.entity.Member;
+import com.shop.shopmasterclone.repository.ItemRepository;
+import com.shop.shopmasterclone.repository.ItemStockShardRepository;
+import com.shop.shopmasterclone.repository.MemberRepository;
+import com.shop.shopmasterclone.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 한 상품에 주문이 몰릴 때 재고 샤드 개수에 따른 주문 처리량(orders/sec)을 측정하는 벤치마크입니다.
+ * 기본 테스트 실행에서는 제외되며, {@code mvn test -Pbenchmark}로 실행합니다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class StockShardBenchmark {
+
+    private static final String EMAIL = "shard-benchmark@example.com";
+    private static final int THREADS = 32;
+    private static final int ORDERS = 4000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemStockShardRepository itemStockShardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        MemberFormDto memberFormDto = new MemberFormDto();
+        memberFormDto.setName("벤치마크");
+        memberFormDto.setEmail(EMAIL);
+        memberFormDto.setPassword("testPassword");
+        memberFormDto.setAddress("testAddress");
+        memberRepository.save(Member.createMember(memberFormDto, new BCryptPasswordEncoder(4)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        itemStockShardRepository.deleteAll();
+        itemRepository.deleteAll();
+        memberRepository.delete(memberRepository.findByEmail(EMAIL));
+    }
+
+    @Test
+    @DisplayName("재고 샤드 개수별 단일 상품 주문 처리량 측정")
+    void measureOrderThroughputByShardCount() throws Exception {
+        System.out.printf("%-8s %12s%n", "shards", "orders/sec");
+        for(int shardCount : new int[]{0, 1, 2, 4, 8, 16}){
+            Long itemId = createItem(ORDERS * 2);
+            stockService.changeStockShardCount(itemId, shardCount);
+
+            runOrders(itemId, ORDERS / 4); // 워밍업
+            long start = System.nanoTime();
+            runOrders(itemId, ORDERS);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            System.out.printf("%-8s %12.1f%n", shardCount == 0 ? "off" : shardCount, ORDERS / seconds);
+        }
+    }
+
+    private Long createItem(int stockNumber){
+        Item item = new Item();
+        item.setItemNm("벤치마크 상품");
+        item.setPrice(10000);
+        item.setItemDetail("벤치마크 상품 상세 설명");
+        item.setItemSellStatus(ItemSellStatus.SELL);
+        item.setStockNumber(stockNumber);
+        return itemRepository.save(item).getId();
+    }
+
+    private void runOrders(Long itemId, int orders) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<Long>> futures = new ArrayList<>();
+        for(int i = 0; i < orders; i++){
+            futures.add(executorService.submit(() -> {
+                OrderDto orderDto = new OrderDto();
+                orderDto.setItemId(itemId);
+                orderDto.setCount(1);
+                return orderService.order(orderDto, EMAIL);
+            }));
+        }
+        for(Future<Long> future : futures){
+            future.get();
+        }
+        executorService.shutdown();
+    }
+}